@@ -0,0 +1,56 @@
+package org.assertj.reflection.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@link SuccessPathBenchmark} and the {@code hasValueIn} benchmarks of {@link FieldValueBenchmark} with the GC
+ * profiler and exits with a non-zero status if any of them allocates.
+ * <p>
+ * The profiler divides the bytes allocated by the benchmark thread during an iteration by the number of operations,
+ * which includes the few objects that JMH itself allocates per iteration. Spread over the millions of operations in an
+ * iteration these amount to far less than {@link #MAX_BYTES_PER_OP}, while a single allocation per operation is at
+ * least 16 bytes.
+ */
+public final class AllocationGate {
+    static final double MAX_BYTES_PER_OP = 0.01;
+
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+
+    private AllocationGate() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SuccessPathBenchmark.class.getName())
+                .include(FieldValueBenchmark.class.getName() + ".hasValueIn")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        List<String> violations = new ArrayList<>();
+        for (RunResult run : new Runner(options).run()) {
+            String shape = run.getParams().getParam("shape");
+            String benchmark = run.getParams().getBenchmark() + (shape == null ? "" : " (shape=" + shape + ")");
+            Result<?> allocation = run.getSecondaryResults().get(ALLOCATION_RATE);
+            if (allocation == null) {
+                violations.add(benchmark + ": no " + ALLOCATION_RATE + " reported");
+            } else if (allocation.getScore() > MAX_BYTES_PER_OP) {
+                violations.add(String.format("%s: %.3f bytes/op", benchmark, allocation.getScore()));
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            System.err.println("Passing assertions allocated more than " + MAX_BYTES_PER_OP + " bytes/op:");
+            violations.forEach(violation -> System.err.println("  " + violation));
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.assertj.reflection.benchmarks;
+
+import org.assertj.reflection.ClassAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Declared member lookups through {@link ClassAssert}, for members that exist (hit) and members that do not (miss).
+ * Misses are measured through the {@code hasNoDeclared*} variants, so that they measure the lookup rather than the
+ * cost of building an assertion error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassAssertLookupBenchmark {
+
+    @Param({"SMALL", "POJO", "LARGE"})
+    public Shape shape;
+
+    private Class<?> type;
+    private String field;
+    private String method;
+    private Class<?>[] constructorParameters;
+    private Class<?>[] missingConstructorParameters;
+
+    @Setup
+    public void setUp() {
+        type = shape.type();
+        field = shape.field();
+        method = shape.method();
+        constructorParameters = shape.constructorParameters();
+        missingConstructorParameters = shape.missingConstructorParameters();
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredFieldHit() {
+        return assertThat(type).hasDeclaredField(field);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredFieldMiss() {
+        return assertThat(type).hasNoDeclaredField(Shape.MISSING_FIELD);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredMethodHit() {
+        return assertThat(type).hasDeclaredMethod(method);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredMethodMiss() {
+        return assertThat(type).hasNoDeclaredMethod(Shape.MISSING_METHOD);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredConstructorHit() {
+        return assertThat(type).hasDeclaredConstructor(constructorParameters);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredConstructorMiss() {
+        return assertThat(type).hasNoDeclaredConstructor(missingConstructorParameters);
+    }
+}
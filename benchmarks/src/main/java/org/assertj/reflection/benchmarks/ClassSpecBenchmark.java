@@ -0,0 +1,70 @@
+package org.assertj.reflection.benchmarks;
+
+import org.assertj.reflection.ClassAssert;
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.ModifierSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ModifierFlag.PRIVATE;
+import static org.assertj.reflection.ModifierFlag.PUBLIC;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Checking a generated POJO for private fields, a public no-arg constructor, public accessors and
+ * {@code equals}/{@code hashCode}/{@code toString}: once as a precompiled {@link ClassSpec}, and once as the chain of
+ * assertions that a test would write without it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassSpecBenchmark {
+    private static final ModifierSpec PUBLIC_ONLY = ModifierSpec.exactly(PUBLIC);
+    private static final ClassSpec POJO = ClassSpec.builder()
+            .fields(ModifierSpec.of(PRIVATE))
+            .constructor(PUBLIC_ONLY)
+            .accessors(PUBLIC_ONLY)
+            .method(PUBLIC_ONLY, boolean.class, "equals", Object.class)
+            .method(PUBLIC_ONLY, int.class, "hashCode")
+            .method(PUBLIC_ONLY, String.class, "toString")
+            .build();
+
+    private final Class<?> type = PojoSubject.class;
+
+    @Benchmark
+    public ClassAssert spec() {
+        return assertThat(type).satisfies(POJO);
+    }
+
+    @Benchmark
+    public ClassAssert chained() {
+        ClassAssert assertion = assertThat(type)
+                .hasDeclaredConstructor(constructor -> constructor.isPublic())
+                .hasDeclaredMethod("equals", Object.class, method -> method.isPublic().hasReturnType(boolean.class))
+                .hasDeclaredMethod("hashCode", method -> method.isPublic().hasReturnType(int.class))
+                .hasDeclaredMethod("toString", method -> method.isPublic().hasReturnType(String.class));
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isSynthetic()) {
+                continue;
+            }
+            String property = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+            assertThat(field).isPrivate();
+            assertion.hasDeclaredMethod("get" + property, method -> method.isPublic().hasReturnType(field.getType()))
+                    .hasDeclaredMethod("set" + property, field.getType(), method -> method.isPublic().hasReturnType(void.class));
+        }
+        return assertion;
+    }
+}
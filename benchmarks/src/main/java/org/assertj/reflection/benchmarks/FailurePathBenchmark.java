@@ -0,0 +1,74 @@
+package org.assertj.reflection.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Failing assertions, which format their message through {@code MemberModifierShouldBe} or the member lookup
+ * failure messages, and build an {@link AssertionError}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailurePathBenchmark {
+
+    @Param({"SMALL", "POJO", "LARGE"})
+    public Shape shape;
+
+    private Field field;
+    private Method method;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        field = shape.type().getDeclaredField(shape.field());
+        method = shape.type().getDeclaredMethod(shape.method());
+    }
+
+    @Benchmark
+    public AssertionError fieldIsPublic() {
+        try {
+            assertThat(field).isPublic();
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected " + field + " not to be public");
+    }
+
+    @Benchmark
+    public AssertionError methodIsPrivate() {
+        try {
+            assertThat(method).isPrivate();
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected " + method + " not to be private");
+    }
+
+    @Benchmark
+    public AssertionError hasDeclaredMethodMissing() {
+        try {
+            assertThat(shape.type()).hasDeclaredMethod(Shape.MISSING_METHOD);
+        } catch (AssertionError e) {
+            return e;
+        }
+        throw new IllegalStateException("Expected " + shape.type() + " not to declare " + Shape.MISSING_METHOD);
+    }
+}
@@ -0,0 +1,72 @@
+package org.assertj.reflection.benchmarks;
+
+import org.assertj.reflection.FieldAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Reading field values of an instance, through {@link FieldAssert#hasValueIn(Object, long)} and friends versus
+ * {@link Field#get(Object)} on a field that is looked up and made accessible on every call. The {@code hasValueIn}
+ * benchmarks are expected not to allocate; {@link AllocationGate} fails the build if they do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValueBenchmark {
+    private final PojoSubject subject = new PojoSubject("id", "name");
+    private final Counters counters = new Counters();
+
+    private FieldAssert nameAssert;
+    private FieldAssert countAssert;
+    private FieldAssert totalAssert;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        nameAssert = assertThat(PojoSubject.class.getDeclaredField("name"));
+        countAssert = assertThat(Counters.class.getDeclaredField("count"));
+        totalAssert = assertThat(Counters.class.getDeclaredField("total"));
+    }
+
+    @Benchmark
+    public FieldAssert hasValueInObject() {
+        return nameAssert.hasValueIn(subject, "name");
+    }
+
+    @Benchmark
+    public FieldAssert hasValueInInt() {
+        return countAssert.hasValueIn(counters, 42);
+    }
+
+    @Benchmark
+    public FieldAssert hasValueInLong() {
+        return totalAssert.hasValueIn(counters, 4_200_000_000L);
+    }
+
+    @Benchmark
+    public Object fieldGetWithLookup() throws ReflectiveOperationException {
+        Field field = Counters.class.getDeclaredField("count");
+        field.setAccessible(true);
+        return field.get(counters);
+    }
+
+    static final class Counters {
+        private int count = 42;
+        private long total = 4_200_000_000L;
+    }
+}
@@ -0,0 +1,74 @@
+package org.assertj.reflection.benchmarks;
+
+import org.assertj.reflection.ConstructorAssert;
+import org.assertj.reflection.FieldAssert;
+import org.assertj.reflection.MethodAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Passing modifier checks on members that were resolved up front, including the creation of the assert object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModifierBenchmark {
+
+    @Param({"SMALL", "POJO", "LARGE"})
+    public Shape shape;
+
+    private Field field;
+    private Method method;
+    private Constructor<?> constructor;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        field = shape.type().getDeclaredField(shape.field());
+        method = shape.type().getDeclaredMethod(shape.method());
+        constructor = shape.type().getDeclaredConstructor(shape.constructorParameters());
+    }
+
+    @Benchmark
+    public FieldAssert fieldIsPrivate() {
+        return assertThat(field).isPrivate();
+    }
+
+    @Benchmark
+    public FieldAssert fieldModifierChain() {
+        return assertThat(field).isPrivate().isNotStatic().isNotPublic().isNotPackagePrivate();
+    }
+
+    @Benchmark
+    public MethodAssert methodIsPublic() {
+        return assertThat(method).isPublic();
+    }
+
+    @Benchmark
+    public MethodAssert methodModifierChain() {
+        return assertThat(method).isPublic().isNotStatic().isNotPrivate().isNotPackagePrivate();
+    }
+
+    @Benchmark
+    public ConstructorAssert constructorIsPublic() {
+        return assertThat(constructor).isPublic();
+    }
+}
@@ -0,0 +1,115 @@
+package org.assertj.reflection.benchmarks;
+
+import java.util.Objects;
+
+/**
+ * A class shaped like the output of a code generator such as jsonschema2pojo:
+ * private fields with public accessors, plus {@code equals}, {@code hashCode} and {@code toString}.
+ */
+public class PojoSubject {
+    private String id;
+    private String name;
+    private String description;
+    private Integer count;
+    private Long size;
+    private Boolean enabled;
+    private Double score;
+    private String owner;
+
+    public PojoSubject() {
+    }
+
+    public PojoSubject(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PojoSubject)) {
+            return false;
+        }
+        PojoSubject that = (PojoSubject) o;
+        return Objects.equals(id, that.id) && Objects.equals(name, that.name)
+                && Objects.equals(description, that.description) && Objects.equals(count, that.count)
+                && Objects.equals(size, that.size) && Objects.equals(enabled, that.enabled)
+                && Objects.equals(score, that.score) && Objects.equals(owner, that.owner);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, description, count, size, enabled, score, owner);
+    }
+
+    @Override
+    public String toString() {
+        return "PojoSubject[id=" + id + ", name=" + name + "]";
+    }
+}
@@ -0,0 +1,59 @@
+package org.assertj.reflection.benchmarks;
+
+/**
+ * The class shapes that the benchmarks are run against, from a handful of members to several thousand.
+ * Each shape names members that exist (the last declared one, where it matters) and members that do not.
+ */
+public enum Shape {
+    SMALL(SmallSubject.class, "name", "getName", String.class),
+    POJO(PojoSubject.class, "owner", "getOwner", String.class, String.class),
+    LARGE(SyntheticClasses.generate("org.assertj.reflection.benchmarks.LargeSubject", 2500, 2499),
+            "field2499", "method2498");
+
+    static final String MISSING_FIELD = "missingField";
+    static final String MISSING_METHOD = "missingMethod";
+
+    private final Class<?> type;
+    private final String field;
+    private final String method;
+    private final Class<?>[] constructorParameters;
+
+    Shape(Class<?> type, String field, String method, Class<?>... constructorParameters) {
+        this.type = type;
+        this.field = field;
+        this.method = method;
+        this.constructorParameters = constructorParameters;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * The name of a declared field.
+     */
+    String field() {
+        return field;
+    }
+
+    /**
+     * The name of a declared method without parameters.
+     */
+    String method() {
+        return method;
+    }
+
+    /**
+     * The parameter types of a declared constructor.
+     */
+    Class<?>[] constructorParameters() {
+        return constructorParameters.clone();
+    }
+
+    /**
+     * Parameter types for which no constructor is declared.
+     */
+    Class<?>[] missingConstructorParameters() {
+        return new Class<?>[]{Thread.class};
+    }
+}
@@ -0,0 +1,16 @@
+package org.assertj.reflection.benchmarks;
+
+/**
+ * A class with only a handful of members.
+ */
+public class SmallSubject {
+    private final String name;
+
+    public SmallSubject(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
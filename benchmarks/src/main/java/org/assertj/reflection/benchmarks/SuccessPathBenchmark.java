@@ -0,0 +1,168 @@
+package org.assertj.reflection.benchmarks;
+
+import org.assertj.reflection.ClassAssert;
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.ConstructorAssert;
+import org.assertj.reflection.FieldAssert;
+import org.assertj.reflection.MethodAssert;
+import org.assertj.reflection.ModifierFlag;
+import org.assertj.reflection.ModifierSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Passing assertions on assert objects that were created up front, so that only the assertions themselves are
+ * measured. These paths are expected not to allocate at all; {@link AllocationGate} fails the build if they do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuccessPathBenchmark {
+
+    @Param({"SMALL", "POJO", "LARGE"})
+    public Shape shape;
+
+    private String field;
+    private String method;
+    private Class<?>[] constructorParameters;
+    private Class<?>[] missingConstructorParameters;
+    private Class<?> fieldType;
+    private Class<?> returnType;
+    private String genericFieldType;
+
+    private ClassAssert classAssert;
+    private FieldAssert fieldAssert;
+    private MethodAssert methodAssert;
+    private ConstructorAssert constructorAssert;
+    private ClassSpec classSpec;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        field = shape.field();
+        method = shape.method();
+        constructorParameters = shape.constructorParameters();
+        missingConstructorParameters = shape.missingConstructorParameters();
+
+        Field declaredField = shape.type().getDeclaredField(field);
+        Method declaredMethod = shape.type().getDeclaredMethod(method);
+        Constructor<?> declaredConstructor = shape.type().getDeclaredConstructor(constructorParameters);
+        fieldType = declaredField.getType();
+        returnType = declaredMethod.getReturnType();
+        genericFieldType = declaredField.getGenericType().getTypeName();
+
+        classAssert = assertThat(shape.type());
+        fieldAssert = assertThat(declaredField);
+        methodAssert = assertThat(declaredMethod);
+        constructorAssert = assertThat(declaredConstructor);
+        classSpec = ClassSpec.builder()
+                .constructor(ModifierSpec.of(ModifierFlag.PUBLIC), constructorParameters)
+                .method(ModifierSpec.of(ModifierFlag.PUBLIC), returnType, method)
+                .build();
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredField() {
+        return classAssert.hasDeclaredField(field);
+    }
+
+    @Benchmark
+    public ClassAssert hasNoDeclaredField() {
+        return classAssert.hasNoDeclaredField(Shape.MISSING_FIELD);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredMethod() {
+        return classAssert.hasDeclaredMethod(method);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredMethodNamed() {
+        return classAssert.hasDeclaredMethodNamed(method, 0);
+    }
+
+    @Benchmark
+    public ClassAssert hasNoDeclaredMethodNamed() {
+        return classAssert.hasNoDeclaredMethodNamed(Shape.MISSING_METHOD);
+    }
+
+    @Benchmark
+    public ClassAssert hasNoDeclaredMethod() {
+        return classAssert.hasNoDeclaredMethod(Shape.MISSING_METHOD);
+    }
+
+    @Benchmark
+    public ClassAssert hasDeclaredConstructor() {
+        return classAssert.hasDeclaredConstructor(constructorParameters);
+    }
+
+    @Benchmark
+    public ClassAssert hasNoDeclaredConstructor() {
+        return classAssert.hasNoDeclaredConstructor(missingConstructorParameters);
+    }
+
+    @Benchmark
+    public ClassAssert hasInheritedMethod() {
+        return classAssert.hasMethod("hashCode");
+    }
+
+    @Benchmark
+    public ClassAssert hasProperty() {
+        return classAssert.hasProperty(field, fieldType);
+    }
+
+    @Benchmark
+    public ClassAssert satisfiesClassSpec() {
+        return classAssert.satisfies(classSpec);
+    }
+
+    @Benchmark
+    public ClassAssert subtypes() {
+        return classAssert.isSubtypeOf(Object.class).isNotSubtypeOf(Comparable.class);
+    }
+
+    @Benchmark
+    public FieldAssert noAnnotation() {
+        classAssert.hasNoAnnotation(Deprecated.class);
+        return fieldAssert.hasNoAnnotation(Deprecated.class);
+    }
+
+    @Benchmark
+    public FieldAssert genericTypes() {
+        methodAssert.hasGenericReturnType(returnType);
+        return fieldAssert.hasGenericType(genericFieldType);
+    }
+
+    @Benchmark
+    public FieldAssert fieldModifiersAndType() {
+        return fieldAssert.isPrivate().isNotStatic().isNotPackagePrivate().hasType(fieldType);
+    }
+
+    @Benchmark
+    public MethodAssert methodModifiersAndReturnType() {
+        return methodAssert.isPublic().isNotStatic().isNotPackagePrivate().hasReturnType(returnType);
+    }
+
+    @Benchmark
+    public ConstructorAssert constructorModifiers() {
+        return constructorAssert.isPublic().isNotPrivate().isNotPackagePrivate();
+    }
+}
@@ -0,0 +1,120 @@
+package org.assertj.reflection.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Generates classes with thousands of members, which are impractical to write by hand.
+ * <p>
+ * A generated class is {@code public abstract}, declares a public no-arg constructor, {@code fieldCount} private
+ * {@code int} fields named {@code field0}, {@code field1}, ... and {@code methodCount} public abstract methods
+ * returning {@code int} named {@code method0}, {@code method1}, ...
+ * Being abstract, the methods need no bytecode, which keeps the generator small.
+ */
+final class SyntheticClasses {
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_ABSTRACT = 0x0400;
+
+    private SyntheticClasses() {
+    }
+
+    static Class<?> generate(String className, int fieldCount, int methodCount) {
+        byte[] bytes = classFile(className.replace('.', '/'), fieldCount, methodCount);
+        return new DefiningClassLoader().define(className, bytes);
+    }
+
+    private static byte[] classFile(String internalName, int fieldCount, int methodCount) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52); // Java 8, so that no stack map frames are needed
+
+            int firstName = 12;
+            out.writeShort(firstName + fieldCount + methodCount);
+            utf8(out, internalName);                 // #1
+            out.writeByte(7);                        // #2 Class this
+            out.writeShort(1);
+            utf8(out, "java/lang/Object");           // #3
+            out.writeByte(7);                        // #4 Class super
+            out.writeShort(3);
+            utf8(out, "<init>");                     // #5
+            utf8(out, "()V");                        // #6
+            out.writeByte(12);                       // #7 NameAndType <init>()V
+            out.writeShort(5);
+            out.writeShort(6);
+            out.writeByte(10);                       // #8 Methodref Object.<init>()V
+            out.writeShort(4);
+            out.writeShort(7);
+            utf8(out, "Code");                       // #9
+            utf8(out, "I");                          // #10
+            utf8(out, "()I");                        // #11
+            for (int i = 0; i < fieldCount; i++) {
+                utf8(out, "field" + i);
+            }
+            for (int i = 0; i < methodCount; i++) {
+                utf8(out, "method" + i);
+            }
+
+            out.writeShort(ACC_PUBLIC | ACC_SUPER | ACC_ABSTRACT);
+            out.writeShort(2);
+            out.writeShort(4);
+            out.writeShort(0); // interfaces
+
+            out.writeShort(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                out.writeShort(ACC_PRIVATE);
+                out.writeShort(firstName + i);
+                out.writeShort(10);
+                out.writeShort(0);
+            }
+
+            out.writeShort(methodCount + 1);
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(5);
+            out.writeShort(6);
+            out.writeShort(1);
+            out.writeShort(9);
+            out.writeInt(17);
+            out.writeShort(1); // max_stack
+            out.writeShort(1); // max_locals
+            out.writeInt(5);
+            out.writeByte(0x2A); // aload_0
+            out.writeByte(0xB7); // invokespecial Object.<init>
+            out.writeShort(8);
+            out.writeByte(0xB1); // return
+            out.writeShort(0); // exception_table_length
+            out.writeShort(0); // attributes_count
+            for (int i = 0; i < methodCount; i++) {
+                out.writeShort(ACC_PUBLIC | ACC_ABSTRACT);
+                out.writeShort(firstName + fieldCount + i);
+                out.writeShort(11);
+                out.writeShort(0);
+            }
+
+            out.writeShort(0); // attributes
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void utf8(DataOutputStream out, String value) throws IOException {
+        out.writeByte(1);
+        out.writeUTF(value);
+    }
+
+    private static final class DefiningClassLoader extends ClassLoader {
+        DefiningClassLoader() {
+            super(SyntheticClasses.class.getClassLoader());
+        }
+
+        Class<?> define(String className, byte[] bytes) {
+            return defineClass(className, bytes, 0, bytes.length);
+        }
+    }
+}
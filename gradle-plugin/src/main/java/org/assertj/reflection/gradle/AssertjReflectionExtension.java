@@ -0,0 +1,77 @@
+package org.assertj.reflection.gradle;
+
+import org.gradle.api.provider.ListProperty;
+
+/**
+ * Configures the classes that are verified by the {@code verifyGeneratedClasses} task, and the spec they must satisfy:
+ * <pre><code class='groovy'>
+ * assertjReflection {
+ *     packages = ['com.acme.generated']
+ *     fields 'private'
+ *     constructor 'exactly public'
+ *     accessors 'exactly public'
+ *     method 'exactly public', 'boolean', 'equals', 'java.lang.Object'
+ *     method 'exactly public', 'int', 'hashCode'
+ * }
+ * </code></pre>
+ * Modifiers are written as in Java source code, e.g. {@code 'public static'}, and may be preceded by {@code exactly}
+ * or {@code not}, or left empty to accept any modifiers. Types are written as fully qualified names, e.g.
+ * {@code 'java.lang.String[]'}, or {@code '*'} to accept any return type. Each of these corresponds to the method of
+ * the same name on {@link org.assertj.reflection.ClassSpec.Builder}.
+ */
+public abstract class AssertjReflectionExtension {
+    /**
+     * The packages whose classes are verified, including their subpackages. All classes are verified if empty.
+     *
+     * @return The packages.
+     */
+    public abstract ListProperty<String> getPackages();
+
+    /**
+     * The rules of the spec, in their encoded form. Use the other methods of this extension to add them.
+     *
+     * @return The rules.
+     */
+    public abstract ListProperty<String> getRules();
+
+    /**
+     * Requires all declared fields to match the given modifiers.
+     *
+     * @param modifiers The modifiers of the fields.
+     */
+    public void fields(String modifiers) {
+        getRules().add(SpecRules.fields(modifiers));
+    }
+
+    /**
+     * Requires a getter and, unless the field is final, a setter for every declared instance field, with the given
+     * modifiers.
+     *
+     * @param modifiers The modifiers of the accessors.
+     */
+    public void accessors(String modifiers) {
+        getRules().add(SpecRules.accessors(modifiers));
+    }
+
+    /**
+     * Requires a declared constructor with the given parameter types and modifiers.
+     *
+     * @param modifiers      The modifiers of the constructor.
+     * @param parameterTypes The names of the constructor parameter types.
+     */
+    public void constructor(String modifiers, String... parameterTypes) {
+        getRules().add(SpecRules.constructor(modifiers, parameterTypes));
+    }
+
+    /**
+     * Requires a declared method with the given signature and modifiers.
+     *
+     * @param modifiers      The modifiers of the method.
+     * @param returnType     The name of the return type of the method.
+     * @param name           The name of the method.
+     * @param parameterTypes The names of the method parameter types.
+     */
+    public void method(String modifiers, String returnType, String name, String... parameterTypes) {
+        getRules().add(SpecRules.method(modifiers, returnType, name, parameterTypes));
+    }
+}
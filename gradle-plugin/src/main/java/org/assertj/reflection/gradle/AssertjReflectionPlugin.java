@@ -0,0 +1,52 @@
+package org.assertj.reflection.gradle;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+
+/**
+ * Adds the {@code verifyGeneratedClasses} task to Java projects, which checks the compiled classes of the main source
+ * set against the spec that is configured in the {@code assertjReflection} extension. The {@code check} task depends on
+ * it.
+ */
+public class AssertjReflectionPlugin implements Plugin<Project> {
+    /**
+     * The name of the extension that configures the verified classes and their spec.
+     */
+    public static final String EXTENSION_NAME = "assertjReflection";
+
+    /**
+     * The name of the verification task.
+     */
+    public static final String TASK_NAME = "verifyGeneratedClasses";
+
+    @Override
+    public void apply(Project project) {
+        AssertjReflectionExtension extension = project.getExtensions()
+                .create(EXTENSION_NAME, AssertjReflectionExtension.class);
+
+        project.getPlugins().withType(JavaPlugin.class, java -> {
+            SourceSet main = project.getExtensions().getByType(SourceSetContainer.class)
+                    .getByName(SourceSet.MAIN_SOURCE_SET_NAME);
+
+            TaskProvider<VerifyGeneratedClasses> verify = project.getTasks()
+                    .register(TASK_NAME, VerifyGeneratedClasses.class, task -> {
+                        task.setGroup("verification");
+                        task.setDescription("Verifies the compiled classes against the assertj-reflection spec.");
+                        task.getClasses().from(main.getOutput().getClassesDirs());
+                        // The classes themselves are an incremental input, so they must not be part of the classpath
+                        task.getClasspath().from(main.getRuntimeClasspath().minus(main.getOutput()));
+                        task.getPackages().set(extension.getPackages());
+                        task.getRules().set(extension.getRules());
+                        task.getReport().set(project.getLayout().getBuildDirectory()
+                                .file("reports/assertj-reflection/" + TASK_NAME + ".txt"));
+                    });
+
+            project.getTasks().named(LifecycleBasePlugin.CHECK_TASK_NAME, check -> check.dependsOn(verify));
+        });
+    }
+}
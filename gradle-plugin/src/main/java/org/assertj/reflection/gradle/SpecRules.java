@@ -0,0 +1,164 @@
+package org.assertj.reflection.gradle;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.ModifierFlag;
+import org.assertj.reflection.ModifierSpec;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the rules of a {@link ClassSpec} as strings, so that they can be configured in the build script and tracked
+ * as task inputs, and decodes them into a spec once the classes they refer to can be loaded.
+ * <p>
+ * A rule consists of its kind, its modifiers and its types, separated by {@code |}, e.g.
+ * {@code method|exactly public|boolean|equals|java.lang.Object}.
+ */
+final class SpecRules {
+    private static final String SEPARATOR = "|";
+    private static final String ANY_TYPE = "*";
+    private static final String[] NO_TYPES = new String[0];
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+    private static final Map<String, ModifierFlag> FLAGS = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class,
+                float.class, double.class, void.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+        for (ModifierFlag flag : ModifierFlag.values()) {
+            FLAGS.put(flag.toString(), flag);
+        }
+    }
+
+    private SpecRules() {
+    }
+
+    static String fields(String modifiers) {
+        return encode("fields", modifiers, NO_TYPES);
+    }
+
+    static String accessors(String modifiers) {
+        return encode("accessors", modifiers, NO_TYPES);
+    }
+
+    static String constructor(String modifiers, String... parameterTypes) {
+        return encode("constructor", modifiers, parameterTypes);
+    }
+
+    static String method(String modifiers, String returnType, String name, String... parameterTypes) {
+        String[] types = new String[parameterTypes.length + 2];
+        types[0] = returnType;
+        types[1] = name;
+        System.arraycopy(parameterTypes, 0, types, 2, parameterTypes.length);
+        return encode("method", modifiers, types);
+    }
+
+    private static String encode(String kind, String modifiers, String[] types) {
+        StringBuilder rule = new StringBuilder(kind).append(SEPARATOR).append(modifiers.trim());
+        for (String type : types) {
+            if (type.contains(SEPARATOR)) {
+                throw new IllegalArgumentException("Invalid type or name: " + type);
+            }
+            rule.append(SEPARATOR).append(type.trim());
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Decodes the given rules into a spec, resolving the types they refer to in the given class loader.
+     *
+     * @throws IllegalArgumentException if a rule is invalid, or refers to a type that cannot be found.
+     */
+    static ClassSpec decode(List<String> rules, ClassLoader loader) {
+        ClassSpec.Builder builder = ClassSpec.builder();
+        for (String rule : rules) {
+            String[] parts = rule.split("\\" + SEPARATOR, -1);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Invalid rule: " + rule);
+            }
+            ModifierSpec modifiers = modifiers(parts[1]);
+            switch (parts[0]) {
+                case "fields":
+                    builder.fields(modifiers);
+                    break;
+                case "accessors":
+                    builder.accessors(modifiers);
+                    break;
+                case "constructor":
+                    builder.constructor(modifiers, types(parts, 2, loader));
+                    break;
+                case "method":
+                    if (parts.length < 4) {
+                        throw new IllegalArgumentException("Invalid rule: " + rule);
+                    }
+                    builder.method(modifiers, type(parts[2], loader), parts[3], types(parts, 4, loader));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid rule: " + rule);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses modifiers such as {@code exactly public static}, or returns {@code null} to accept any if there are none.
+     */
+    static ModifierSpec modifiers(String value) {
+        List<ModifierFlag> flags = new ArrayList<>();
+        boolean exactly = false;
+        boolean not = false;
+        for (String word : value.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.equals("exactly")) {
+                exactly = true;
+            } else if (word.equals("not")) {
+                not = true;
+            } else if (FLAGS.containsKey(word)) {
+                flags.add(FLAGS.get(word));
+            } else {
+                throw new IllegalArgumentException("Unknown modifier '" + word + "' in '" + value + "'");
+            }
+        }
+        if (flags.isEmpty()) {
+            return null;
+        }
+        ModifierFlag[] array = flags.toArray(new ModifierFlag[0]);
+        ModifierSpec spec = exactly ? ModifierSpec.exactly(array) : ModifierSpec.of(array);
+        return not ? spec.negate() : spec;
+    }
+
+    private static Class<?>[] types(String[] parts, int from, ClassLoader loader) {
+        Class<?>[] types = new Class<?>[parts.length - from];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = type(parts[from + i], loader);
+        }
+        return types;
+    }
+
+    /**
+     * Resolves a type name, which may be a primitive or an array, or returns {@code null} for {@code *}.
+     */
+    static Class<?> type(String name, ClassLoader loader) {
+        if (name.equals(ANY_TYPE)) {
+            return null;
+        }
+        if (name.endsWith("[]")) {
+            return Array.newInstance(type(name.substring(0, name.length() - 2), loader), 0).getClass();
+        }
+        Class<?> primitive = PRIMITIVES.get(name);
+        if (primitive != null) {
+            return primitive;
+        }
+        try {
+            return Class.forName(name, false, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown type " + name, e);
+        }
+    }
+}
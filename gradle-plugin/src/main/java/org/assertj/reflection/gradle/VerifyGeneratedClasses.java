@@ -0,0 +1,232 @@
+package org.assertj.reflection.gradle;
+
+import org.assertj.reflection.ClassSpec;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.InputChanges;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Verifies compiled classes against a {@link ClassSpec}, and fails if any of them does not satisfy it.
+ * <p>
+ * The outcome for each class is written to the {@link #getReport() report}. When only some class files changed since
+ * the previous run, only those are verified again and the outcomes of the others are taken from the report. The task
+ * is cacheable, so a build cache hit skips the verification entirely. The task does not access the project while it
+ * runs, so it is compatible with the configuration cache.
+ */
+@CacheableTask
+public abstract class VerifyGeneratedClasses extends DefaultTask {
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String PASSED = "PASS ";
+    private static final String FAILED = "FAIL ";
+    private static final String DETAIL = "  ";
+
+    /**
+     * The directories with the class files to verify. Changes to these are tracked per file, see {@link #verify}.
+     *
+     * @return The class directories.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getClasses();
+
+    /**
+     * The classpath that the verified classes depend on, excluding the {@link #getClasses() classes} themselves.
+     *
+     * @return The classpath.
+     */
+    @Classpath
+    public abstract ConfigurableFileCollection getClasspath();
+
+    /**
+     * The packages whose classes are verified, including their subpackages. All classes are verified if empty.
+     *
+     * @return The packages.
+     */
+    @Input
+    public abstract ListProperty<String> getPackages();
+
+    /**
+     * The encoded rules of the spec, see {@link AssertjReflectionExtension}.
+     *
+     * @return The rules.
+     */
+    @Input
+    public abstract ListProperty<String> getRules();
+
+    /**
+     * The report with the outcome for each verified class file.
+     *
+     * @return The report file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    /**
+     * Verifies the added and modified class files, or all class files if the previous outcomes cannot be used.
+     *
+     * @param changes The changes to the class files since the previous run.
+     */
+    @TaskAction
+    public void verify(InputChanges changes) {
+        Path report = getReport().get().getAsFile().toPath();
+        SortedMap<String, List<String>> outcomes = changes.isIncremental() ? read(report) : new TreeMap<>();
+
+        List<String> changed = new ArrayList<>();
+        for (FileChange change : changes.getFileChanges(getClasses())) {
+            String path = change.getNormalizedPath();
+            if (change.getFileType() != FileType.FILE || !path.endsWith(CLASS_SUFFIX)) {
+                continue;
+            }
+            outcomes.remove(path);
+            if (change.getChangeType() != ChangeType.REMOVED && isIncluded(className(path))) {
+                changed.add(path);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            try (URLClassLoader loader = new URLClassLoader(urls(), ClassLoader.getSystemClassLoader().getParent())) {
+                ClassSpec spec = SpecRules.decode(getRules().get(), loader);
+                for (String path : changed) {
+                    outcomes.put(path, verify(className(path), spec, loader));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        getLogger().info("Verified {} of {} classes", changed.size(), outcomes.size());
+
+        write(report, outcomes);
+        long failures = outcomes.values().stream().filter(violations -> !violations.isEmpty()).count();
+        if (failures > 0) {
+            throw new GradleException(String.format("%d of %d classes do not satisfy the spec, see %s",
+                    failures, outcomes.size(), report.toUri()));
+        }
+    }
+
+    private static List<String> verify(String className, ClassSpec spec, ClassLoader loader) {
+        try {
+            assertThat(Class.forName(className, false, loader)).satisfies(spec);
+            return Collections.emptyList();
+        } catch (AssertionError e) {
+            return lines(e.getMessage());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Collections.singletonList("could not be loaded: " + e);
+        }
+    }
+
+    private boolean isIncluded(String className) {
+        List<String> packages = getPackages().get();
+        if (packages.isEmpty()) {
+            return !className.endsWith("module-info") && !className.endsWith("package-info");
+        }
+        for (String name : packages) {
+            if (className.startsWith(name + ".")) {
+                return !className.endsWith("package-info");
+            }
+        }
+        return false;
+    }
+
+    private static String className(String path) {
+        return path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    }
+
+    private URL[] urls() {
+        List<URL> urls = new ArrayList<>();
+        try {
+            for (File file : getClasses().plus(getClasspath())) {
+                urls.add(file.toURI().toURL());
+            }
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return urls.toArray(new URL[0]);
+    }
+
+    private static List<String> lines(String message) {
+        List<String> lines = new ArrayList<>();
+        for (String line : String.valueOf(message).split("\\R")) {
+            if (!line.trim().isEmpty()) {
+                lines.add(line.trim());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the outcomes of the previous run: a {@code PASS} or {@code FAIL} line per class file, where each failure is
+     * followed by its violations, indented.
+     */
+    private static SortedMap<String, List<String>> read(Path report) {
+        SortedMap<String, List<String>> outcomes = new TreeMap<>();
+        if (!Files.isRegularFile(report)) {
+            return outcomes;
+        }
+        try {
+            List<String> violations = null;
+            for (String line : Files.readAllLines(report, StandardCharsets.UTF_8)) {
+                if (line.startsWith(PASSED)) {
+                    outcomes.put(line.substring(PASSED.length()), Collections.emptyList());
+                } else if (line.startsWith(FAILED)) {
+                    violations = new ArrayList<>();
+                    outcomes.put(line.substring(FAILED.length()), violations);
+                } else if (line.startsWith(DETAIL) && violations != null) {
+                    violations.add(line.substring(DETAIL.length()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read report " + report, e);
+        }
+        return outcomes;
+    }
+
+    private static void write(Path report, Map<String, List<String>> outcomes) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, List<String>> outcome : outcomes.entrySet()) {
+            lines.add((outcome.getValue().isEmpty() ? PASSED : FAILED) + outcome.getKey());
+            for (String violation : outcome.getValue()) {
+                lines.add(DETAIL + violation);
+            }
+        }
+        try {
+            Files.createDirectories(report.getParent());
+            Files.write(report, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write report " + report, e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.assertj.reflection.gradle;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifyGeneratedClassesTest {
+    private static final String TASK = ":" + AssertjReflectionPlugin.TASK_NAME;
+
+    @TempDir
+    Path project;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("settings.gradle", "rootProject.name = 'sample'");
+        write("build.gradle", String.join("\n",
+                "plugins {",
+                "    id 'java'",
+                "    id 'io.github.sanderploegsma.assertj-reflection'",
+                "}",
+                "assertjReflection {",
+                "    packages = ['com.acme']",
+                "    fields 'private'",
+                "    constructor 'exactly public'",
+                "    accessors 'public'",
+                "    method 'exactly public', 'java.lang.String', 'toString'",
+                "}"));
+        write("src/main/java/com/acme/First.java", bean("First", "private"));
+        write("src/main/java/com/acme/Second.java", bean("Second", "private"));
+    }
+
+    @Test
+    void verifiesAllClassesOnTheFirstRun() throws IOException {
+        BuildResult result = run().build();
+
+        assertThat(result.task(TASK).getOutcome()).isEqualTo(TaskOutcome.SUCCESS);
+        assertThat(report()).containsExactly("PASS com/acme/First.class", "PASS com/acme/Second.class");
+        assertThat(run().build().task(TASK).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+    }
+
+    @Test
+    void verifiesOnlyChangedClasses() throws IOException {
+        run().build();
+        write("src/main/java/com/acme/Second.java", bean("Second", "public"));
+
+        BuildResult result = run().buildAndFail();
+
+        assertThat(result.getOutput()).contains("Verified 1 of 2 classes", "1 of 2 classes do not satisfy the spec");
+        assertThat(report()).contains("PASS com/acme/First.class", "FAIL com/acme/Second.class",
+                "  field value should have modifiers private but has public");
+    }
+
+    @Test
+    void forgetsRemovedClasses() throws IOException {
+        run().build();
+        Files.delete(project.resolve("src/main/java/com/acme/Second.java"));
+
+        run().build();
+
+        assertThat(report()).containsExactly("PASS com/acme/First.class");
+    }
+
+    @Test
+    void isLoadedFromTheBuildCache() throws IOException {
+        run().build();
+        run("clean").build();
+
+        BuildResult result = run().build();
+
+        assertThat(result.task(TASK).getOutcome()).isEqualTo(TaskOutcome.FROM_CACHE);
+    }
+
+    private GradleRunner run(String... tasks) {
+        String[] arguments = tasks.length > 0 ? tasks : new String[]{AssertjReflectionPlugin.TASK_NAME};
+        String[] withOptions = new String[arguments.length + 3];
+        withOptions[0] = "--build-cache";
+        withOptions[1] = "--configuration-cache";
+        withOptions[2] = "--info";
+        System.arraycopy(arguments, 0, withOptions, 3, arguments.length);
+        return GradleRunner.create()
+                .withProjectDir(project.toFile())
+                .withArguments(withOptions)
+                .withPluginClasspath();
+    }
+
+    private static String bean(String name, String fieldModifier) {
+        return "package com.acme;\n"
+                + "public class " + name + " {\n"
+                + "    " + fieldModifier + " String value;\n"
+                + "    public " + name + "() {}\n"
+                + "    public String getValue() { return value; }\n"
+                + "    public void setValue(String value) { this.value = value; }\n"
+                + "    public String toString() { return value; }\n"
+                + "}\n";
+    }
+
+    private List<String> report() throws IOException {
+        return Files.readAllLines(project.resolve("build/reports/assertj-reflection/verifyGeneratedClasses.txt"));
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = project.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
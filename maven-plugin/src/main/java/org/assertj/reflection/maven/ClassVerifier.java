@@ -0,0 +1,189 @@
+package org.assertj.reflection.maven;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.VerificationCache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Verifies the classes in a directory of compiled classes against a {@link ClassSpec}, in parallel.
+ * <p>
+ * The classes are loaded in their own class loader, which sees the classes directory and its classpath but not the
+ * classes of Maven or this plugin, and is closed together with this verifier. Verifiers do not share any state, so
+ * several modules can be verified at the same time.
+ */
+final class ClassVerifier implements Closeable {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final Path classesDirectory;
+    private final List<Path> classpath;
+    private final List<String> packages;
+    private final URLClassLoader loader;
+
+    ClassVerifier(Path classesDirectory, List<Path> classpath, List<String> packages) {
+        this.classesDirectory = classesDirectory;
+        this.classpath = classpath;
+        this.packages = packages;
+        List<URL> urls = new ArrayList<>();
+        try {
+            urls.add(classesDirectory.toUri().toURL());
+            for (Path element : classpath) {
+                urls.add(element.toUri().toURL());
+            }
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+        this.loader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    /**
+     * Returns the class loader of the verified classes, to resolve the types that the spec refers to.
+     */
+    ClassLoader loader() {
+        return loader;
+    }
+
+    /**
+     * Returns the names of the classes to verify: all classes in the configured packages or their subpackages, or all
+     * classes if no packages are configured.
+     */
+    List<String> classNames() throws IOException {
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(file -> classesDirectory.relativize(file).toString().replace('\\', '/'))
+                    .filter(path -> path.endsWith(CLASS_SUFFIX))
+                    .map(path -> path.substring(0, path.length() - CLASS_SUFFIX.length()).replace('/', '.'))
+                    .filter(this::isIncluded)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private boolean isIncluded(String className) {
+        if (className.endsWith("module-info") || className.endsWith("package-info")) {
+            return false;
+        }
+        if (packages.isEmpty()) {
+            return true;
+        }
+        for (String name : packages) {
+            if (className.startsWith(name + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash of the given configuration together with the path, size and modification time of every file in
+     * the classes directory and on the classpath. If it is the same as the last time the classes passed, nothing
+     * changed and the classes do not need to be verified again.
+     */
+    String fingerprint(String configuration) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        update(digest, classesDirectory);
+        for (Path element : classpath) {
+            update(digest, element);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static void update(MessageDigest digest, Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                String entry = file + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis() + "\n";
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    /**
+     * Verifies the given classes on the given number of threads. Classes that satisfied the same spec before, according
+     * to the given cache, which may be {@code null}, are skipped.
+     *
+     * @return The failure message of each class that does not satisfy the spec, by class name.
+     */
+    SortedMap<String, String> verify(List<String> classNames, ClassSpec spec, VerificationCache cache, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, classNames.size())));
+        try {
+            List<Future<String>> results = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                results.add(executor.submit(() -> verify(className, spec, cache)));
+            }
+            SortedMap<String, String> failures = new TreeMap<>();
+            for (int i = 0; i < results.size(); i++) {
+                String failure = results.get(i).get();
+                if (failure != null) {
+                    failures.put(classNames.get(i), failure);
+                }
+            }
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying classes", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String verify(String className, ClassSpec spec, VerificationCache cache) {
+        try {
+            assertThat(Class.forName(className, false, loader)).usingCache(cache).satisfies(spec);
+            return null;
+        } catch (AssertionError e) {
+            return String.valueOf(e.getMessage()).trim();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return className + " could not be loaded: " + e;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            loader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.assertj.reflection.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A required constructor, configured as:
+ * <pre><code class='xml'>
+ * &lt;constructor&gt;
+ *     &lt;modifiers&gt;exactly public&lt;/modifiers&gt;
+ *     &lt;parameterTypes&gt;
+ *         &lt;parameterType&gt;java.lang.String&lt;/parameterType&gt;
+ *     &lt;/parameterTypes&gt;
+ * &lt;/constructor&gt;
+ * </code></pre>
+ */
+public class Constructor {
+    private String modifiers;
+    private List<String> parameterTypes = new ArrayList<>();
+
+    String getModifiers() {
+        return modifiers;
+    }
+
+    List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "constructor " + modifiers + " " + parameterTypes;
+    }
+}
@@ -0,0 +1,46 @@
+package org.assertj.reflection.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A required method, configured as:
+ * <pre><code class='xml'>
+ * &lt;method&gt;
+ *     &lt;modifiers&gt;exactly public&lt;/modifiers&gt;
+ *     &lt;returnType&gt;boolean&lt;/returnType&gt;
+ *     &lt;name&gt;equals&lt;/name&gt;
+ *     &lt;parameterTypes&gt;
+ *         &lt;parameterType&gt;java.lang.Object&lt;/parameterType&gt;
+ *     &lt;/parameterTypes&gt;
+ * &lt;/method&gt;
+ * </code></pre>
+ * Any return type is accepted if none is configured.
+ */
+public class Method {
+    private String modifiers;
+    private String returnType;
+    private String name;
+    private List<String> parameterTypes = new ArrayList<>();
+
+    String getModifiers() {
+        return modifiers;
+    }
+
+    String getReturnType() {
+        return returnType;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "method " + modifiers + " " + returnType + " " + name + parameterTypes;
+    }
+}
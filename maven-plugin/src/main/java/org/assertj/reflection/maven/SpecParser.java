@@ -0,0 +1,119 @@
+package org.assertj.reflection.maven;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.ModifierFlag;
+import org.assertj.reflection.ModifierSpec;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link ClassSpec} from the plugin configuration, resolving the types it refers to in the class loader of
+ * the verified classes.
+ * <p>
+ * Modifiers are written as in Java source code, e.g. {@code public static}, and may be preceded by {@code exactly} or
+ * {@code not}. Types are written as fully qualified names, e.g. {@code java.lang.String[]}.
+ */
+final class SpecParser {
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+    private static final Map<String, ModifierFlag> FLAGS = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class,
+                float.class, double.class, void.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+        for (ModifierFlag flag : ModifierFlag.values()) {
+            FLAGS.put(flag.toString(), flag);
+        }
+    }
+
+    private SpecParser() {
+    }
+
+    /**
+     * Builds the spec from the configured rules. Rules without modifiers accept any modifiers.
+     *
+     * @throws IllegalArgumentException if the configuration contains an unknown modifier or type.
+     */
+    static ClassSpec parse(String fields, String accessors, List<Constructor> constructors, List<Method> methods,
+                           ClassLoader loader) {
+        ClassSpec.Builder builder = ClassSpec.builder()
+                .fields(modifiers(fields))
+                .accessors(modifiers(accessors));
+        for (Constructor constructor : constructors) {
+            builder.constructor(modifiers(constructor.getModifiers()), types(constructor.getParameterTypes(), loader));
+        }
+        for (Method method : methods) {
+            if (method.getName() == null) {
+                throw new IllegalArgumentException("Method without a name: " + method);
+            }
+            builder.method(modifiers(method.getModifiers()),
+                    method.getReturnType() == null ? null : type(method.getReturnType(), loader),
+                    method.getName().trim(), types(method.getParameterTypes(), loader));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses modifiers such as {@code exactly public static}, or returns {@code null} to accept any if there are none.
+     */
+    static ModifierSpec modifiers(String value) {
+        if (value == null) {
+            return null;
+        }
+        List<ModifierFlag> flags = new ArrayList<>();
+        boolean exactly = false;
+        boolean not = false;
+        for (String word : value.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.equals("exactly")) {
+                exactly = true;
+            } else if (word.equals("not")) {
+                not = true;
+            } else if (FLAGS.containsKey(word)) {
+                flags.add(FLAGS.get(word));
+            } else {
+                throw new IllegalArgumentException("Unknown modifier '" + word + "' in '" + value + "'");
+            }
+        }
+        if (flags.isEmpty()) {
+            return null;
+        }
+        ModifierFlag[] array = flags.toArray(new ModifierFlag[0]);
+        ModifierSpec spec = exactly ? ModifierSpec.exactly(array) : ModifierSpec.of(array);
+        return not ? spec.negate() : spec;
+    }
+
+    private static Class<?>[] types(List<String> names, ClassLoader loader) {
+        Class<?>[] types = new Class<?>[names.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = type(names.get(i), loader);
+        }
+        return types;
+    }
+
+    /**
+     * Resolves a type name, which may be a primitive or an array.
+     */
+    static Class<?> type(String name, ClassLoader loader) {
+        String trimmed = name.trim();
+        if (trimmed.endsWith("[]")) {
+            return Array.newInstance(type(trimmed.substring(0, trimmed.length() - 2), loader), 0).getClass();
+        }
+        Class<?> primitive = PRIMITIVES.get(trimmed);
+        if (primitive != null) {
+            return primitive;
+        }
+        try {
+            return Class.forName(trimmed, false, loader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown type " + trimmed, e);
+        }
+    }
+}
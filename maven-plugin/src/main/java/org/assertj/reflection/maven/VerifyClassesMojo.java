@@ -0,0 +1,179 @@
+package org.assertj.reflection.maven;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.VerificationCache;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Verifies the compiled classes of a module against a {@link ClassSpec}, without forking a test JVM:
+ * <pre><code class='xml'>
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;io.github.sanderploegsma&lt;/groupId&gt;
+ *     &lt;artifactId&gt;assertj-reflection-maven-plugin&lt;/artifactId&gt;
+ *     &lt;version&gt;0.1.0&lt;/version&gt;
+ *     &lt;executions&gt;
+ *         &lt;execution&gt;
+ *             &lt;goals&gt;&lt;goal&gt;verify&lt;/goal&gt;&lt;/goals&gt;
+ *         &lt;/execution&gt;
+ *     &lt;/executions&gt;
+ *     &lt;configuration&gt;
+ *         &lt;packages&gt;&lt;package&gt;com.acme.generated&lt;/package&gt;&lt;/packages&gt;
+ *         &lt;fields&gt;private&lt;/fields&gt;
+ *         &lt;accessors&gt;exactly public&lt;/accessors&gt;
+ *         &lt;constructors&gt;&lt;constructor&gt;&lt;modifiers&gt;public&lt;/modifiers&gt;&lt;/constructor&gt;&lt;/constructors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </code></pre>
+ * The classes of a module are verified in parallel. A module whose classes, classpath and configuration did not change
+ * since its classes last passed is skipped, and within a module, classes that satisfied the same spec before are
+ * skipped using a {@link VerificationCache}. The mojo keeps no state between executions, so it can be used in
+ * parallel builds.
+ */
+@Mojo(name = "verify", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true,
+        requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class VerifyClassesMojo extends AbstractMojo {
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * The directory with the classes to verify.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * The directory to keep the state of previous executions in.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/assertj-reflection", required = true)
+    private File workDirectory;
+
+    /**
+     * The packages whose classes are verified, including their subpackages. All classes are verified if empty.
+     */
+    @Parameter
+    private List<String> packages = new ArrayList<>();
+
+    /**
+     * The modifiers that all declared fields must have.
+     */
+    @Parameter
+    private String fields;
+
+    /**
+     * The modifiers of the getter and, unless the field is final, the setter that every instance field must have.
+     */
+    @Parameter
+    private String accessors;
+
+    /**
+     * The constructors that every class must declare.
+     */
+    @Parameter
+    private List<Constructor> constructors = new ArrayList<>();
+
+    /**
+     * The methods that every class must declare.
+     */
+    @Parameter
+    private List<Method> methods = new ArrayList<>();
+
+    /**
+     * The number of threads to verify the classes of a module on, or 0 to use one per available processor.
+     */
+    @Parameter(property = "assertj-reflection.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Skips the verification.
+     */
+    @Parameter(property = "assertj-reflection.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping verification");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("No classes to verify");
+            return;
+        }
+
+        Path work = workDirectory.toPath();
+        Path stamp = work.resolve("verified.sha256");
+        try (ClassVerifier verifier = new ClassVerifier(classesDirectory.toPath(), classpath(), packages)) {
+            String fingerprint = verifier.fingerprint(configuration());
+            if (Files.isRegularFile(stamp)
+                    && fingerprint.equals(new String(Files.readAllBytes(stamp), StandardCharsets.UTF_8))) {
+                getLog().info("Classes are unchanged since they were last verified");
+                return;
+            }
+            Files.deleteIfExists(stamp);
+
+            ClassSpec spec = SpecParser.parse(fields, accessors, constructors, methods, verifier.loader());
+            List<String> classNames = verifier.classNames();
+            SortedMap<String, String> failures;
+            try (VerificationCache cache = VerificationCache.open(work.resolve("verification.cache"))) {
+                failures = verifier.verify(classNames, spec, cache,
+                        threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+                getLog().info(String.format("Verified %d classes, %d of which were unchanged",
+                        classNames.size(), cache.statistics().hits()));
+            }
+
+            if (!failures.isEmpty()) {
+                StringBuilder message = new StringBuilder(String.format("%d of %d classes do not satisfy the spec:",
+                        failures.size(), classNames.size()));
+                for (Map.Entry<String, String> failure : failures.entrySet()) {
+                    message.append(System.lineSeparator()).append(failure.getValue());
+                }
+                throw new MojoFailureException(message.toString());
+            }
+            Files.write(stamp, fingerprint.getBytes(StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Invalid configuration: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to verify " + classesDirectory, e);
+        }
+    }
+
+    private List<Path> classpath() throws MojoExecutionException {
+        try {
+            List<Path> classpath = new ArrayList<>();
+            Path classes = classesDirectory.toPath().toAbsolutePath();
+            for (String element : project.getRuntimeClasspathElements()) {
+                Path path = Paths.get(element).toAbsolutePath();
+                if (!path.equals(classes)) {
+                    classpath.add(path);
+                }
+            }
+            return classpath;
+        } catch (DependencyResolutionRequiredException e) {
+            throw new MojoExecutionException("Unable to resolve the runtime classpath", e);
+        }
+    }
+
+    private String configuration() {
+        return "packages=" + packages + "\nfields=" + fields + "\naccessors=" + accessors
+                + "\nconstructors=" + constructors + "\nmethods=" + methods + "\n";
+    }
+}
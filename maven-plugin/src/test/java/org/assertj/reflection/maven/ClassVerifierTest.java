@@ -0,0 +1,86 @@
+package org.assertj.reflection.maven;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.ModifierSpec;
+import org.assertj.reflection.VerificationCache;
+import org.assertj.reflection.maven.fixtures.Bean;
+import org.assertj.reflection.maven.fixtures.PublicField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.reflection.ModifierFlag.PRIVATE;
+
+class ClassVerifierTest {
+    private static final List<String> FIXTURES = Collections.singletonList("org.assertj.reflection.maven.fixtures");
+    private static final ClassSpec PRIVATE_FIELDS = ClassSpec.builder().fields(ModifierSpec.of(PRIVATE)).build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifiesTheClassesInTheConfiguredPackages() throws IOException {
+        try (ClassVerifier verifier = new ClassVerifier(testClasses(), Collections.emptyList(), FIXTURES)) {
+            List<String> classNames = verifier.classNames();
+            SortedMap<String, String> failures = verifier.verify(classNames, PRIVATE_FIELDS, null, 4);
+
+            assertThat(classNames).containsExactly(Bean.class.getName(), PublicField.class.getName());
+            assertThat(failures).containsOnlyKeys(PublicField.class.getName());
+            assertThat(failures.get(PublicField.class.getName()))
+                    .contains("field name should have modifiers private but has public");
+        }
+    }
+
+    @Test
+    void loadsClassesInTheirOwnClassLoader() throws IOException, ClassNotFoundException {
+        try (ClassVerifier verifier = new ClassVerifier(testClasses(), Collections.emptyList(), FIXTURES)) {
+            assertThat(Class.forName(Bean.class.getName(), false, verifier.loader())).isNotSameAs(Bean.class);
+        }
+    }
+
+    @Test
+    void skipsClassesThatPassedBefore() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        for (int run = 0; run < 2; run++) {
+            try (ClassVerifier verifier = new ClassVerifier(testClasses(), Collections.emptyList(), FIXTURES);
+                 VerificationCache cache = VerificationCache.open(file)) {
+                verifier.verify(verifier.classNames(), PRIVATE_FIELDS, cache, 2);
+                assertThat(cache.statistics().hits()).isEqualTo(run);
+            }
+        }
+    }
+
+    @Test
+    void fingerprintChangesWithTheClassesAndTheConfiguration() throws IOException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path classFile = classes.resolve("Bean.class");
+        Files.copy(testClasses().resolve(Bean.class.getName().replace('.', '/') + ".class"), classFile);
+
+        try (ClassVerifier verifier = new ClassVerifier(classes, Collections.emptyList(), Collections.emptyList())) {
+            String fingerprint = verifier.fingerprint("fields=private");
+            assertThat(verifier.fingerprint("fields=private")).isEqualTo(fingerprint);
+            assertThat(verifier.fingerprint("fields=public")).isNotEqualTo(fingerprint);
+
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+            assertThat(verifier.fingerprint("fields=private")).isNotEqualTo(fingerprint);
+        }
+    }
+
+    private static Path testClasses() {
+        try {
+            return Paths.get(ClassVerifierTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.assertj.reflection.maven;
+
+import org.assertj.reflection.ModifierSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.reflection.ModifierFlag.FINAL;
+import static org.assertj.reflection.ModifierFlag.PUBLIC;
+import static org.assertj.reflection.ModifierFlag.STATIC;
+
+class SpecParserTest {
+    private final ClassLoader loader = getClass().getClassLoader();
+
+    @Test
+    void parsesModifiers() {
+        assertThat(SpecParser.modifiers("public static")).hasToString(ModifierSpec.of(PUBLIC, STATIC).toString());
+        assertThat(SpecParser.modifiers(" exactly public ")).hasToString(ModifierSpec.exactly(PUBLIC).toString());
+        assertThat(SpecParser.modifiers("not final")).hasToString(ModifierSpec.of(FINAL).negate().toString());
+        assertThat(SpecParser.modifiers("")).isNull();
+        assertThat(SpecParser.modifiers(null)).isNull();
+    }
+
+    @Test
+    void rejectsUnknownModifiers() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SpecParser.modifiers("public sealed"))
+                .withMessage("Unknown modifier 'sealed' in 'public sealed'");
+    }
+
+    @Test
+    void resolvesTypes() {
+        assertThat(SpecParser.type("int", loader)).isEqualTo(int.class);
+        assertThat(SpecParser.type("java.lang.String[][]", loader)).isEqualTo(String[][].class);
+        assertThat(SpecParser.type("org.assertj.reflection.maven.fixtures.Bean", loader))
+                .isEqualTo(org.assertj.reflection.maven.fixtures.Bean.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SpecParser.type("com.acme.Missing", loader))
+                .withMessage("Unknown type com.acme.Missing");
+    }
+}
@@ -0,0 +1,13 @@
+package org.assertj.reflection.maven.fixtures;
+
+public class Bean {
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
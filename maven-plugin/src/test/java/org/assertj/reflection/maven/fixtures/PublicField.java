@@ -0,0 +1,5 @@
+package org.assertj.reflection.maven.fixtures;
+
+public class PublicField {
+    public String name;
+}
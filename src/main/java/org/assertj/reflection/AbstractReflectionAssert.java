@@ -0,0 +1,315 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.MessageFormatter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base class for the assertions of this library.
+ * <p>
+ * An assert that was created by {@link ReflectionSoftAssertions} collects its failures instead of throwing them, so
+ * that a chain of assertions continues after a failure. The collected failures do not have a stack trace, and the
+ * asserts that it passes to consumers, e.g. in {@link ClassAssert#hasDeclaredField(String, java.util.function.Consumer)},
+ * collect their failures in the same soft assertions.
+ *
+ * @param <SELF>   The type of the assert itself.
+ * @param <ACTUAL> The type of the actual value.
+ */
+public abstract class AbstractReflectionAssert<SELF extends AbstractReflectionAssert<SELF, ACTUAL>, ACTUAL>
+        extends AbstractAssert<SELF, ACTUAL> {
+    private ReflectionSoftAssertions softly;
+    private AbstractReflectionAssert<?, ?> parent;
+    private Object inProgress;
+    private boolean failed;
+
+    /**
+     * Creates a new {@link AbstractReflectionAssert}.
+     *
+     * @param actual   The actual value.
+     * @param selfType The type of the assert itself.
+     */
+    protected AbstractReflectionAssert(ACTUAL actual, Class<?> selfType) {
+        super(actual, selfType);
+    }
+
+    SELF collectingInto(ReflectionSoftAssertions softly) {
+        this.softly = softly;
+        return myself;
+    }
+
+    ReflectionSoftAssertions softly() {
+        return softly;
+    }
+
+    /**
+     * Makes this assert part of an assertion of the given one: its failures are collected the same way, and fail the
+     * assertion of the parent too.
+     */
+    SELF nestedIn(AbstractReflectionAssert<?, ?> parent) {
+        this.parent = parent;
+        return collectingInto(parent.softly);
+    }
+
+    ClassAssert nested(Class<?> type) {
+        return new ClassAssert(type).nestedIn(this);
+    }
+
+    FieldAssert nested(Field field) {
+        return new FieldAssert(field).nestedIn(this);
+    }
+
+    MethodAssert nested(Method method) {
+        return new MethodAssert(method).nestedIn(this);
+    }
+
+    ConstructorAssert nested(Constructor<?> constructor) {
+        return new ConstructorAssert(constructor).nestedIn(this);
+    }
+
+    PropertyAssert nested(Property property) {
+        return new PropertyAssert(property).nestedIn(this);
+    }
+
+    ClassFileFieldAssert nested(ClassFile.FieldInfo field) {
+        return new ClassFileFieldAssert(field).nestedIn(this);
+    }
+
+    ClassFileMethodAssert nested(ClassFile.MethodInfo method) {
+        return new ClassFileMethodAssert(method).nestedIn(this);
+    }
+
+    /**
+     * Verifies that the given element, which is the actual value or part of it, is annotated with the given type.
+     */
+    <A extends Annotation> SELF hasAnnotation(AnnotatedElement element, Class<A> annotationType,
+                                              Consumer<? super A> annotationConsumer) {
+        return instrumented("hasAnnotation", null, element, annotationType, annotationConsumer,
+                AbstractReflectionAssert::checkHasAnnotation);
+    }
+
+    private static <S extends AbstractReflectionAssert<S, ?>, A extends Annotation> S checkHasAnnotation(
+            S self, AnnotatedElement element, Class<A> annotationType, Consumer<? super A> annotationConsumer) {
+        A annotation = MemberIndex.annotation(element, annotationType);
+        if (annotation == null) {
+            return self.fail(self.failure("Expected %s to be annotated with @%s but it is not",
+                    describe(element), annotationType.getName()));
+        }
+        if (annotationConsumer != null) {
+            annotationConsumer.accept(annotation);
+        }
+        return self;
+    }
+
+    /**
+     * Verifies that the given element, which is the actual value or part of it, is not annotated with the given type.
+     */
+    SELF hasNoAnnotation(AnnotatedElement element, Class<? extends Annotation> annotationType) {
+        return instrumented("hasNoAnnotation", null, element, annotationType,
+                AbstractReflectionAssert::checkHasNoAnnotation);
+    }
+
+    private static <S extends AbstractReflectionAssert<S, ?>> S checkHasNoAnnotation(
+            S self, AnnotatedElement element, Class<? extends Annotation> annotationType) {
+        Annotation annotation = MemberIndex.annotation(element, annotationType);
+        if (annotation != null) {
+            return self.fail(self.failure("Expected %s not to be annotated with @%s but found %s",
+                    describe(element), annotationType.getName(), annotation));
+        }
+        return self;
+    }
+
+    private static String describe(AnnotatedElement element) {
+        return element instanceof Class ? ((Class<?>) element).getName() : element.toString();
+    }
+
+    /**
+     * Runs the check of an assertion once the actual value is verified not to be {@code null}, and reports the
+     * assertion to {@link AssertionListener listeners} and Flight Recorder, unless neither is active or another
+     * assertion of this assert is in progress, e.g. the overload that delegated to this one. The assertion passed
+     * unless it failed, or threw anything, e.g. for an invalid argument.
+     * <p>
+     * The check gets this assert and the arguments of the assertion instead of capturing them, so that it is created
+     * once rather than by every assertion, which passing assertions must not allocate, see the overloads for more
+     * arguments.
+     *
+     * @param assertion The name of the assertion.
+     * @param member    For assertions on a class, the name of the member that is looked up, or the parameter types of
+     *                  the constructor.
+     * @param check     The check, which returns the result of the assertion.
+     * @return The result of the check.
+     */
+    <T> T instrumented(String assertion, Object member, Function<SELF, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself);
+        }
+        return reported(assertion, member, () -> check.apply(myself));
+    }
+
+    <A, T> T instrumented(String assertion, Object member, A argument, BiFunction<SELF, A, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself, argument);
+        }
+        return reported(assertion, member, () -> check.apply(myself, argument));
+    }
+
+    <A, B, T> T instrumented(String assertion, Object member, A first, B second, Check2<SELF, A, B, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself, first, second);
+        }
+        return reported(assertion, member, () -> check.apply(myself, first, second));
+    }
+
+    <A, B, C, T> T instrumented(String assertion, Object member, A first, B second, C third,
+                                Check3<SELF, A, B, C, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself, first, second, third);
+        }
+        return reported(assertion, member, () -> check.apply(myself, first, second, third));
+    }
+
+    // Not ambiguous with the double overload below, as the checks of primitive arguments are exact method references
+    @SuppressWarnings("overloads")
+    <A, T> T instrumented(String assertion, Object member, A first, long second, LongCheck<SELF, A, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself, first, second);
+        }
+        return reported(assertion, member, () -> check.apply(myself, first, second));
+    }
+
+    @SuppressWarnings("overloads")
+    <A, T> T instrumented(String assertion, Object member, A first, double second, DoubleCheck<SELF, A, T> check) {
+        if (unreported()) {
+            isNotNull();
+            return check.apply(myself, first, second);
+        }
+        return reported(assertion, member, () -> check.apply(myself, first, second));
+    }
+
+    private boolean unreported() {
+        return inProgress != null || !AssertionEvents.isEnabled();
+    }
+
+    private <T> T reported(String assertion, Object member, Supplier<T> check) {
+        failed = false;
+        Object started = AssertionEvents.begin(assertion, actual, member);
+        inProgress = started;
+        try {
+            isNotNull();
+            return check.get();
+        } catch (Throwable e) {
+            markFailed();
+            throw e;
+        } finally {
+            inProgress = null;
+            AssertionEvents.end(started, !failed && actual != null);
+        }
+    }
+
+    /**
+     * The check of an assertion with two arguments, see {@link #instrumented(String, Object, Function)}.
+     */
+    @FunctionalInterface
+    interface Check2<S, A, B, T> {
+        T apply(S self, A first, B second);
+    }
+
+    /**
+     * The check of an assertion with three arguments, see {@link #instrumented(String, Object, Function)}.
+     */
+    @FunctionalInterface
+    interface Check3<S, A, B, C, T> {
+        T apply(S self, A first, B second, C third);
+    }
+
+    /**
+     * The check of an assertion with a {@code long} argument, which is not boxed.
+     */
+    @FunctionalInterface
+    interface LongCheck<S, A, T> {
+        T apply(S self, A first, long second);
+    }
+
+    /**
+     * The check of an assertion with a {@code double} argument, which is not boxed.
+     */
+    @FunctionalInterface
+    interface DoubleCheck<S, A, T> {
+        T apply(S self, A first, double second);
+    }
+
+    /**
+     * Throws the given failure, or collects it if this assert was created by {@link ReflectionSoftAssertions}.
+     */
+    SELF fail(AssertionError error) {
+        markFailed();
+        if (softly == null) {
+            throw error;
+        }
+        softly.collectAssertionError(error);
+        return myself;
+    }
+
+    /**
+     * Marks the assertion in progress, and that of the parent assert, as failed.
+     */
+    void markFailed() {
+        failed = true;
+        if (parent != null) {
+            parent.markFailed();
+        }
+    }
+
+    @Override
+    protected AssertionError failure(String errorMessageFormat, Object... arguments) {
+        if (softly == null) {
+            return super.failure(errorMessageFormat, arguments);
+        }
+        return stackless(String.format(errorMessageFormat, arguments));
+    }
+
+    @Override
+    protected AssertionError failureWithActualExpected(Object actual, Object expected, String errorMessageFormat,
+                                                       Object... arguments) {
+        if (softly == null) {
+            return super.failureWithActualExpected(actual, expected, errorMessageFormat, arguments);
+        }
+        return stackless(String.format(errorMessageFormat, arguments));
+    }
+
+    @Override
+    protected AssertionError assertionError(ErrorMessageFactory errorMessageFactory) {
+        if (softly == null) {
+            return super.assertionError(errorMessageFactory);
+        }
+        String message = info.overridingErrorMessage();
+        return new StacklessAssertionError(message != null
+                ? message
+                : errorMessageFactory.create(info.description(), info.representation()));
+    }
+
+    /**
+     * Builds the message the same way {@link AbstractAssert#failure(String, Object...)} does.
+     */
+    private AssertionError stackless(String errorMessage) {
+        String message = info.overridingErrorMessage();
+        if (message == null) {
+            message = MessageFormatter.instance().format(info.description(), info.representation(), "") + errorMessage;
+        }
+        return new StacklessAssertionError(message);
+    }
+}
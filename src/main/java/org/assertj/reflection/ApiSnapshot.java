@@ -0,0 +1,171 @@
+package org.assertj.reflection;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The visible API of a class, as verified by {@link ClassAssert#matchesApiSnapshot(Path)}: a sorted list of the
+ * signatures of the class itself and of its public and protected declared fields, constructors and methods, together
+ * with a 64-bit fingerprint of that list.
+ * <p>
+ * A snapshot file starts with a header line that holds the fingerprint, followed by the signatures, one per line:
+ * <pre>
+ * assertj-reflection-api 1 5f0e8bd4c3a1e2f7
+ * class public final class com.acme.Money extends java.lang.Object implements java.lang.Comparable&lt;com.acme.Money&gt;
+ * constructor public com.acme.Money(long,java.util.Currency)
+ * method public int com.acme.Money.compareTo(com.acme.Money)
+ * </pre>
+ * A matching snapshot is recognized from its header alone. Only if the fingerprints differ are the signatures read,
+ * one line at a time, and compared with those of the class. Because both are sorted, the difference is found in a
+ * single pass, without reading the whole file into memory.
+ */
+final class ApiSnapshot {
+    private static final String MAGIC = "assertj-reflection-api";
+    private static final int VERSION = 1;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<String> signatures;
+    private final long fingerprint;
+
+    private ApiSnapshot(List<String> signatures) {
+        this.signatures = signatures;
+        long hash = FNV_OFFSET_BASIS;
+        for (String signature : signatures) {
+            for (int i = 0; i < signature.length(); i++) {
+                hash = (hash ^ signature.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ '\n') * FNV_PRIME;
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * Computes the snapshot of the given class. Synthetic members, such as bridge methods, are not part of the API.
+     */
+    static ApiSnapshot of(MemberIndex index) {
+        List<String> signatures = new ArrayList<>();
+        signatures.add("class " + describe(index.type()));
+        for (Field field : index.fields()) {
+            if (isVisible(field)) {
+                signatures.add("field " + field.toGenericString());
+            }
+        }
+        for (Constructor<?> constructor : index.constructors()) {
+            if (isVisible(constructor)) {
+                signatures.add("constructor " + constructor.toGenericString());
+            }
+        }
+        for (Method method : index.methods()) {
+            if (isVisible(method)) {
+                signatures.add("method " + method.toGenericString());
+            }
+        }
+        signatures.sort(null);
+        return new ApiSnapshot(signatures);
+    }
+
+    private static boolean isVisible(Member member) {
+        return !member.isSynthetic() && (member.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0;
+    }
+
+    private static String describe(Class<?> type) {
+        StringBuilder out = new StringBuilder(type.toGenericString());
+        Type superclass = type.getGenericSuperclass();
+        if (superclass != null) {
+            out.append(" extends ").append(superclass.getTypeName());
+        }
+        Type[] interfaces = type.getGenericInterfaces();
+        for (int i = 0; i < interfaces.length; i++) {
+            out.append(i > 0 ? ", " : type.isInterface() ? " extends " : " implements ")
+                    .append(interfaces[i].getTypeName());
+        }
+        return out.toString();
+    }
+
+    long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Reads the fingerprint from the header of a snapshot file.
+     *
+     * @return The fingerprint, or {@code null} if the file does not start with a header of this version.
+     */
+    static Long readFingerprint(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String[] header = String.valueOf(reader.readLine()).split(" ");
+            if (header.length != 3 || !header[0].equals(MAGIC) || !header[1].equals(String.valueOf(VERSION))) {
+                return null;
+            }
+            try {
+                return Long.parseUnsignedLong(header[2], 16);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(MAGIC + " " + VERSION + " " + String.format("%016x", fingerprint));
+            writer.newLine();
+            for (String signature : signatures) {
+                writer.write(signature);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Compares the signatures in the given snapshot file with those of the class, reading the file line by line.
+     *
+     * @return The signatures that were added, prefixed with {@code "+ "}, and removed, prefixed with {@code "- "},
+     * in the order of the signatures.
+     */
+    List<String> diff(Path file) throws IOException {
+        List<String> diff = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String stored = nextSignature(reader);
+            int i = 0;
+            while (stored != null || i < signatures.size()) {
+                int order = stored == null ? 1 : i == signatures.size() ? -1 : stored.compareTo(signatures.get(i));
+                if (order < 0) {
+                    diff.add("- " + stored);
+                    stored = nextSignature(reader);
+                } else if (order > 0) {
+                    diff.add("+ " + signatures.get(i++));
+                } else {
+                    stored = nextSignature(reader);
+                    i++;
+                }
+            }
+        }
+        return diff;
+    }
+
+    private static String nextSignature(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = reader.readLine();
+        }
+        return line;
+    }
+}
@@ -0,0 +1,80 @@
+package org.assertj.reflection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Flight Recorder event of a single assertion, named {@code org.assertj.reflection.Assertion}. It is disabled by
+ * default, and can be enabled in a recording like any other event:
+ * <pre>
+ * java -XX:StartFlightRecording:filename=tests.jfr,+org.assertj.reflection.Assertion#enabled=true ...
+ * jfr print --events org.assertj.reflection.Assertion tests.jfr
+ * </pre>
+ * Only {@link AssertionEvents} refers to this class, and only once it found that the runtime has Flight Recorder.
+ */
+@Name("org.assertj.reflection.Assertion")
+@Label("Reflection Assertion")
+@Category({"AssertJ", "Reflection"})
+@Description("An assertion on a class or member, with its outcome")
+@Enabled(false)
+@StackTrace(false)
+final class AssertionEvent extends Event {
+    @Label("Class")
+    @Description("The class under test, or the class that declares the member or property under test")
+    Class<?> type;
+
+    @Label("Member")
+    @Description("The member under test, or the member that was looked up in the class under test")
+    String member;
+
+    @Label("Assertion")
+    String assertion;
+
+    @Label("Passed")
+    boolean passed;
+
+    static void install() {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update();
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+    }
+
+    private static void update() {
+        AssertionEvents.setRecording(EventType.getEventType(AssertionEvent.class).isEnabled());
+    }
+
+    static Object start() {
+        AssertionEvent event = new AssertionEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commit(Object started, String assertion, Class<?> type, String member, boolean passed) {
+        AssertionEvent event = (AssertionEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = type;
+            event.member = member;
+            event.assertion = assertion;
+            event.passed = passed;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Reports the assertions of this library to the {@link AssertionListener listeners} on the classpath, and records them
+ * as JDK Flight Recorder events, see {@link AssertionEvent}.
+ * <p>
+ * Both are inactive by default. Without listeners, and until a running recording enables the events, starting an
+ * assertion only reads a volatile flag, and nothing is allocated. The flag is kept up to date by a Flight Recorder
+ * listener, which is only installed if the runtime has Flight Recorder: on Java 8 runtimes without it, the classes of
+ * {@code jdk.jfr} are never loaded.
+ */
+final class AssertionEvents {
+    private static final AssertionListener[] LISTENERS = loadListeners();
+    private static final boolean LISTENING = LISTENERS.length > 0;
+    private static volatile boolean recording;
+
+    static {
+        if (isFlightRecorderAvailable()) {
+            try {
+                AssertionEvent.install();
+            } catch (SecurityException e) {
+                // Not permitted to access Flight Recorder, so the events stay disabled
+            }
+        }
+    }
+
+    private AssertionEvents() {
+    }
+
+    /**
+     * Loads the listeners on the classpath. A listener that cannot be loaded, e.g. because a class it depends on is
+     * missing, is left out rather than failing every assertion.
+     */
+    private static AssertionListener[] loadListeners() {
+        List<AssertionListener> listeners = new ArrayList<>();
+        Iterator<AssertionListener> providers = ServiceLoader.load(AssertionListener.class,
+                AssertionListener.class.getClassLoader()).iterator();
+        while (hasNext(providers)) {
+            try {
+                listeners.add(providers.next());
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // Skip this listener, the iterator moves on to the next one
+            }
+        }
+        return listeners.toArray(new AssertionListener[0]);
+    }
+
+    private static boolean hasNext(Iterator<AssertionListener> providers) {
+        try {
+            return providers.hasNext();
+        } catch (ServiceConfigurationError | LinkageError e) {
+            // A configuration file that cannot be read, so stop at the listeners found so far
+            return false;
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, AssertionEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static void setRecording(boolean recording) {
+        AssertionEvents.recording = recording;
+    }
+
+    /**
+     * Returns whether a running recording enabled the Flight Recorder events.
+     */
+    static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Returns whether assertions are reported at all.
+     */
+    static boolean isEnabled() {
+        return LISTENING || recording;
+    }
+
+    /**
+     * Starts an assertion.
+     *
+     * @param assertion The name of the assertion.
+     * @param actual    The class, member, property, class file, jar or set of classes under test.
+     * @param member    For assertions on a class, the name of the member that is looked up, its parameter types, or
+     *                  {@code null}.
+     * @return The started assertion, to pass to {@link #end(Object, boolean)}.
+     */
+    static Object begin(String assertion, Object actual, Object member) {
+        Started started = new Started(assertion, actual, member);
+        for (AssertionListener listener : LISTENERS) {
+            try {
+                listener.assertionStarted(assertion, started.type, started.member);
+            } catch (RuntimeException | LinkageError | AssertionError e) {
+                // A listener must not change the outcome of the assertion
+            }
+        }
+        // Flight Recorder measures the duration itself, so the event is started last
+        started.event = recording ? AssertionEvent.start() : null;
+        started.indexesBuilt = MemberIndex.builtOnThisThread();
+        started.startNanos = System.nanoTime();
+        return started;
+    }
+
+    /**
+     * Ends an assertion started by {@link #begin(String, Object, Object)}.
+     *
+     * @param passed Whether the assertion passed.
+     */
+    static void end(Object assertion, boolean passed) {
+        Started started = (Started) assertion;
+        long durationNanos = System.nanoTime() - started.startNanos;
+        if (started.event != null) {
+            AssertionEvent.commit(started.event, started.assertion, started.type, started.member, passed);
+        }
+        boolean cacheHit = MemberIndex.builtOnThisThread() == started.indexesBuilt;
+        for (AssertionListener listener : LISTENERS) {
+            try {
+                listener.assertionFinished(started.assertion, started.type, started.member, passed, durationNanos,
+                        cacheHit);
+            } catch (RuntimeException | LinkageError | AssertionError e) {
+                // A listener must not hide the failure of the assertion, or fail an assertion that passed
+            }
+        }
+    }
+
+    private static String describe(Member member) {
+        if (!(member instanceof Executable)) {
+            return member.getName();
+        }
+        String name = member instanceof Constructor ? "<init>" : member.getName();
+        return name + parameters(((Executable) member).getParameterTypes());
+    }
+
+    private static String describe(Object member) {
+        if (member instanceof Class[]) {
+            return "<init>" + parameters((Class<?>[]) member);
+        }
+        if (member instanceof Class) {
+            return "<init>" + parameters(new Class<?>[]{(Class<?>) member});
+        }
+        return member == null ? null : member.toString();
+    }
+
+    private static String parameters(Class<?>[] parameterTypes) {
+        StringBuilder out = new StringBuilder("(");
+        for (int i = 0; i < parameterTypes.length; i++) {
+            out.append(i > 0 ? ", " : "").append(parameterTypes[i] == null ? null : parameterTypes[i].getTypeName());
+        }
+        return out.append(')').toString();
+    }
+
+    /**
+     * An assertion in progress.
+     */
+    private static final class Started {
+        private final String assertion;
+        private final Class<?> type;
+        private final String member;
+        private Object event;
+        private int indexesBuilt;
+        private long startNanos;
+
+        Started(String assertion, Object actual, Object member) {
+            this.assertion = assertion;
+            if (actual instanceof Member) {
+                this.type = ((Member) actual).getDeclaringClass();
+                this.member = describe((Member) actual);
+            } else if (actual instanceof Property) {
+                this.type = ((Property) actual).getDeclaringClass();
+                this.member = ((Property) actual).getName();
+            } else if (actual instanceof ClassFile) {
+                // Not loaded, so the class is only known by name
+                this.type = null;
+                this.member = ((ClassFile) actual).getName() + (member == null ? "" : "#" + describe(member));
+            } else if (actual instanceof ClassFile.FieldInfo) {
+                ClassFile.FieldInfo field = (ClassFile.FieldInfo) actual;
+                this.type = null;
+                this.member = field.getDeclaringClassName() + "#" + field.getName();
+            } else if (actual instanceof ClassFile.MethodInfo) {
+                ClassFile.MethodInfo method = (ClassFile.MethodInfo) actual;
+                this.type = null;
+                this.member = method.getDeclaringClassName() + "#" + method.getName() + method.getDescriptor();
+            } else if (actual instanceof Path) {
+                this.type = null;
+                this.member = actual.toString();
+            } else {
+                this.type = actual instanceof Class ? (Class<?>) actual : null;
+                this.member = describe(member);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.assertj.reflection;
+
+import java.util.ServiceLoader;
+
+/**
+ * Listener that is called around every assertion of this library, e.g. to find the checks that take the most time in a
+ * test suite.
+ * <p>
+ * Listeners are discovered once, with {@link ServiceLoader}, from the provider-configuration files
+ * {@code META-INF/services/org.assertj.reflection.AssertionListener} on the classpath. Each implementation needs a
+ * public no-argument constructor. If no listener is found, assertions are not slowed down at all. A listener that
+ * cannot be loaded is skipped, and what a listener throws is ignored, so that it cannot change the outcome of an
+ * assertion.
+ * <p>
+ * Listeners are called on the thread that runs the assertion, by any number of threads at the same time, so they must be
+ * thread-safe. Overloads that delegate to each other are reported as a single assertion.
+ *
+ * @see AssertionReportExtension
+ */
+public interface AssertionListener {
+
+    /**
+     * Called before an assertion starts.
+     *
+     * @param assertion The name of the assertion, e.g. {@code hasDeclaredMethod}.
+     * @param type      The class under test, or the class that declares the member or property under test, or
+     *                  {@code null} for class files, jars and sets of classes, which are not loaded by this library.
+     * @param member    The member or property under test, the member that is looked up in the class under test, the
+     *                  class file, class file member or jar under test, or {@code null}.
+     */
+    default void assertionStarted(String assertion, Class<?> type, String member) {
+    }
+
+    /**
+     * Called after an assertion ended, whether it passed, failed or threw an exception.
+     *
+     * @param assertion     The name of the assertion, e.g. {@code hasDeclaredMethod}.
+     * @param type          The class under test, or the class that declares the member or property under test, or
+     *                      {@code null} for class files, jars and sets of classes.
+     * @param member        The member or property under test, the member that was looked up in the class under test,
+     *                      the class file, class file member or jar under test, or {@code null}.
+     * @param passed        Whether the assertion passed.
+     * @param durationNanos The time the assertion took, in nanoseconds.
+     * @param cacheHit      Whether the assertion was served from the caches of this library, i.e. did not need to read
+     *                      the declared members of a class through reflection.
+     */
+    default void assertionFinished(String assertion, Class<?> type, String member, boolean passed, long durationNanos,
+                                   boolean cacheHit) {
+    }
+}
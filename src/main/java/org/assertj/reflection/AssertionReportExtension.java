@@ -0,0 +1,280 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JUnit 5 extension that reports the reflection checks that took the most time in a test run, e.g. to find the
+ * parameterized test that runs {@code hasDeclaredMethod} a hundred thousand times.
+ * <p>
+ * The extension is an {@link AssertionListener} as well, and needs to be registered as both, in the test resources:
+ * <pre>
+ * # META-INF/services/org.assertj.reflection.AssertionListener
+ * org.assertj.reflection.AssertionReportExtension
+ * </pre>
+ * Then extend the test classes with it, with {@code @ExtendWith(AssertionReportExtension.class)}, or all test classes by
+ * also listing it in {@code META-INF/services/org.junit.jupiter.api.extension.Extension} and setting
+ * {@code junit.jupiter.extensions.autodetection.enabled=true}. Assertions are only counted while a test or lifecycle
+ * method of a test class that is extended with it runs, on the thread that runs it, so that the assertions of other
+ * test classes that a worker thread picks up in parallel execution are not attributed to it.
+ * <p>
+ * The assertions are counted per test class, assertion and member, with striped counters that threads running tests in
+ * parallel update without locking. After the run, the checks with the highest total time are printed, or written to a
+ * file. The report is configured with these JUnit configuration parameters:
+ * <ul>
+ *     <li>{@code assertj.reflection.report.top}: the number of checks to report, {@code 20} by default.</li>
+ *     <li>{@code assertj.reflection.report.file}: the file to write the report to, instead of standard output.</li>
+ * </ul>
+ */
+public class AssertionReportExtension implements AssertionListener, BeforeAllCallback, InvocationInterceptor {
+    static final String TOP_PARAMETER = "assertj.reflection.report.top";
+    static final String FILE_PARAMETER = "assertj.reflection.report.file";
+    private static final int DEFAULT_TOP = 20;
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(AssertionReportExtension.class);
+    private static final ThreadLocal<Class<?>> TEST_CLASS = new ThreadLocal<>();
+    private static final ConcurrentMap<Check, Counters> CHECKS = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Report.class, key -> new Report(
+                context.getConfigurationParameter(TOP_PARAMETER).map(Integer::parseInt).orElse(DEFAULT_TOP),
+                context.getConfigurationParameter(FILE_PARAMETER).map(Paths::get).orElse(null)), Report.class);
+    }
+
+    @Override
+    public void interceptBeforeAllMethod(Invocation<Void> invocation,
+                                         ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptBeforeEachMethod(Invocation<Void> invocation,
+                                          ReflectiveInvocationContext<Method> invocationContext,
+                                          ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+                                            ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public <T> T interceptTestFactoryMethod(Invocation<T> invocation,
+                                            ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        return proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptDynamicTest(Invocation<Void> invocation, DynamicTestInvocationContext invocationContext,
+                                     ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptAfterEachMethod(Invocation<Void> invocation,
+                                         ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptAfterAllMethod(Invocation<Void> invocation,
+                                        ReflectiveInvocationContext<Method> invocationContext,
+                                        ExtensionContext extensionContext) throws Throwable {
+        proceed(invocation, extensionContext);
+    }
+
+    /**
+     * Attributes the assertions on the current thread to the test class while the invocation runs, and restores the
+     * class that was current before, e.g. of the test that runs a dynamic test.
+     */
+    private static <T> T proceed(Invocation<T> invocation, ExtensionContext context) throws Throwable {
+        Class<?> previous = TEST_CLASS.get();
+        TEST_CLASS.set(testClass(context));
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous == null) {
+                TEST_CLASS.remove();
+            } else {
+                TEST_CLASS.set(previous);
+            }
+        }
+    }
+
+    private static Class<?> testClass(ExtensionContext context) {
+        for (ExtensionContext current = context; current != null; current = current.getParent().orElse(null)) {
+            if (current.getTestClass().isPresent()) {
+                return current.getRequiredTestClass();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void assertionFinished(String assertion, Class<?> type, String member, boolean passed, long durationNanos,
+                                  boolean cacheHit) {
+        Class<?> testClass = TEST_CLASS.get();
+        if (testClass != null) {
+            CHECKS.computeIfAbsent(new Check(testClass, assertion, type, member), check -> new Counters())
+                    .add(durationNanos, cacheHit);
+        }
+    }
+
+    /**
+     * Returns the lines of the report of the checks counted so far.
+     *
+     * @param top The number of checks to report.
+     */
+    static List<String> report(int top) {
+        List<Row> rows = new ArrayList<>(CHECKS.size());
+        CHECKS.forEach((check, counters) -> rows.add(new Row(check, counters)));
+        rows.sort(Comparator.comparingLong((Row row) -> row.nanos).reversed()
+                .thenComparing(row -> row.check.toString()));
+
+        int reported = Math.min(top, rows.size());
+        List<String> lines = new ArrayList<>(reported + 2);
+        lines.add(String.format("Slowest reflection checks (%d of %d):", reported, rows.size()));
+        lines.add(String.format("%12s %12s %8s  %s", "total ms", "count", "cached", "test class: check"));
+        for (Row row : rows.subList(0, reported)) {
+            lines.add(String.format("%12.3f %12d %7.1f%%  %s", row.nanos / 1e6, row.count,
+                    100.0 * row.cacheHits / row.count, row.check));
+        }
+        return lines;
+    }
+
+    static void reset() {
+        CHECKS.clear();
+    }
+
+    /**
+     * Writes the report when the test run ends, as the root context closes its store.
+     */
+    private static final class Report implements ExtensionContext.Store.CloseableResource {
+        private final int top;
+        private final Path file;
+
+        Report(int top, Path file) {
+            this.top = top;
+            this.file = file;
+        }
+
+        @Override
+        public void close() {
+            List<String> lines = report(top);
+            reset();
+            if (file == null) {
+                lines.forEach(System.out::println);
+                return;
+            }
+            try {
+                Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Files.write(file, lines, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write reflection check report " + file, e);
+            }
+        }
+    }
+
+    private static final class Check {
+        private final Class<?> testClass;
+        private final String assertion;
+        private final Class<?> type;
+        private final String member;
+
+        Check(Class<?> testClass, String assertion, Class<?> type, String member) {
+            this.testClass = testClass;
+            this.assertion = assertion;
+            this.type = type;
+            this.member = member;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Check)) {
+                return false;
+            }
+            Check check = (Check) o;
+            return testClass == check.testClass && assertion.equals(check.assertion) && type == check.type
+                    && Objects.equals(member, check.member);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(testClass, assertion, type, member);
+        }
+
+        @Override
+        public String toString() {
+            if (type == null) {
+                return testClass.getName() + ": " + assertion + (member == null ? "" : " " + member);
+            }
+            return testClass.getName() + ": " + assertion + " " + type.getName() + (member == null ? "" : "#" + member);
+        }
+    }
+
+    /**
+     * The counters of a check, read once so that the report is sorted on values that do not change while sorting.
+     */
+    private static final class Row {
+        private final Check check;
+        private final long count;
+        private final long nanos;
+        private final long cacheHits;
+
+        Row(Check check, Counters counters) {
+            this.check = check;
+            this.nanos = counters.nanos.sum();
+            this.cacheHits = counters.cacheHits.sum();
+            this.count = Math.max(1, counters.count.sum());
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+
+        void add(long durationNanos, boolean cacheHit) {
+            count.increment();
+            nanos.add(durationNanos);
+            if (cacheHit) {
+                cacheHits.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds the changes between two versions of a set of class files that break binary compatibility (JLS §13), i.e. that
+ * make code compiled against the old version fail to link or run against the new version.
+ * <p>
+ * Only the accessible API of the old version is checked: public and protected classes, and their public and protected
+ * members. A member that was moved to a superclass or interface in the same set of classes is still found. Supertypes
+ * outside the set, e.g. those of the JDK, are taken by name only.
+ */
+final class BinaryCompatibility {
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    /**
+     * The kinds of incompatible changes, in the order in which they are reported.
+     */
+    enum Kind {
+        CLASS_REMOVED("class removed"),
+        CLASS_LESS_ACCESSIBLE("class less accessible"),
+        CLASS_KIND_CHANGED("class changed to interface or back"),
+        CLASS_NOW_FINAL("class now final"),
+        CLASS_NOW_ABSTRACT("class now abstract"),
+        SUPERTYPE_REMOVED("supertype removed"),
+        CONSTRUCTOR_REMOVED("constructor removed"),
+        CONSTRUCTOR_LESS_ACCESSIBLE("constructor less accessible"),
+        METHOD_REMOVED("method removed"),
+        METHOD_RETURN_TYPE_CHANGED("method return type changed"),
+        METHOD_LESS_ACCESSIBLE("method less accessible"),
+        METHOD_STATIC_CHANGED("method static modifier changed"),
+        METHOD_NOW_FINAL("method now final"),
+        METHOD_NOW_ABSTRACT("method now abstract"),
+        FIELD_REMOVED("field removed"),
+        FIELD_TYPE_CHANGED("field type changed"),
+        FIELD_LESS_ACCESSIBLE("field less accessible"),
+        FIELD_STATIC_CHANGED("field static modifier changed"),
+        FIELD_NOW_FINAL("field now final");
+
+        private final String description;
+
+        Kind(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final Map<String, ClassFile> oldClasses;
+    private final Map<String, ClassFile> newClasses;
+    private final ConcurrentMap<String, Map<String, ClassFile.MethodInfo>> newMethods = new ConcurrentHashMap<>();
+    private final Map<Kind, Queue<String>> changes = new EnumMap<>(Kind.class);
+
+    private BinaryCompatibility(Map<String, ClassFile> oldClasses, Map<String, ClassFile> newClasses) {
+        this.oldClasses = oldClasses;
+        this.newClasses = newClasses;
+        for (Kind kind : Kind.values()) {
+            changes.put(kind, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Compares all classes of the old version with the new version, in parallel.
+     *
+     * @return The incompatible changes of each kind that occurred, sorted, in the order of {@link Kind}.
+     */
+    static Map<Kind, List<String>> compare(Map<String, ClassFile> oldClasses, Map<String, ClassFile> newClasses) {
+        BinaryCompatibility compatibility = new BinaryCompatibility(oldClasses, newClasses);
+        oldClasses.values().parallelStream()
+                .filter(type -> access(type.getModifiers()) >= access(Modifier.PROTECTED))
+                .forEach(compatibility::compare);
+
+        Map<Kind, List<String>> result = new EnumMap<>(Kind.class);
+        compatibility.changes.forEach((kind, descriptions) -> {
+            if (!descriptions.isEmpty()) {
+                List<String> sorted = new ArrayList<>(descriptions);
+                sorted.sort(null);
+                result.put(kind, Collections.unmodifiableList(sorted));
+            }
+        });
+        return result;
+    }
+
+    private void compare(ClassFile oldType) {
+        ClassFile newType = newClasses.get(oldType.getName());
+        if (newType == null) {
+            report(Kind.CLASS_REMOVED, oldType.getName());
+            return;
+        }
+        int oldModifiers = oldType.getModifiers();
+        int newModifiers = newType.getModifiers();
+        if (access(newModifiers) < access(oldModifiers)) {
+            report(Kind.CLASS_LESS_ACCESSIBLE, oldType.getName() + " is now " + describeAccess(newModifiers));
+            if (access(newModifiers) < access(Modifier.PROTECTED)) {
+                // None of its members can be used anymore either
+                return;
+            }
+        }
+        if (Modifier.isInterface(oldModifiers) != Modifier.isInterface(newModifiers)) {
+            report(Kind.CLASS_KIND_CHANGED, oldType.getName() + " is now "
+                    + (Modifier.isInterface(newModifiers) ? "an interface" : "a class"));
+        } else if (!Modifier.isInterface(oldModifiers)) {
+            if (!Modifier.isFinal(oldModifiers) && Modifier.isFinal(newModifiers)) {
+                report(Kind.CLASS_NOW_FINAL, oldType.getName());
+            }
+            if (!Modifier.isAbstract(oldModifiers) && Modifier.isAbstract(newModifiers)) {
+                report(Kind.CLASS_NOW_ABSTRACT, oldType.getName());
+            }
+        }
+
+        Set<String> newSupertypes = supertypes(newClasses, newType);
+        for (String supertype : supertypes(oldClasses, oldType)) {
+            if (!newSupertypes.contains(supertype)) {
+                report(Kind.SUPERTYPE_REMOVED, oldType.getName() + " no longer extends or implements " + supertype);
+            }
+        }
+
+        for (ClassFile.MethodInfo oldMethod : oldType.getMethods()) {
+            if (isApi(oldMethod.getModifiers()) && !oldMethod.getName().equals("<clinit>")) {
+                compare(oldMethod, newType);
+            }
+        }
+        for (ClassFile.FieldInfo oldField : oldType.getFields()) {
+            if (isApi(oldField.getModifiers())) {
+                compare(oldField, newType);
+            }
+        }
+    }
+
+    private void compare(ClassFile.MethodInfo oldMethod, ClassFile newType) {
+        boolean constructor = oldMethod.isConstructor();
+        ClassFile.MethodInfo newMethod = methods(newType).get(oldMethod.getName() + oldMethod.getDescriptor());
+        if (newMethod == null && !constructor) {
+            ClassFile.MethodInfo inherited = inheritedMethod(newType, oldMethod.getName() + oldMethod.getDescriptor(),
+                    new LinkedHashSet<>());
+            if (inherited != null && isApi(inherited.getModifiers())) {
+                return;
+            }
+        }
+        if (newMethod == null) {
+            String parameters = oldMethod.getDescriptor().substring(0, oldMethod.getDescriptor().indexOf(')') + 1);
+            ClassFile.MethodInfo changed = constructor ? null : newType.method(oldMethod.getName(), parameters);
+            if (changed != null) {
+                report(Kind.METHOD_RETURN_TYPE_CHANGED, oldMethod + " now returns " + changed.getReturnTypeName());
+            } else {
+                report(constructor ? Kind.CONSTRUCTOR_REMOVED : Kind.METHOD_REMOVED, oldMethod.toString());
+            }
+            return;
+        }
+
+        int oldModifiers = oldMethod.getModifiers();
+        int newModifiers = newMethod.getModifiers();
+        if (access(newModifiers) < access(oldModifiers)) {
+            report(constructor ? Kind.CONSTRUCTOR_LESS_ACCESSIBLE : Kind.METHOD_LESS_ACCESSIBLE,
+                    oldMethod + " is now " + describeAccess(newModifiers));
+        }
+        if (constructor) {
+            return;
+        }
+        if (Modifier.isStatic(oldModifiers) != Modifier.isStatic(newModifiers)) {
+            report(Kind.METHOD_STATIC_CHANGED, oldMethod + (Modifier.isStatic(newModifiers) ? " is now static"
+                    : " is no longer static"));
+        }
+        if (!Modifier.isFinal(oldModifiers) && Modifier.isFinal(newModifiers)
+                && !Modifier.isFinal(newType.getModifiers())) {
+            report(Kind.METHOD_NOW_FINAL, oldMethod.toString());
+        }
+        if (!Modifier.isAbstract(oldModifiers) && Modifier.isAbstract(newModifiers)) {
+            report(Kind.METHOD_NOW_ABSTRACT, oldMethod.toString());
+        }
+    }
+
+    private void compare(ClassFile.FieldInfo oldField, ClassFile newType) {
+        ClassFile.FieldInfo newField = newType.field(oldField.getName());
+        if (newField == null) {
+            ClassFile.FieldInfo inherited = inheritedField(newType, oldField.getName(), new LinkedHashSet<>());
+            if (inherited != null && isApi(inherited.getModifiers())
+                    && inherited.getDescriptor().equals(oldField.getDescriptor())) {
+                return;
+            }
+            report(Kind.FIELD_REMOVED, oldField.toString());
+            return;
+        }
+        if (!newField.getDescriptor().equals(oldField.getDescriptor())) {
+            report(Kind.FIELD_TYPE_CHANGED, oldField + " is now " + newField.getTypeName());
+            return;
+        }
+
+        int oldModifiers = oldField.getModifiers();
+        int newModifiers = newField.getModifiers();
+        if (access(newModifiers) < access(oldModifiers)) {
+            report(Kind.FIELD_LESS_ACCESSIBLE, oldField + " is now " + describeAccess(newModifiers));
+        }
+        if (Modifier.isStatic(oldModifiers) != Modifier.isStatic(newModifiers)) {
+            report(Kind.FIELD_STATIC_CHANGED, oldField + (Modifier.isStatic(newModifiers) ? " is now static"
+                    : " is no longer static"));
+        }
+        if (!Modifier.isFinal(oldModifiers) && Modifier.isFinal(newModifiers)) {
+            report(Kind.FIELD_NOW_FINAL, oldField.toString());
+        }
+    }
+
+    /**
+     * Returns the methods of a class of the new version by name and descriptor, indexed once per class.
+     */
+    private Map<String, ClassFile.MethodInfo> methods(ClassFile type) {
+        return newMethods.computeIfAbsent(type.getName(), name -> {
+            Map<String, ClassFile.MethodInfo> methods = new HashMap<>();
+            for (ClassFile.MethodInfo method : type.getMethods()) {
+                methods.merge(method.getName() + method.getDescriptor(), method,
+                        (a, b) -> (a.getModifiers() & ACC_SYNTHETIC) != 0 ? b : a);
+            }
+            return methods;
+        });
+    }
+
+    private ClassFile.MethodInfo inheritedMethod(ClassFile type, String signature, Set<String> visited) {
+        for (String supertypeName : directSupertypes(type)) {
+            ClassFile supertype = newClasses.get(supertypeName);
+            if (supertype != null && visited.add(supertypeName)) {
+                ClassFile.MethodInfo method = methods(supertype).get(signature);
+                if (method == null) {
+                    method = inheritedMethod(supertype, signature, visited);
+                }
+                if (method != null) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ClassFile.FieldInfo inheritedField(ClassFile type, String fieldName, Set<String> visited) {
+        for (String supertypeName : directSupertypes(type)) {
+            ClassFile supertype = newClasses.get(supertypeName);
+            if (supertype != null && visited.add(supertypeName)) {
+                ClassFile.FieldInfo field = supertype.field(fieldName);
+                if (field == null) {
+                    field = inheritedField(supertype, fieldName, visited);
+                }
+                if (field != null) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names of all supertypes of the given class that can be found by following the supertypes in the same
+     * set of classes.
+     */
+    private static Set<String> supertypes(Map<String, ClassFile> classes, ClassFile type) {
+        Set<String> supertypes = new LinkedHashSet<>();
+        List<ClassFile> pending = new ArrayList<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            for (String supertypeName : directSupertypes(pending.remove(pending.size() - 1))) {
+                if (supertypes.add(supertypeName)) {
+                    ClassFile supertype = classes.get(supertypeName);
+                    if (supertype != null) {
+                        pending.add(supertype);
+                    }
+                }
+            }
+        }
+        return supertypes;
+    }
+
+    private static List<String> directSupertypes(ClassFile type) {
+        if (type.getSuperName() == null) {
+            return type.getInterfaceNames();
+        }
+        List<String> supertypes = new ArrayList<>(type.getInterfaceNames().size() + 1);
+        supertypes.add(type.getSuperName());
+        supertypes.addAll(type.getInterfaceNames());
+        return supertypes;
+    }
+
+    private void report(Kind kind, String description) {
+        changes.get(kind).add(description);
+    }
+
+    private static boolean isApi(int modifiers) {
+        return access(modifiers) >= access(Modifier.PROTECTED)
+                && ((modifiers & ACC_SYNTHETIC) == 0 || (modifiers & ClassFileReader.ACC_BRIDGE) != 0);
+    }
+
+    private static int access(int modifiers) {
+        if (Modifier.isPublic(modifiers)) {
+            return 3;
+        }
+        if (Modifier.isProtected(modifiers)) {
+            return 2;
+        }
+        return Modifier.isPrivate(modifiers) ? 0 : 1;
+    }
+
+    private static String describeAccess(int modifiers) {
+        if (Modifier.isPublic(modifiers)) {
+            return "public";
+        }
+        if (Modifier.isProtected(modifiers)) {
+            return "protected";
+        }
+        return Modifier.isPrivate(modifiers) ? "private" : MemberModifierShouldBe.PACKAGE_PRIVATE;
+    }
+}
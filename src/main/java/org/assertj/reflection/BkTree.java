@@ -0,0 +1,194 @@
+package org.assertj.reflection;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A Burkhard-Keller tree of names, to find the names within a given edit distance of a misspelled one without
+ * comparing it with every name.
+ * <p>
+ * Each child of a node is stored under its edit distance to that node. Because the edit distance is a metric, a
+ * search for names within distance {@code t} of a query at distance {@code d} of a node only needs to visit the
+ * children stored under {@code d - t} to {@code d + t}. For a small tolerance, a search visits a small fraction of
+ * the tree, even for classes with thousands of members.
+ */
+final class BkTree {
+    private final Node root;
+
+    BkTree(Collection<String> names) {
+        Node root = null;
+        for (String name : names) {
+            if (root == null) {
+                root = new Node(name);
+            } else {
+                root.add(name);
+            }
+        }
+        this.root = root;
+    }
+
+    /**
+     * Passes each name within the given edit distance of the query, with its distance, to the consumer.
+     */
+    void search(String query, int tolerance, ObjIntConsumer<String> consumer) {
+        if (root == null) {
+            return;
+        }
+        Distance distances = new Distance(query);
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distances.to(node.name);
+            if (distance <= tolerance) {
+                consumer.accept(node.name, distance);
+            }
+            for (int i = 0; i < node.childCount; i++) {
+                if (Math.abs(node.distances[i] - distance) <= tolerance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between two names: the number of single-character insertions, deletions and
+     * substitutions that turn one into the other.
+     */
+    static int distance(String a, String b) {
+        return new Distance(a).to(b);
+    }
+
+    /**
+     * Computes the edit distances from one name to others. For names of at most 64 ASCII characters, which covers
+     * nearly all member names, this uses the bit-parallel algorithm of Myers, as formulated by Hyyrö: the column of the
+     * dynamic programming table is kept as bit vectors of the vertical deltas, and updated with a handful of word
+     * operations per character of the other name. Other names fall back to filling the table row by row.
+     */
+    private static final class Distance {
+        private static final int ALPHABET = 128;
+
+        private final String pattern;
+        private final long[] matches;
+
+        Distance(String pattern) {
+            this.pattern = pattern;
+            this.matches = isBitParallel(pattern) ? new long[ALPHABET] : null;
+            if (matches != null) {
+                for (int i = 0; i < pattern.length(); i++) {
+                    matches[pattern.charAt(i)] |= 1L << i;
+                }
+            }
+        }
+
+        private static boolean isBitParallel(String pattern) {
+            if (pattern.isEmpty() || pattern.length() > Long.SIZE) {
+                return false;
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                if (pattern.charAt(i) >= ALPHABET) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int to(String text) {
+            if (matches == null) {
+                return fill(pattern, text);
+            }
+            long last = 1L << (pattern.length() - 1);
+            long positive = -1L;
+            long negative = 0L;
+            int distance = pattern.length();
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                long equal = c < ALPHABET ? matches[c] : 0L;
+                long vertical = equal | negative;
+                long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+                long positiveHorizontal = negative | ~(horizontal | positive);
+                long negativeHorizontal = positive & horizontal;
+                if ((positiveHorizontal & last) != 0) {
+                    distance++;
+                } else if ((negativeHorizontal & last) != 0) {
+                    distance--;
+                }
+                positiveHorizontal = (positiveHorizontal << 1) | 1L;
+                negativeHorizontal <<= 1;
+                positive = negativeHorizontal | ~(vertical | positiveHorizontal);
+                negative = positiveHorizontal & vertical;
+            }
+            return distance;
+        }
+
+        private static int fill(String a, String b) {
+            int[] previous = new int[b.length() + 1];
+            int[] current = new int[b.length() + 1];
+            for (int j = 0; j <= b.length(); j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                char c = a.charAt(i - 1);
+                for (int j = 1; j <= b.length(); j++) {
+                    int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                    current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                }
+                int[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+            return previous[b.length()];
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        void add(String name) {
+            Distance distances = new Distance(name);
+            Node node = this;
+            while (true) {
+                int distance = distances.to(node.name);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.child(distance);
+                if (child == null) {
+                    node.addChild(distance, new Node(name));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        private Node child(int distance) {
+            for (int i = 0; i < childCount; i++) {
+                if (distances[i] == distance) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            if (childCount == children.length) {
+                int capacity = Math.max(4, childCount * 2);
+                distances = Arrays.copyOf(distances, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            distances[childCount] = distance;
+            children[childCount++] = child;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.assertj.reflection;
+
+/**
+ * Snapshot of the hit and miss counts of one of the reflection caches used by the assertions in this library.
+ * A snapshot is immutable; call the factory method again to get up-to-date numbers.
+ */
+public final class CacheStatistics {
+    private final String name;
+    private final long hits;
+    private final long misses;
+
+    /**
+     * Creates a new {@link CacheStatistics}.
+     *
+     * @param name   The name of the cache.
+     * @param hits   The number of lookups that were served from the cache.
+     * @param misses The number of lookups that had to populate the cache.
+     */
+    CacheStatistics(String name, long hits, long misses) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Returns the statistics of the member index, which backs the declared member lookups of {@link ClassAssert}.
+     * A miss means that the declared members of a class had to be read through reflection,
+     * a hit means that a previously built index was reused.
+     *
+     * @return The current statistics of the member index.
+     */
+    public static CacheStatistics ofMemberIndex() {
+        return MemberIndex.statistics();
+    }
+
+    /**
+     * Returns the name of the cache these statistics belong to.
+     *
+     * @return The name of the cache.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of lookups that were served from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to populate the cache.
+     *
+     * @return The number of cache misses.
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the total number of lookups.
+     *
+     * @return The sum of hits and misses.
+     */
+    public long lookups() {
+        return hits + misses;
+    }
+
+    /**
+     * Returns the fraction of lookups that were served from the cache.
+     *
+     * @return The hit rate, between {@code 0.0} and {@code 1.0}, or {@code 0.0} if no lookups were made.
+     */
+    public double hitRate() {
+        long lookups = lookups();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[hits=%d, misses=%d, hitRate=%.2f]", name, hits, misses, hitRate());
+    }
+}
@@ -1,18 +1,29 @@
 package org.assertj.reflection;
 
-import org.assertj.core.api.AbstractAssert;
-
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Assertions for the {@link Class} type.
+ * <p>
+ * Lookups for members with no or a single parameter have fixed-arity overloads, so that a passing assertion does not
+ * allocate a parameter array. For more parameters, pass an array that is created once and reused.
  */
-public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
+public class ClassAssert extends AbstractReflectionAssert<ClassAssert, Class<?>> {
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+    private VerificationCache cache;
 
     /**
      * Creates a new {@link ClassAssert}.
@@ -33,6 +44,25 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
         return hasDeclaredConstructor(parameterTypes, null);
     }
 
+    /**
+     * Verifies that the {@link Class} has a declared constructor with no arguments.
+     *
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredConstructor() {
+        return hasDeclaredConstructor(NO_PARAMETERS, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a declared constructor with a single argument.
+     *
+     * @param parameterType The type of the constructor argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredConstructor(Class<?> parameterType) {
+        return hasDeclaredConstructor(parameterType, null);
+    }
+
     /**
      * Verifies that the {@link Class} has a declared constructor with no arguments.
      *
@@ -41,7 +71,7 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredConstructor(Consumer<ConstructorAssert> constructorAssertConsumer) {
-        return hasDeclaredConstructor(new Class[0], constructorAssertConsumer);
+        return hasDeclaredConstructor(NO_PARAMETERS, constructorAssertConsumer);
     }
 
     /**
@@ -53,7 +83,20 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredConstructor(Class<?> parameterType, Consumer<ConstructorAssert> constructorAssertConsumer) {
-        return hasDeclaredConstructor(new Class[]{parameterType}, constructorAssertConsumer);
+        return instrumented("hasDeclaredConstructor", parameterType, parameterType, constructorAssertConsumer,
+                ClassAssert::checkHasDeclaredConstructor);
+    }
+
+    private ClassAssert checkHasDeclaredConstructor(Class<?> parameterType,
+                                                    Consumer<ConstructorAssert> constructorAssertConsumer) {
+        Constructor<?> constructor = MemberIndex.of(actual).constructor(parameterType);
+        if (constructor == null) {
+            return fail(noSuchConstructor(new Class<?>[]{parameterType}));
+        }
+        if (constructorAssertConsumer != null) {
+            constructorAssertConsumer.accept(nested(constructor));
+        }
+        return this;
     }
 
     /**
@@ -65,21 +108,20 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredConstructor(Class<?>[] parameterTypes, Consumer<ConstructorAssert> constructorAssertConsumer) {
-        isNotNull();
-        try {
-            Constructor<?> constructor = actual.getDeclaredConstructor(parameterTypes);
-            if (constructorAssertConsumer != null) {
-                constructorAssertConsumer.accept(new ConstructorAssert(constructor));
-            }
-            return this;
-        } catch (NoSuchMethodException e) {
-            String parameterDescriptor = Arrays.stream(parameterTypes)
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
+        return instrumented("hasDeclaredConstructor", parameterTypes, parameterTypes, constructorAssertConsumer,
+                ClassAssert::checkHasDeclaredConstructor);
+    }
 
-            throw failure("Expected %s to have declared constructor %s(%s) but no such constructor exists",
-                    actual.getName(), actual.getSimpleName(), parameterDescriptor);
+    private ClassAssert checkHasDeclaredConstructor(Class<?>[] parameterTypes,
+                                                    Consumer<ConstructorAssert> constructorAssertConsumer) {
+        Constructor<?> constructor = MemberIndex.of(actual).constructor(parameterTypes);
+        if (constructor == null) {
+            return fail(noSuchConstructor(parameterTypes));
+        }
+        if (constructorAssertConsumer != null) {
+            constructorAssertConsumer.accept(nested(constructor));
         }
+        return this;
     }
 
     /**
@@ -89,18 +131,44 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasNoDeclaredConstructor(Class<?>... parameterTypes) {
-        isNotNull();
-        try {
-            Constructor<?> constructor = actual.getDeclaredConstructor(parameterTypes);
-            String parameterDescriptor = Arrays.stream(parameterTypes)
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
-
-            throw failure("Expected %s not to have declared constructor %s(%s) but found %s",
-                    actual.getName(), actual.getSimpleName(), parameterDescriptor, constructor.toString());
-        } catch (NoSuchMethodException e) {
-            return this;
+        return instrumented("hasNoDeclaredConstructor", parameterTypes, parameterTypes,
+                ClassAssert::checkHasNoDeclaredConstructor);
+    }
+
+    private ClassAssert checkHasNoDeclaredConstructor(Class<?>[] parameterTypes) {
+        Constructor<?> constructor = MemberIndex.of(actual).constructor(parameterTypes);
+        if (constructor != null) {
+            return fail(failure("Expected %s not to have declared constructor %s(%s) but found %s",
+                    actual.getName(), actual.getSimpleName(), parameterDescriptor(parameterTypes), constructor.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} does not have a declared constructor with no arguments.
+     *
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoDeclaredConstructor() {
+        return hasNoDeclaredConstructor(NO_PARAMETERS);
+    }
+
+    /**
+     * Verifies that the {@link Class} does not have a declared constructor with a single argument.
+     *
+     * @param parameterType The type of the constructor argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoDeclaredConstructor(Class<?> parameterType) {
+        return instrumented("hasNoDeclaredConstructor", parameterType, parameterType,
+                ClassAssert::checkHasNoDeclaredConstructor);
+    }
+
+    private ClassAssert checkHasNoDeclaredConstructor(Class<?> parameterType) {
+        if (MemberIndex.of(actual).constructor(parameterType) != null) {
+            return hasNoDeclaredConstructor(new Class<?>[]{parameterType});
         }
+        return this;
     }
 
     /**
@@ -122,17 +190,21 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredField(String fieldName, Consumer<FieldAssert> fieldAssertConsumer) {
-        isNotNull();
-        try {
-            Field field = actual.getDeclaredField(fieldName);
-            if (fieldAssertConsumer != null) {
-                fieldAssertConsumer.accept(new FieldAssert(field));
-            }
-            return this;
-        } catch (NoSuchFieldException e) {
-            throw failure("Expected %s to have declared field %s but no such field exists",
-                    actual.getName(), fieldName);
+        return instrumented("hasDeclaredField", fieldName, fieldName, fieldAssertConsumer,
+                ClassAssert::checkHasDeclaredField);
+    }
+
+    private ClassAssert checkHasDeclaredField(String fieldName, Consumer<FieldAssert> fieldAssertConsumer) {
+        Field field = MemberIndex.of(actual).field(fieldName);
+        if (field == null) {
+            return fail(failure("Expected %s to have declared field %s but no such field exists%s",
+                    actual.getName(), fieldName,
+                    Suggestions.didYouMean(MemberIndex.of(actual).suggestions().fields(fieldName))));
+        }
+        if (fieldAssertConsumer != null) {
+            fieldAssertConsumer.accept(nested(field));
         }
+        return this;
     }
 
     /**
@@ -142,14 +214,16 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasNoDeclaredField(String fieldName) {
-        isNotNull();
-        try {
-            Field field = actual.getDeclaredField(fieldName);
-            throw failure("Expected %s not to have declared field %s but found %s",
-                    actual.getName(), fieldName, field.toString());
-        } catch (NoSuchFieldException e) {
-            return this;
+        return instrumented("hasNoDeclaredField", fieldName, fieldName, ClassAssert::checkHasNoDeclaredField);
+    }
+
+    private ClassAssert checkHasNoDeclaredField(String fieldName) {
+        Field field = MemberIndex.of(actual).field(fieldName);
+        if (field != null) {
+            return fail(failure("Expected %s not to have declared field %s but found %s",
+                    actual.getName(), fieldName, field.toString()));
         }
+        return this;
     }
 
     /**
@@ -163,6 +237,27 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
         return hasDeclaredMethod(methodName, parameterTypes, null);
     }
 
+    /**
+     * Verifies that the {@link Class} has a declared method with the given name and no arguments.
+     *
+     * @param methodName The name of the declared method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredMethod(String methodName) {
+        return hasDeclaredMethod(methodName, NO_PARAMETERS, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a declared method with the given name and a single argument.
+     *
+     * @param methodName    The name of the declared method.
+     * @param parameterType The type of the declared method argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredMethod(String methodName, Class<?> parameterType) {
+        return hasDeclaredMethod(methodName, parameterType, null);
+    }
+
     /**
      * Verifies that the {@link Class} has a declared method with the given name and no arguments.
      *
@@ -172,7 +267,7 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredMethod(String methodName, Consumer<MethodAssert> methodAssertConsumer) {
-        return hasDeclaredMethod(methodName, new Class[0], methodAssertConsumer);
+        return hasDeclaredMethod(methodName, NO_PARAMETERS, methodAssertConsumer);
     }
 
     /**
@@ -185,7 +280,20 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredMethod(String methodName, Class<?> parameterType, Consumer<MethodAssert> methodAssertConsumer) {
-        return hasDeclaredMethod(methodName, new Class[]{parameterType}, methodAssertConsumer);
+        return instrumented("hasDeclaredMethod", methodName, methodName, parameterType, methodAssertConsumer,
+                ClassAssert::checkHasDeclaredMethod);
+    }
+
+    private ClassAssert checkHasDeclaredMethod(String methodName, Class<?> parameterType,
+                                               Consumer<MethodAssert> methodAssertConsumer) {
+        Method method = MemberIndex.of(actual).method(methodName, parameterType);
+        if (method == null) {
+            return fail(noSuchMethod(methodName, new Class<?>[]{parameterType}));
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(method));
+        }
+        return this;
     }
 
     /**
@@ -198,21 +306,20 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasDeclaredMethod(String methodName, Class<?>[] parameterTypes, Consumer<MethodAssert> methodAssertConsumer) {
-        isNotNull();
-        try {
-            Method method = actual.getDeclaredMethod(methodName, parameterTypes);
-            if (methodAssertConsumer != null) {
-                methodAssertConsumer.accept(new MethodAssert(method));
-            }
-            return this;
-        } catch (NoSuchMethodException e) {
-            String parameterDescriptor = Arrays.stream(parameterTypes)
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
+        return instrumented("hasDeclaredMethod", methodName, methodName, parameterTypes, methodAssertConsumer,
+                ClassAssert::checkHasDeclaredMethod);
+    }
 
-            throw failure("Expected %s to have declared method %s(%s) but no such method exists",
-                    actual.getName(), methodName, parameterDescriptor);
+    private ClassAssert checkHasDeclaredMethod(String methodName, Class<?>[] parameterTypes,
+                                               Consumer<MethodAssert> methodAssertConsumer) {
+        Method method = MemberIndex.of(actual).method(methodName, parameterTypes);
+        if (method == null) {
+            return fail(noSuchMethod(methodName, parameterTypes));
         }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(method));
+        }
+        return this;
     }
 
     /**
@@ -223,17 +330,651 @@ public class ClassAssert extends AbstractAssert<ClassAssert, Class<?>> {
      * @return this {@link ClassAssert} instance.
      */
     public ClassAssert hasNoDeclaredMethod(String methodName, Class<?>... parameterTypes) {
-        isNotNull();
+        return instrumented("hasNoDeclaredMethod", methodName, methodName, parameterTypes,
+                ClassAssert::checkHasNoDeclaredMethod);
+    }
+
+    private ClassAssert checkHasNoDeclaredMethod(String methodName, Class<?>[] parameterTypes) {
+        Method method = MemberIndex.of(actual).method(methodName, parameterTypes);
+        if (method != null) {
+            return fail(failure("Expected %s not to have declared method %s(%s) but found %s",
+                    actual.getName(), methodName, parameterDescriptor(parameterTypes), method.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} does not have a declared method with the given name and no arguments.
+     *
+     * @param methodName The name of the declared method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoDeclaredMethod(String methodName) {
+        return hasNoDeclaredMethod(methodName, NO_PARAMETERS);
+    }
+
+    /**
+     * Verifies that the {@link Class} does not have a declared method with the given name and a single argument.
+     *
+     * @param methodName    The name of the declared method.
+     * @param parameterType The type of the declared method argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoDeclaredMethod(String methodName, Class<?> parameterType) {
+        return instrumented("hasNoDeclaredMethod", methodName, methodName, parameterType,
+                ClassAssert::checkHasNoDeclaredMethod);
+    }
+
+    private ClassAssert checkHasNoDeclaredMethod(String methodName, Class<?> parameterType) {
+        if (MemberIndex.of(actual).method(methodName, parameterType) != null) {
+            return hasNoDeclaredMethod(methodName, new Class<?>[]{parameterType});
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} has at least one declared method with the given name, regardless of its
+     * parameters.
+     *
+     * @param methodName The name of the declared method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredMethodNamed(String methodName) {
+        return instrumented("hasDeclaredMethodNamed", methodName, methodName, ClassAssert::checkHasDeclaredMethodNamed);
+    }
+
+    private ClassAssert checkHasDeclaredMethodNamed(String methodName) {
+        if (MemberIndex.of(actual).methods(methodName).length == 0) {
+            return fail(failure("Expected %s to have declared method named %s but no such method exists%s",
+                    actual.getName(), methodName,
+                    Suggestions.didYouMean(MemberIndex.of(actual).suggestions().methods(methodName, null))));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} has at least one declared method with the given name and number of parameters,
+     * regardless of their types.
+     *
+     * @param methodName The name of the declared method.
+     * @param arity      The number of parameters of the declared method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredMethodNamed(String methodName, int arity) {
+        return hasDeclaredMethodNamed(methodName, arity, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has at least one declared method with the given name and number of parameters,
+     * regardless of their types. The consumer is invoked for each of the matching overloads:
+     * <pre><code class='java'>
+     * assertThat(Range.class).hasDeclaredMethodNamed("of", 2, method -&gt; method.isStatic().hasReturnType(Range.class));
+     * </code></pre>
+     *
+     * @param methodName           The name of the declared method.
+     * @param arity                The number of parameters of the declared method.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert} for each matched
+     *                             method, to perform additional assertions on it.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasDeclaredMethodNamed(String methodName, int arity, Consumer<MethodAssert> methodAssertConsumer) {
+        return instrumented("hasDeclaredMethodNamed", methodName, methodName, arity, methodAssertConsumer,
+                ClassAssert::checkHasDeclaredMethodNamed);
+    }
+
+    private ClassAssert checkHasDeclaredMethodNamed(String methodName, int arity,
+                                                    Consumer<MethodAssert> methodAssertConsumer) {
+        Method[] overloads = MemberIndex.of(actual).methods(methodName);
+        boolean found = false;
+        for (Method method : overloads) {
+            if (method.getParameterCount() == arity) {
+                found = true;
+                if (methodAssertConsumer != null) {
+                    methodAssertConsumer.accept(nested(method));
+                }
+            }
+        }
+        if (!found) {
+            return fail(failure("Expected %s to have declared method %s with %d parameter%s but %s",
+                    actual.getName(), methodName, arity, arity == 1 ? "" : "s",
+                    describeOverloads(methodName, overloads)));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} does not have any declared method with the given name.
+     *
+     * @param methodName The name of the declared method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoDeclaredMethodNamed(String methodName) {
+        return instrumented("hasNoDeclaredMethodNamed", methodName, methodName,
+                ClassAssert::checkHasNoDeclaredMethodNamed);
+    }
+
+    private ClassAssert checkHasNoDeclaredMethodNamed(String methodName) {
+        Method[] overloads = MemberIndex.of(actual).methods(methodName);
+        if (overloads.length > 0) {
+            return fail(failure("Expected %s not to have declared method named %s but found %s",
+                    actual.getName(), methodName, describeMethods(overloads)));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} has a field with the given name, either declared or inherited from one of its
+     * superclasses or interfaces. Private fields of supertypes are not inherited.
+     *
+     * @param fieldName The name of the field.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasField(String fieldName) {
+        return hasField(fieldName, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a field with the given name, either declared or inherited from one of its
+     * superclasses or interfaces. Private fields of supertypes are not inherited.
+     *
+     * @param fieldName           The name of the field.
+     * @param fieldAssertConsumer Consumer that is invoked with an instance of {@link FieldAssert},
+     *                            to perform additional assertions on the matched field.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasField(String fieldName, Consumer<FieldAssert> fieldAssertConsumer) {
+        return instrumented("hasField", fieldName, fieldName, fieldAssertConsumer, ClassAssert::checkHasField);
+    }
+
+    private ClassAssert checkHasField(String fieldName, Consumer<FieldAssert> fieldAssertConsumer) {
+        Field field = MemberIndex.of(actual).hierarchy().field(fieldName);
+        if (field == null) {
+            return fail(failure("Expected %s to have field %s but no such field is declared or inherited%s",
+                    actual.getName(), fieldName,
+                    Suggestions.didYouMean(MemberIndex.of(actual).hierarchy().suggestions().fields(fieldName))));
+        }
+        if (fieldAssertConsumer != null) {
+            fieldAssertConsumer.accept(nested(field).memberOf(actual));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and argument types, either declared or
+     * inherited from one of its superclasses or interfaces. Private methods of supertypes are not inherited, and an
+     * overridden method is matched in its most specific declaration.
+     *
+     * @param methodName     The name of the method.
+     * @param parameterTypes The types of the method arguments.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName, Class<?>... parameterTypes) {
+        return hasMethod(methodName, parameterTypes, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and no arguments, either declared or inherited.
+     *
+     * @param methodName The name of the method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName) {
+        return hasMethod(methodName, NO_PARAMETERS, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and a single argument, either declared or
+     * inherited.
+     *
+     * @param methodName    The name of the method.
+     * @param parameterType The type of the method argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName, Class<?> parameterType) {
+        return hasMethod(methodName, parameterType, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and no arguments, either declared or inherited.
+     * <pre><code class='java'>
+     * assertThat(Connection.class).hasMethod("close", MethodAssert::isPublic);
+     * </code></pre>
+     *
+     * @param methodName           The name of the method.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName, Consumer<MethodAssert> methodAssertConsumer) {
+        return hasMethod(methodName, NO_PARAMETERS, methodAssertConsumer);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and a single argument, either declared or
+     * inherited.
+     *
+     * @param methodName           The name of the method.
+     * @param parameterType        The type of the method argument.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName, Class<?> parameterType, Consumer<MethodAssert> methodAssertConsumer) {
+        return instrumented("hasMethod", methodName, methodName, parameterType, methodAssertConsumer,
+                ClassAssert::checkHasMethod);
+    }
+
+    private ClassAssert checkHasMethod(String methodName, Class<?> parameterType,
+                                       Consumer<MethodAssert> methodAssertConsumer) {
+        Method method = MemberIndex.of(actual).hierarchy().method(methodName, parameterType);
+        if (method == null) {
+            return fail(noSuchInheritedMethod(methodName, new Class<?>[]{parameterType}));
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(method).memberOf(actual));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} has a method with the given name and multiple arguments, either declared or
+     * inherited.
+     *
+     * @param methodName           The name of the method.
+     * @param parameterTypes       The types of the method arguments.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasMethod(String methodName, Class<?>[] parameterTypes, Consumer<MethodAssert> methodAssertConsumer) {
+        return instrumented("hasMethod", methodName, methodName, parameterTypes, methodAssertConsumer,
+                ClassAssert::checkHasMethod);
+    }
+
+    private ClassAssert checkHasMethod(String methodName, Class<?>[] parameterTypes,
+                                       Consumer<MethodAssert> methodAssertConsumer) {
+        Method method = MemberIndex.of(actual).hierarchy().method(methodName, parameterTypes);
+        if (method == null) {
+            return fail(noSuchInheritedMethod(methodName, parameterTypes));
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(method).memberOf(actual));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} neither declares nor inherits a method with the given name and argument types.
+     *
+     * @param methodName     The name of the method.
+     * @param parameterTypes The types of the method arguments.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoMethod(String methodName, Class<?>... parameterTypes) {
+        return instrumented("hasNoMethod", methodName, methodName, parameterTypes, ClassAssert::checkHasNoMethod);
+    }
+
+    private ClassAssert checkHasNoMethod(String methodName, Class<?>[] parameterTypes) {
+        Method method = MemberIndex.of(actual).hierarchy().method(methodName, parameterTypes);
+        if (method != null) {
+            return fail(failure("Expected %s not to have method %s(%s) but found %s",
+                    actual.getName(), methodName, parameterDescriptor(parameterTypes), method.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} neither declares nor inherits a method with the given name and no arguments.
+     *
+     * @param methodName The name of the method.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoMethod(String methodName) {
+        return hasNoMethod(methodName, NO_PARAMETERS);
+    }
+
+    /**
+     * Verifies that the {@link Class} neither declares nor inherits a method with the given name and a single argument.
+     *
+     * @param methodName    The name of the method.
+     * @param parameterType The type of the method argument.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoMethod(String methodName, Class<?> parameterType) {
+        return instrumented("hasNoMethod", methodName, methodName, parameterType, ClassAssert::checkHasNoMethod);
+    }
+
+    private ClassAssert checkHasNoMethod(String methodName, Class<?> parameterType) {
+        if (MemberIndex.of(actual).hierarchy().method(methodName, parameterType) != null) {
+            return hasNoMethod(methodName, new Class<?>[]{parameterType});
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} is the given type or one of its subtypes, like
+     * {@code supertype.isAssignableFrom(actual)}. Subtype checks are bit tests against the supertypes of the class,
+     * which are computed once per class, so checking many classes against many supertypes stays cheap.
+     *
+     * @param supertype The expected supertype.
+     * @return this {@link ClassAssert} instance.
+     * @throws IllegalArgumentException if the given supertype is {@code null}.
+     */
+    public ClassAssert isSubtypeOf(Class<?> supertype) {
+        return instrumented("isSubtypeOf", null, supertype, ClassAssert::checkIsSubtypeOf);
+    }
+
+    private ClassAssert checkIsSubtypeOf(Class<?> supertype) {
+        if (supertype == null) {
+            throw new IllegalArgumentException("The given supertype should not be null");
+        }
+        if (!TypeHierarchy.isSubtype(actual, supertype)) {
+            return fail(failure("Expected %s to be a subtype of %s but it is not", actual.getName(), supertype.getName()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} is neither the given type nor one of its subtypes.
+     *
+     * @param supertype The type that is not expected to be a supertype.
+     * @return this {@link ClassAssert} instance.
+     * @throws IllegalArgumentException if the given supertype is {@code null}.
+     */
+    public ClassAssert isNotSubtypeOf(Class<?> supertype) {
+        return instrumented("isNotSubtypeOf", null, supertype, ClassAssert::checkIsNotSubtypeOf);
+    }
+
+    private ClassAssert checkIsNotSubtypeOf(Class<?> supertype) {
+        if (supertype == null) {
+            throw new IllegalArgumentException("The given supertype should not be null");
+        }
+        if (TypeHierarchy.isSubtype(actual, supertype)) {
+            return fail(failure("Expected %s not to be a subtype of %s but it is", actual.getName(), supertype.getName()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} implements the given interface, directly or through one of its supertypes. An
+     * interface implements the interfaces that it extends, but not itself.
+     *
+     * @param interfaceType The expected interface.
+     * @return this {@link ClassAssert} instance.
+     * @throws IllegalArgumentException if the given type is {@code null} or not an interface.
+     */
+    public ClassAssert implementsInterface(Class<?> interfaceType) {
+        return instrumented("implementsInterface", null, interfaceType, ClassAssert::checkImplementsInterface);
+    }
+
+    private ClassAssert checkImplementsInterface(Class<?> interfaceType) {
+        if (interfaceType == null) {
+            throw new IllegalArgumentException("The given interface should not be null");
+        }
+        if (!interfaceType.isInterface()) {
+            throw new IllegalArgumentException(interfaceType.getName() + " is not an interface");
+        }
+        if (actual == interfaceType || !TypeHierarchy.isSubtype(actual, interfaceType)) {
+            return fail(failure("Expected %s to implement %s but it does not", actual.getName(),
+                    interfaceType.getName()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} is annotated with the given annotation type, either directly or, if the
+     * annotation type is {@link java.lang.annotation.Inherited}, through a superclass.
+     *
+     * @param annotationType The type of the annotation.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasAnnotation(Class<? extends Annotation> annotationType) {
+        return hasAnnotation(annotationType, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} is annotated with the given annotation type.
+     *
+     * @param annotationType     The type of the annotation.
+     * @param annotationConsumer Consumer that is invoked with the annotation, to perform additional assertions on its
+     *                           attributes.
+     * @param <A>                The type of the annotation.
+     * @return this {@link ClassAssert} instance.
+     */
+    public <A extends Annotation> ClassAssert hasAnnotation(Class<A> annotationType, Consumer<? super A> annotationConsumer) {
+        return hasAnnotation(actual, annotationType, annotationConsumer);
+    }
+
+    /**
+     * Verifies that the {@link Class} is not annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasNoAnnotation(Class<? extends Annotation> annotationType) {
+        return hasNoAnnotation(actual, annotationType);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a JavaBeans property with the given name and type, which means that it
+     * declares a getter, a setter or a backing field for it. See {@link Property} for how these are resolved.
+     *
+     * @param propertyName The name of the property.
+     * @param propertyType The type of the property.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasProperty(String propertyName, Class<?> propertyType) {
+        return hasProperty(propertyName, propertyType, null);
+    }
+
+    /**
+     * Verifies that the {@link Class} has a JavaBeans property with the given name and type, which means that it
+     * declares a getter, a setter or a backing field for it. See {@link Property} for how these are resolved.
+     * <pre><code class='java'>
+     * assertThat(Sample.class).hasProperty("foo", String.class, property -&gt; property
+     *         .hasPublicGetter()
+     *         .hasPublicSetter()
+     *         .hasPrivateField());
+     * </code></pre>
+     *
+     * @param propertyName           The name of the property.
+     * @param propertyType           The type of the property.
+     * @param propertyAssertConsumer Consumer that is invoked with an instance of {@link PropertyAssert},
+     *                               to perform additional assertions on the matched property.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert hasProperty(String propertyName, Class<?> propertyType,
+                                   Consumer<PropertyAssert> propertyAssertConsumer) {
+        return instrumented("hasProperty", propertyName, propertyName, propertyType, propertyAssertConsumer,
+                ClassAssert::checkHasProperty);
+    }
+
+    private ClassAssert checkHasProperty(String propertyName, Class<?> propertyType,
+                                         Consumer<PropertyAssert> propertyAssertConsumer) {
+        Property property = MemberIndex.of(actual).property(propertyName, propertyType);
+        if (!property.exists()) {
+            return fail(failure("Expected %s to have property %s of type %s but it declares no getter, setter or field "
+                    + "for it", actual.getName(), propertyName, propertyType.getTypeName()));
+        }
+        if (propertyAssertConsumer != null) {
+            propertyAssertConsumer.accept(nested(property));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the visible API of the {@link Class}, which is the class itself and its public and protected
+     * declared fields, constructors and methods, matches the snapshot in the given file. The snapshot lists the
+     * generic signatures of the API in sorted order, after a header with a 64-bit fingerprint of them:
+     * <pre><code class='java'>
+     * assertThatClassesIn("com.acme.api").allSatisfy(type -&gt; type
+     *         .matchesApiSnapshot(Paths.get("src/test/resources/api", type.getName() + ".api")));
+     * </code></pre>
+     * The snapshot of a class is computed once, and a matching file is recognized from the fingerprint in its first
+     * line. Only if the fingerprints differ is the rest of the file read, line by line, to report the signatures that
+     * were added and removed.
+     * <p>
+     * If the file does not exist, the current API is written to it and the assertion fails, so that the new snapshot
+     * can be reviewed and committed. To accept a change of the API, delete the snapshot and run the assertion again.
+     *
+     * @param snapshotFile The path to the snapshot file.
+     * @return this {@link ClassAssert} instance.
+     * @throws UncheckedIOException if the file cannot be read or written.
+     */
+    public ClassAssert matchesApiSnapshot(Path snapshotFile) {
+        return instrumented("matchesApiSnapshot", null, snapshotFile, ClassAssert::checkMatchesApiSnapshot);
+    }
+
+    private ClassAssert checkMatchesApiSnapshot(Path snapshotFile) {
+        ApiSnapshot snapshot = MemberIndex.of(actual).apiSnapshot();
         try {
-            Method method = actual.getDeclaredMethod(methodName, parameterTypes);
-            String parameterDescriptor = Arrays.stream(parameterTypes)
-                    .map(Class::getName)
-                    .collect(Collectors.joining(","));
-
-            throw failure("Expected %s not to have declared method %s(%s) but found %s",
-                    actual.getName(), methodName, parameterDescriptor, method.toString());
-        } catch (NoSuchMethodException e) {
+            if (!Files.exists(snapshotFile)) {
+                snapshot.write(snapshotFile);
+                return fail(failure("Expected %s to match the API snapshot %s but it did not exist, so the current API "
+                        + "has been written to it", actual.getName(), snapshotFile));
+            }
+            Long fingerprint = ApiSnapshot.readFingerprint(snapshotFile);
+            if (fingerprint != null && fingerprint == snapshot.fingerprint()) {
+                return this;
+            }
+            List<String> diff = snapshot.diff(snapshotFile);
+            if (diff.isEmpty()) {
+                return fail(failure("Expected %s to match the API snapshot %s but its header is missing or out of date",
+                        actual.getName(), snapshotFile));
+            }
+            return fail(failure("Expected %s to match the API snapshot %s but the API changed:%n%s",
+                    actual.getName(), snapshotFile, String.join(System.lineSeparator(), diff)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read or write API snapshot " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Verifies that the {@link Class} has the same shape as the given class: the same modifiers, supertypes, declared
+     * fields, constructors and methods, with the same generic types and modifiers, e.g. to check that a new version of
+     * a code generator produces the same classes:
+     * <pre><code class='java'>
+     * assertThat(com.acme.generated.v2.Order.class).hasSameShapeAs(com.acme.generated.v1.Order.class);
+     * </code></pre>
+     * References to the classes themselves, and to their nested classes, are compared regardless of their names. Any
+     * other type is compared by name. Synthetic members and annotations are not compared.
+     * <p>
+     * The members of each class are sorted once, and the members of both classes are then compared in a single pass.
+     * All members that were added, removed or changed are reported at once.
+     *
+     * @param other The class with the expected shape.
+     * @return this {@link ClassAssert} instance.
+     * @throws IllegalArgumentException if the given class is {@code null}.
+     */
+    public ClassAssert hasSameShapeAs(Class<?> other) {
+        return instrumented("hasSameShapeAs", other == null ? null : other.getName(), other,
+                ClassAssert::checkHasSameShapeAs);
+    }
+
+    private ClassAssert checkHasSameShapeAs(Class<?> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The given class should not be null");
+        }
+        ClassShape shape = MemberIndex.of(actual).shape();
+        ClassShape expected = MemberIndex.of(other).shape();
+        if (shape.matches(expected)) {
             return this;
         }
+
+        Map<String, List<String>> diff = ClassShape.diff(shape, expected);
+
+        StringBuilder report = new StringBuilder();
+        int count = 0;
+        for (Map.Entry<String, List<String>> kind : diff.entrySet()) {
+            report.append(String.format("%n  %s:", kind.getKey()));
+            for (String member : kind.getValue()) {
+                report.append(String.format("%n    %s", member));
+            }
+            count += kind.getValue().size();
+        }
+        return fail(failure("Expected %s to have the same shape as %s but found %d difference%s:%s",
+                actual.getName(), other.getName(), count, count == 1 ? "" : "s", report));
+    }
+
+    /**
+     * Skips {@link #satisfies(ClassSpec)} if the class file of the {@link Class} satisfied the same spec before,
+     * as recorded in the given cache.
+     *
+     * @param cache The cache of classes that satisfied a spec.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert usingCache(VerificationCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Class} satisfies all requirements of the given spec. The declared members are checked
+     * in a single pass, and all unmet requirements are reported together.
+     *
+     * @param spec The requirements on the declared members.
+     * @return this {@link ClassAssert} instance.
+     */
+    public ClassAssert satisfies(ClassSpec spec) {
+        return instrumented("satisfies", null, spec, ClassAssert::checkSatisfies);
+    }
+
+    private ClassAssert checkSatisfies(ClassSpec spec) {
+        VerificationCache.Key key = cache == null ? null : VerificationCache.key(actual, spec);
+        if (key != null && cache.contains(key)) {
+            return this;
+        }
+        List<String> violations = spec.violations(MemberIndex.of(actual));
+        if (!violations.isEmpty()) {
+            return fail(failure("Expected %s to satisfy the given spec but %d %s not met:%n  %s", actual.getName(),
+                    violations.size(), violations.size() == 1 ? "requirement was" : "requirements were",
+                    String.join(String.format("%n  "), violations)));
+        }
+        if (key != null) {
+            cache.add(key);
+        }
+        return this;
+    }
+
+    private AssertionError noSuchConstructor(Class<?>[] parameterTypes) {
+        return failure("Expected %s to have declared constructor %s(%s) but no such constructor exists%s",
+                actual.getName(), actual.getSimpleName(), parameterDescriptor(parameterTypes),
+                Suggestions.didYouMean(MemberIndex.of(actual).suggestions().constructors(parameterTypes)));
+    }
+
+    private AssertionError noSuchMethod(String methodName, Class<?>[] parameterTypes) {
+        return failure("Expected %s to have declared method %s(%s) but no such method exists%s",
+                actual.getName(), methodName, parameterDescriptor(parameterTypes),
+                Suggestions.didYouMean(MemberIndex.of(actual).suggestions().methods(methodName, parameterTypes)));
+    }
+
+    private AssertionError noSuchInheritedMethod(String methodName, Class<?>[] parameterTypes) {
+        return failure("Expected %s to have method %s(%s) but no such method is declared or inherited%s",
+                actual.getName(), methodName, parameterDescriptor(parameterTypes), Suggestions.didYouMean(
+                        MemberIndex.of(actual).hierarchy().suggestions().methods(methodName, parameterTypes)));
+    }
+
+    private String describeOverloads(String methodName, Method[] overloads) {
+        if (overloads.length > 0) {
+            return "found only " + describeMethods(overloads);
+        }
+        return "no such method exists"
+                + Suggestions.didYouMean(MemberIndex.of(actual).suggestions().methods(methodName, null));
+    }
+
+    private static String describeMethods(Method[] methods) {
+        return Arrays.stream(methods)
+                .map(method -> method.getName() + "(" + parameterDescriptor(method.getParameterTypes()) + ")")
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String parameterDescriptor(Class<?>[] parameterTypes) {
+        if (parameterTypes == null) {
+            return "";
+        }
+        return Arrays.stream(parameterTypes)
+                .map(Class::getName)
+                .collect(Collectors.joining(","));
     }
 }
@@ -0,0 +1,348 @@
+package org.assertj.reflection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The declarations read from a {@code .class} file, without loading the class it describes.
+ * <p>
+ * Only the parts that are needed for assertions are kept: the access flags, the names of the class, its superclass and
+ * its interfaces, the name, descriptor and access flags of every declared field and method, and the exceptions declared
+ * by each method.
+ * Bytecode and other attributes are skipped while reading.
+ */
+public final class ClassFile {
+    private final String name;
+    private final String superName;
+    private final List<String> interfaceNames;
+    private final int accessFlags;
+    private final List<FieldInfo> fields;
+    private final List<MethodInfo> methods;
+
+    ClassFile(String name, String superName, List<String> interfaceNames, int accessFlags,
+              List<FieldInfo> fields, List<MethodInfo> methods) {
+        this.name = name;
+        this.superName = superName;
+        this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        this.accessFlags = accessFlags;
+        this.fields = Collections.unmodifiableList(fields);
+        this.methods = Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * Reads a class file from disk.
+     *
+     * @param path The path to the {@code .class} file.
+     * @return The parsed class file.
+     * @throws UncheckedIOException     if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a valid class file.
+     */
+    public static ClassFile read(Path path) {
+        try {
+            return read(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read class file " + path, e);
+        }
+    }
+
+    /**
+     * Reads a class file from a byte array.
+     *
+     * @param bytes The contents of the class file.
+     * @return The parsed class file.
+     * @throws IllegalArgumentException if the bytes do not form a valid class file.
+     */
+    public static ClassFile read(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads a class file from the remaining bytes of a buffer. The position of the buffer is not modified.
+     *
+     * @param buffer The contents of the class file.
+     * @return The parsed class file.
+     * @throws IllegalArgumentException if the bytes do not form a valid class file.
+     */
+    public static ClassFile read(ByteBuffer buffer) {
+        return new ClassFileReader(buffer).read();
+    }
+
+    /**
+     * Returns the binary name of the class, e.g. {@code java.util.Map$Entry}.
+     *
+     * @return The name of the class.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the binary name of the superclass.
+     *
+     * @return The name of the superclass, or {@code null} for {@code java.lang.Object} and module descriptors.
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * Returns the binary names of the directly implemented interfaces, in declaration order.
+     *
+     * @return The names of the interfaces.
+     */
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    /**
+     * Returns the access flags of the class. For nested classes these are the flags recorded in the
+     * {@code InnerClasses} attribute, matching {@link Class#getModifiers()}.
+     *
+     * @return The access flags of the class.
+     */
+    public int getModifiers() {
+        return accessFlags;
+    }
+
+    /**
+     * Returns the declared fields, in declaration order.
+     *
+     * @return The declared fields.
+     */
+    public List<FieldInfo> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the declared methods and constructors, in declaration order.
+     * Constructors are named {@code <init>}, the static initializer is named {@code <clinit>}.
+     *
+     * @return The declared methods.
+     */
+    public List<MethodInfo> getMethods() {
+        return methods;
+    }
+
+    FieldInfo field(String fieldName) {
+        for (FieldInfo field : fields) {
+            if (field.getName().equals(fieldName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks up a method by name and parameter descriptor, e.g. {@code (ILjava/lang/String;)}.
+     * If several methods match, which happens for bridge methods, the one that is not a bridge is preferred.
+     */
+    MethodInfo method(String methodName, String parameterDescriptor) {
+        MethodInfo found = null;
+        for (MethodInfo method : methods) {
+            if (method.getName().equals(methodName) && method.getDescriptor().startsWith(parameterDescriptor)) {
+                if (found == null || (found.getModifiers() & ClassFileReader.ACC_BRIDGE) != 0) {
+                    found = method;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A field declared in a class file.
+     */
+    public static final class FieldInfo {
+        private final String declaringClassName;
+        private final int accessFlags;
+        private final String name;
+        private final String descriptor;
+
+        FieldInfo(String declaringClassName, int accessFlags, String name, String descriptor) {
+            this.declaringClassName = declaringClassName;
+            this.accessFlags = accessFlags;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        /**
+         * Returns the binary name of the class that declares this field.
+         *
+         * @return The name of the declaring class.
+         */
+        public String getDeclaringClassName() {
+            return declaringClassName;
+        }
+
+        /**
+         * Returns the access flags of the field.
+         *
+         * @return The access flags.
+         */
+        public int getModifiers() {
+            return accessFlags;
+        }
+
+        /**
+         * Returns the name of the field.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the field descriptor, e.g. {@code Ljava/lang/String;}.
+         *
+         * @return The descriptor.
+         */
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Returns the name of the field type, in the same format as {@link Class#getTypeName()}.
+         *
+         * @return The type name.
+         */
+        public String getTypeName() {
+            return Descriptors.toTypeName(descriptor, 0);
+        }
+
+        /**
+         * Formats the field like {@link java.lang.reflect.Field#toString()} does.
+         */
+        @Override
+        public String toString() {
+            String modifiers = Modifier.toString(accessFlags & Modifier.fieldModifiers());
+            return (modifiers.isEmpty() ? "" : modifiers + " ") + getTypeName() + " " + declaringClassName + "." + name;
+        }
+    }
+
+    /**
+     * A method or constructor declared in a class file.
+     */
+    public static final class MethodInfo {
+        private final String declaringClassName;
+        private final int accessFlags;
+        private final String name;
+        private final String descriptor;
+        private final List<String> exceptionTypeNames;
+
+        MethodInfo(String declaringClassName, int accessFlags, String name, String descriptor,
+                   List<String> exceptionTypeNames) {
+            this.declaringClassName = declaringClassName;
+            this.accessFlags = accessFlags;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.exceptionTypeNames = Collections.unmodifiableList(exceptionTypeNames);
+        }
+
+        /**
+         * Returns the binary name of the class that declares this method.
+         *
+         * @return The name of the declaring class.
+         */
+        public String getDeclaringClassName() {
+            return declaringClassName;
+        }
+
+        /**
+         * Returns the access flags of the method.
+         *
+         * @return The access flags.
+         */
+        public int getModifiers() {
+            return accessFlags;
+        }
+
+        /**
+         * Returns the name of the method, or {@code <init>} for constructors.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the method descriptor, e.g. {@code (ILjava/lang/String;)V}.
+         *
+         * @return The descriptor.
+         */
+        public String getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Returns whether this is a constructor.
+         *
+         * @return {@code true} if the method is named {@code <init>}.
+         */
+        public boolean isConstructor() {
+            return "<init>".equals(name);
+        }
+
+        /**
+         * Returns the name of the return type, in the same format as {@link Class#getTypeName()}.
+         *
+         * @return The return type name.
+         */
+        public String getReturnTypeName() {
+            return Descriptors.toTypeName(descriptor, descriptor.indexOf(')') + 1);
+        }
+
+        /**
+         * Returns the names of the parameter types, in the same format as {@link Class#getTypeName()}.
+         *
+         * @return The parameter type names.
+         */
+        public List<String> getParameterTypeNames() {
+            return Descriptors.parameterTypeNames(descriptor);
+        }
+
+        /**
+         * Returns the binary names of the declared exception types, in declaration order.
+         *
+         * @return The declared exception type names.
+         */
+        public List<String> getExceptionTypeNames() {
+            return exceptionTypeNames;
+        }
+
+        /**
+         * Formats the method like {@link java.lang.reflect.Method#toString()} and
+         * {@link java.lang.reflect.Constructor#toString()} do.
+         */
+        @Override
+        public String toString() {
+            String modifiers = Modifier.toString(accessFlags
+                    & (isConstructor() ? Modifier.constructorModifiers() : Modifier.methodModifiers()));
+            StringBuilder builder = new StringBuilder();
+            if (!modifiers.isEmpty()) {
+                builder.append(modifiers).append(' ');
+            }
+            if (isConstructor()) {
+                builder.append(declaringClassName);
+            } else {
+                builder.append(getReturnTypeName()).append(' ').append(declaringClassName).append('.').append(name);
+            }
+            builder.append('(').append(String.join(",", getParameterTypeNames())).append(')');
+            if (!exceptionTypeNames.isEmpty()) {
+                builder.append(" throws ").append(String.join(",", exceptionTypeNames));
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.assertj.reflection;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions for a {@code .class} file, read with {@link ClassFile} instead of being loaded by a class loader.
+ * <p>
+ * Because the class is never loaded, linked or initialized, these assertions do not run static initializers and do
+ * not use metaspace for the class under test. Field and return types can also be given as type names,
+ * so that the types involved do not need to be loaded either.
+ */
+public class ClassFileAssert extends AbstractReflectionAssert<ClassFileAssert, ClassFile> {
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+    /**
+     * Creates a new {@link ClassFileAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected ClassFileAssert(ClassFile actual) {
+        super(actual, ClassFileAssert.class);
+    }
+
+    /**
+     * Verifies that the class file declares a constructor with the given argument types.
+     *
+     * @param parameterTypes The types of the constructor arguments.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredConstructor(Class<?>... parameterTypes) {
+        return hasDeclaredConstructor(parameterTypes, null);
+    }
+
+    /**
+     * Verifies that the class file declares a constructor with no arguments.
+     *
+     * @param constructorAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                                  to perform additional assertions on the matched constructor.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredConstructor(Consumer<ClassFileMethodAssert> constructorAssertConsumer) {
+        return hasDeclaredConstructor(NO_PARAMETERS, constructorAssertConsumer);
+    }
+
+    /**
+     * Verifies that the class file declares a constructor with a single argument.
+     *
+     * @param parameterType             The type of the constructor argument.
+     * @param constructorAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                                  to perform additional assertions on the matched constructor.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredConstructor(Class<?> parameterType, Consumer<ClassFileMethodAssert> constructorAssertConsumer) {
+        return hasDeclaredConstructor(new Class<?>[]{parameterType}, constructorAssertConsumer);
+    }
+
+    /**
+     * Verifies that the class file declares a constructor with multiple arguments.
+     *
+     * @param parameterTypes            The types of the constructor arguments.
+     * @param constructorAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                                  to perform additional assertions on the matched constructor.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredConstructor(Class<?>[] parameterTypes, Consumer<ClassFileMethodAssert> constructorAssertConsumer) {
+        return instrumented("hasDeclaredConstructor", parameterTypes, parameterTypes, constructorAssertConsumer,
+                ClassFileAssert::checkHasDeclaredConstructor);
+    }
+
+    private ClassFileAssert checkHasDeclaredConstructor(Class<?>[] parameterTypes,
+                                                        Consumer<ClassFileMethodAssert> constructorAssertConsumer) {
+        ClassFile.MethodInfo constructor = actual.method("<init>", Descriptors.parameters(parameterTypes));
+        if (constructor == null) {
+            return fail(failure("Expected %s to have declared constructor %s(%s) but no such constructor exists",
+                    actual.getName(), simpleName(), parameterDescriptor(parameterTypes)));
+        }
+        if (constructorAssertConsumer != null) {
+            constructorAssertConsumer.accept(nested(constructor));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the class file does not declare a constructor with the given argument types.
+     *
+     * @param parameterTypes The types of the constructor arguments.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasNoDeclaredConstructor(Class<?>... parameterTypes) {
+        return instrumented("hasNoDeclaredConstructor", parameterTypes, parameterTypes,
+                ClassFileAssert::checkHasNoDeclaredConstructor);
+    }
+
+    private ClassFileAssert checkHasNoDeclaredConstructor(Class<?>[] parameterTypes) {
+        ClassFile.MethodInfo constructor = actual.method("<init>", Descriptors.parameters(parameterTypes));
+        if (constructor != null) {
+            return fail(failure("Expected %s not to have declared constructor %s(%s) but found %s",
+                    actual.getName(), simpleName(), parameterDescriptor(parameterTypes), constructor.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the class file declares a field with the given name.
+     *
+     * @param fieldName The name of the declared field.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredField(String fieldName) {
+        return hasDeclaredField(fieldName, null);
+    }
+
+    /**
+     * Verifies that the class file declares a field with the given name.
+     *
+     * @param fieldName           The name of the declared field.
+     * @param fieldAssertConsumer Consumer that is invoked with an instance of {@link ClassFileFieldAssert},
+     *                            to perform additional assertions on the matched field.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredField(String fieldName, Consumer<ClassFileFieldAssert> fieldAssertConsumer) {
+        return instrumented("hasDeclaredField", fieldName, fieldName, fieldAssertConsumer,
+                ClassFileAssert::checkHasDeclaredField);
+    }
+
+    private ClassFileAssert checkHasDeclaredField(String fieldName,
+                                                  Consumer<ClassFileFieldAssert> fieldAssertConsumer) {
+        ClassFile.FieldInfo field = actual.field(fieldName);
+        if (field == null) {
+            return fail(failure("Expected %s to have declared field %s but no such field exists",
+                    actual.getName(), fieldName));
+        }
+        if (fieldAssertConsumer != null) {
+            fieldAssertConsumer.accept(nested(field));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the class file does not declare a field with the given name.
+     *
+     * @param fieldName The name of the declared field.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasNoDeclaredField(String fieldName) {
+        return instrumented("hasNoDeclaredField", fieldName, fieldName, ClassFileAssert::checkHasNoDeclaredField);
+    }
+
+    private ClassFileAssert checkHasNoDeclaredField(String fieldName) {
+        ClassFile.FieldInfo field = actual.field(fieldName);
+        if (field != null) {
+            return fail(failure("Expected %s not to have declared field %s but found %s",
+                    actual.getName(), fieldName, field.toString()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the class file declares a method with the given name and argument types.
+     *
+     * @param methodName     The name of the declared method.
+     * @param parameterTypes The types of the declared method arguments.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredMethod(String methodName, Class<?>... parameterTypes) {
+        return hasDeclaredMethod(methodName, parameterTypes, null);
+    }
+
+    /**
+     * Verifies that the class file declares a method with the given name and no arguments.
+     *
+     * @param methodName           The name of the declared method.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredMethod(String methodName, Consumer<ClassFileMethodAssert> methodAssertConsumer) {
+        return hasDeclaredMethod(methodName, NO_PARAMETERS, methodAssertConsumer);
+    }
+
+    /**
+     * Verifies that the class file declares a method with the given name and a single argument.
+     *
+     * @param methodName           The name of the declared method.
+     * @param parameterType        The type of the declared method argument.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredMethod(String methodName, Class<?> parameterType, Consumer<ClassFileMethodAssert> methodAssertConsumer) {
+        return hasDeclaredMethod(methodName, new Class<?>[]{parameterType}, methodAssertConsumer);
+    }
+
+    /**
+     * Verifies that the class file declares a method with the given name and multiple arguments.
+     *
+     * @param methodName           The name of the declared method.
+     * @param parameterTypes       The types of the declared method arguments.
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link ClassFileMethodAssert},
+     *                             to perform additional assertions on the matched method.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasDeclaredMethod(String methodName, Class<?>[] parameterTypes, Consumer<ClassFileMethodAssert> methodAssertConsumer) {
+        return instrumented("hasDeclaredMethod", methodName, methodName, parameterTypes, methodAssertConsumer,
+                ClassFileAssert::checkHasDeclaredMethod);
+    }
+
+    private ClassFileAssert checkHasDeclaredMethod(String methodName, Class<?>[] parameterTypes,
+                                                   Consumer<ClassFileMethodAssert> methodAssertConsumer) {
+        ClassFile.MethodInfo method = actual.method(methodName, Descriptors.parameters(parameterTypes));
+        if (method == null) {
+            return fail(failure("Expected %s to have declared method %s(%s) but no such method exists",
+                    actual.getName(), methodName, parameterDescriptor(parameterTypes)));
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(method));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the class file does not declare a method with the given name and argument types.
+     *
+     * @param methodName     The name of the declared method.
+     * @param parameterTypes The types of the declared method arguments.
+     * @return this {@link ClassFileAssert} instance.
+     */
+    public ClassFileAssert hasNoDeclaredMethod(String methodName, Class<?>... parameterTypes) {
+        return instrumented("hasNoDeclaredMethod", methodName, methodName, parameterTypes,
+                ClassFileAssert::checkHasNoDeclaredMethod);
+    }
+
+    private ClassFileAssert checkHasNoDeclaredMethod(String methodName, Class<?>[] parameterTypes) {
+        ClassFile.MethodInfo method = actual.method(methodName, Descriptors.parameters(parameterTypes));
+        if (method != null) {
+            return fail(failure("Expected %s not to have declared method %s(%s) but found %s",
+                    actual.getName(), methodName, parameterDescriptor(parameterTypes), method.toString()));
+        }
+        return this;
+    }
+
+    private String simpleName() {
+        String name = actual.getName();
+        return name.substring(Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1);
+    }
+
+    private static String parameterDescriptor(Class<?>[] parameterTypes) {
+        if (parameterTypes == null) {
+            return "";
+        }
+        return Arrays.stream(parameterTypes)
+                .map(Class::getName)
+                .collect(Collectors.joining(","));
+    }
+}
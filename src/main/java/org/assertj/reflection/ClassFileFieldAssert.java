@@ -0,0 +1,201 @@
+package org.assertj.reflection;
+
+import static org.assertj.reflection.MemberModifierShouldBe.shouldHaveModifiers;
+
+/**
+ * Assertions for a field read from a class file, see {@link ClassFileAssert}.
+ */
+public class ClassFileFieldAssert extends AbstractReflectionAssert<ClassFileFieldAssert, ClassFile.FieldInfo> {
+
+    /**
+     * Creates a new {@link ClassFileFieldAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected ClassFileFieldAssert(ClassFile.FieldInfo actual) {
+        super(actual, ClassFileFieldAssert.class);
+    }
+
+    /**
+     * Verifies that the field is <em>public</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isPublic() {
+        return hasModifiers(ModifierFlag.PUBLIC.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>public</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotPublic() {
+        return hasModifiers(ModifierFlag.PUBLIC.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field is <em>protected</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isProtected() {
+        return hasModifiers(ModifierFlag.PROTECTED.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>protected</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotProtected() {
+        return hasModifiers(ModifierFlag.PROTECTED.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field is <em>private</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isPrivate() {
+        return hasModifiers(ModifierFlag.PRIVATE.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>private</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotPrivate() {
+        return hasModifiers(ModifierFlag.PRIVATE.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field is <em>package-private</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isPackagePrivate() {
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>package-private</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotPackagePrivate() {
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field is <em>static</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isStatic() {
+        return hasModifiers(ModifierFlag.STATIC.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>static</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotStatic() {
+        return hasModifiers(ModifierFlag.STATIC.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field is <em>final</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isFinal() {
+        return hasModifiers(ModifierFlag.FINAL.spec());
+    }
+
+    /**
+     * Verifies that the field is not <em>final</em>.
+     *
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert isNotFinal() {
+        return hasModifiers(ModifierFlag.FINAL.negatedSpec());
+    }
+
+    /**
+     * Verifies that the field has all the given modifiers, and possibly others.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert hasModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.of(flags));
+    }
+
+    /**
+     * Verifies that the field has the given modifiers and no others.
+     * If no access level is given, the field must be <em>package-private</em>.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert hasExactlyModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.exactly(flags));
+    }
+
+    /**
+     * Verifies that the modifiers of the field match the given spec.
+     * All mismatched modifiers are reported at once.
+     *
+     * @param spec The spec to match.
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert hasModifiers(ModifierSpec spec) {
+        return instrumented("hasModifiers", null, spec, ClassFileFieldAssert::checkHasModifiers);
+    }
+
+    private ClassFileFieldAssert checkHasModifiers(ModifierSpec spec) {
+        int modifiers = actual.getModifiers();
+        MemberKind kind = MemberKind.FIELD;
+        if (!spec.matches(modifiers, kind)) {
+            return fail(assertionError(shouldHaveModifiers(actual.toString(), modifiers, kind, spec)));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the field has the expected type.
+     *
+     * @param expected The expected type.
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert hasType(Class<?> expected) {
+        return hasDescriptor(Descriptors.of(expected), expected.getTypeName());
+    }
+
+    /**
+     * Verifies that the field has the expected type, without loading that type.
+     *
+     * @param expectedTypeName The expected type name, in the format of {@link Class#getTypeName()},
+     *                         e.g. {@code java.lang.String[]} or {@code java.util.Map$Entry}.
+     * @return This {@link ClassFileFieldAssert} instance.
+     */
+    public ClassFileFieldAssert hasType(String expectedTypeName) {
+        return hasDescriptor(Descriptors.ofTypeName(expectedTypeName), expectedTypeName);
+    }
+
+    private ClassFileFieldAssert hasDescriptor(String expectedDescriptor, String expectedTypeName) {
+        return instrumented("hasType", null, expectedDescriptor, expectedTypeName, ClassFileFieldAssert::checkHasType);
+    }
+
+    private ClassFileFieldAssert checkHasType(String expectedDescriptor, String expectedTypeName) {
+        if (!actual.getDescriptor().equals(expectedDescriptor)) {
+            return fail(failureWithActualExpected(actual.getTypeName(), expectedTypeName,
+                    "Expected %s to have type %s but was %s", actual, expectedTypeName, actual.getTypeName()));
+        }
+        return this;
+    }
+
+}
@@ -0,0 +1,135 @@
+package org.assertj.reflection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Loads the classes of a directory of class files or of a jar file, see
+ * {@link ReflectionAssertions#assertThatClassesIn(Path)}, without keeping any file open: the class files of a jar are
+ * read into memory and the jar is closed right away, and those of a directory are read when their class is loaded.
+ * Unlike a {@link java.net.URLClassLoader}, it therefore never needs to be closed.
+ * <p>
+ * Classes are loaded from the parent first, as usual. Besides classes, the loader only finds the class files
+ * themselves as resources, e.g. for {@link VerificationCache}.
+ */
+final class ClassFileLoader extends ClassLoader {
+    private static final String CLASS_SUFFIX = ".class";
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Path directory;
+    private final Map<String, byte[]> jarEntries;
+    private final Set<String> packages = ConcurrentHashMap.newKeySet();
+
+    private ClassFileLoader(Path directory, Map<String, byte[]> jarEntries, ClassLoader parent) {
+        super(parent);
+        this.directory = directory;
+        this.jarEntries = jarEntries;
+    }
+
+    /**
+     * Creates a loader for the given directory or jar, reading all class files of a jar at once.
+     *
+     * @throws UncheckedIOException if the jar cannot be read.
+     */
+    static ClassFileLoader of(Path jarOrDirectory, ClassLoader parent) {
+        if (Files.isDirectory(jarOrDirectory)) {
+            return new ClassFileLoader(jarOrDirectory, null, parent);
+        }
+        return new ClassFileLoader(null, readClassFiles(jarOrDirectory), parent);
+    }
+
+    private static Map<String, byte[]> readClassFiles(Path jar) {
+        Map<String, byte[]> classFiles = new HashMap<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().endsWith(CLASS_SUFFIX)) {
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        classFiles.put(entry.getName(), readAll(in));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + jar, e);
+        }
+        return classFiles;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] classFile;
+        try {
+            classFile = classFile(name.replace('.', '/') + CLASS_SUFFIX);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+        if (classFile == null) {
+            throw new ClassNotFoundException(name);
+        }
+        definePackageOf(name);
+        return defineClass(name, classFile, 0, classFile.length);
+    }
+
+    /**
+     * Defines the package of a class before the class itself, as Java 8 does not do so in
+     * {@link #defineClass(String, byte[], int, int)}.
+     */
+    private void definePackageOf(String className) {
+        int end = className.lastIndexOf('.');
+        if (end > 0 && packages.add(className.substring(0, end))) {
+            try {
+                definePackage(className.substring(0, end), null, null, null, null, null, null, null);
+            } catch (IllegalArgumentException e) {
+                // Already defined by a parent
+            }
+        }
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        InputStream in = super.getResourceAsStream(name);
+        if (in != null || !name.endsWith(CLASS_SUFFIX)) {
+            return in;
+        }
+        try {
+            byte[] classFile = classFile(name);
+            return classFile == null ? null : new ByteArrayInputStream(classFile);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private byte[] classFile(String path) throws IOException {
+        if (jarEntries != null) {
+            return jarEntries.get(path);
+        }
+        Path file = directory.resolve(path);
+        return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+    }
+}
@@ -0,0 +1,188 @@
+package org.assertj.reflection;
+
+import static org.assertj.reflection.MemberModifierShouldBe.shouldHaveModifiers;
+
+/**
+ * Assertions for a method or constructor read from a class file, see {@link ClassFileAssert}.
+ */
+public class ClassFileMethodAssert extends AbstractReflectionAssert<ClassFileMethodAssert, ClassFile.MethodInfo> {
+
+    /**
+     * Creates a new {@link ClassFileMethodAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected ClassFileMethodAssert(ClassFile.MethodInfo actual) {
+        super(actual, ClassFileMethodAssert.class);
+    }
+
+    /**
+     * Verifies that the method is <em>public</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isPublic() {
+        return hasModifiers(ModifierFlag.PUBLIC.spec());
+    }
+
+    /**
+     * Verifies that the method is not <em>public</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isNotPublic() {
+        return hasModifiers(ModifierFlag.PUBLIC.negatedSpec());
+    }
+
+    /**
+     * Verifies that the method is <em>protected</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isProtected() {
+        return hasModifiers(ModifierFlag.PROTECTED.spec());
+    }
+
+    /**
+     * Verifies that the method is not <em>protected</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isNotProtected() {
+        return hasModifiers(ModifierFlag.PROTECTED.negatedSpec());
+    }
+
+    /**
+     * Verifies that the method is <em>private</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isPrivate() {
+        return hasModifiers(ModifierFlag.PRIVATE.spec());
+    }
+
+    /**
+     * Verifies that the method is not <em>private</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isNotPrivate() {
+        return hasModifiers(ModifierFlag.PRIVATE.negatedSpec());
+    }
+
+    /**
+     * Verifies that the method is <em>package-private</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isPackagePrivate() {
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.spec());
+    }
+
+    /**
+     * Verifies that the method is not <em>package-private</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isNotPackagePrivate() {
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.negatedSpec());
+    }
+
+    /**
+     * Verifies that the method is <em>static</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isStatic() {
+        return hasModifiers(ModifierFlag.STATIC.spec());
+    }
+
+    /**
+     * Verifies that the method is not <em>static</em>.
+     *
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert isNotStatic() {
+        return hasModifiers(ModifierFlag.STATIC.negatedSpec());
+    }
+
+    /**
+     * Verifies that the method has all the given modifiers, and possibly others.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert hasModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.of(flags));
+    }
+
+    /**
+     * Verifies that the method has the given modifiers and no others.
+     * If no access level is given, the method must be <em>package-private</em>.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert hasExactlyModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.exactly(flags));
+    }
+
+    /**
+     * Verifies that the modifiers of the method match the given spec.
+     * All mismatched modifiers are reported at once.
+     *
+     * @param spec The spec to match.
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert hasModifiers(ModifierSpec spec) {
+        return instrumented("hasModifiers", null, spec, ClassFileMethodAssert::checkHasModifiers);
+    }
+
+    private ClassFileMethodAssert checkHasModifiers(ModifierSpec spec) {
+        int modifiers = actual.getModifiers();
+        MemberKind kind = MemberKind.of(actual);
+        if (!spec.matches(modifiers, kind)) {
+            return fail(assertionError(shouldHaveModifiers(actual.toString(), modifiers, kind, spec)));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the method has the expected return type.
+     *
+     * @param expected The expected return type.
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert hasReturnType(Class<?> expected) {
+        return hasReturnDescriptor(Descriptors.of(expected), expected.getTypeName());
+    }
+
+    /**
+     * Verifies that the method has the expected return type, without loading that type.
+     *
+     * @param expectedTypeName The expected type name, in the format of {@link Class#getTypeName()},
+     *                         e.g. {@code void}, {@code java.lang.String[]} or {@code java.util.Map$Entry}.
+     * @return This {@link ClassFileMethodAssert} instance.
+     */
+    public ClassFileMethodAssert hasReturnType(String expectedTypeName) {
+        return hasReturnDescriptor(Descriptors.ofTypeName(expectedTypeName), expectedTypeName);
+    }
+
+    private ClassFileMethodAssert hasReturnDescriptor(String expectedDescriptor, String expectedTypeName) {
+        return instrumented("hasReturnType", null, expectedDescriptor, expectedTypeName,
+                ClassFileMethodAssert::checkHasReturnType);
+    }
+
+    private ClassFileMethodAssert checkHasReturnType(String expectedDescriptor, String expectedTypeName) {
+        String descriptor = actual.getDescriptor();
+        int returnTypeStart = descriptor.indexOf(')') + 1;
+        if (descriptor.length() - returnTypeStart != expectedDescriptor.length()
+                || !descriptor.regionMatches(returnTypeStart, expectedDescriptor, 0, expectedDescriptor.length())) {
+            return fail(failureWithActualExpected(actual.getReturnTypeName(), expectedTypeName,
+                    "Expected %s to have return type %s but was %s", actual, expectedTypeName,
+                    actual.getReturnTypeName()));
+        }
+        return this;
+    }
+
+}
@@ -0,0 +1,254 @@
+package org.assertj.reflection;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-pass reader for the class file format (JVMS §4).
+ * <p>
+ * The constant pool is only indexed while reading; UTF-8 entries are decoded on first use,
+ * so strings that belong to bytecode or skipped attributes are never materialized.
+ * Method bodies and all attributes other than {@code Exceptions} and {@code InnerClasses} are skipped without being
+ * parsed.
+ */
+final class ClassFileReader {
+    static final int ACC_BRIDGE = 0x0040;
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final ByteBuffer buffer;
+    private int position;
+    private int[] offsets;
+    private String[] strings;
+
+    ClassFileReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    ClassFile read() {
+        try {
+            return readClassFile();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or malformed class file", e);
+        }
+    }
+
+    private ClassFile readClassFile() {
+        if (u4() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file: invalid magic number");
+        }
+        position += 4; // minor_version, major_version
+        readConstantPool();
+
+        int accessFlags = u2();
+        int thisClass = u2();
+        String name = className(thisClass);
+        int superClass = u2();
+        String superName = superClass == 0 ? null : className(superClass);
+
+        int interfaceCount = u2();
+        List<String> interfaceNames = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(className(u2()));
+        }
+
+        int fieldCount = u2();
+        List<ClassFile.FieldInfo> fields = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            int fieldAccessFlags = u2();
+            String fieldName = utf8(u2());
+            String descriptor = utf8(u2());
+            skipAttributes();
+            fields.add(new ClassFile.FieldInfo(name, fieldAccessFlags, fieldName, descriptor));
+        }
+
+        int methodCount = u2();
+        List<ClassFile.MethodInfo> methods = new ArrayList<>(methodCount);
+        for (int i = 0; i < methodCount; i++) {
+            int methodAccessFlags = u2();
+            String methodName = utf8(u2());
+            String descriptor = utf8(u2());
+            List<String> exceptionNames = readExceptions();
+            methods.add(new ClassFile.MethodInfo(name, methodAccessFlags, methodName, descriptor, exceptionNames));
+        }
+
+        int attributeCount = u2();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(u2());
+            int length = u4();
+            int end = position + length;
+            if ("InnerClasses".equals(attributeName)) {
+                accessFlags = innerClassAccessFlags(thisClass, accessFlags);
+            }
+            position = end;
+        }
+
+        return new ClassFile(name, superName, interfaceNames, accessFlags, fields, methods);
+    }
+
+    private void readConstantPool() {
+        int count = u2();
+        offsets = new int[count];
+        strings = new String[count];
+        for (int index = 1; index < count; index++) {
+            int tag = u1();
+            offsets[index] = position;
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    int length = u2();
+                    position += length;
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    position += 2;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    position += 3;
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    position += 4;
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    position += 8;
+                    index++; // 8-byte constants take up two entries
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid constant pool tag " + tag + " at entry " + index);
+            }
+        }
+    }
+
+    /**
+     * Returns the access flags recorded for this class in the {@code InnerClasses} attribute,
+     * or the given flags if this class is not a nested class.
+     */
+    private int innerClassAccessFlags(int thisClass, int accessFlags) {
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            int innerClass = u2();
+            position += 4; // outer_class_info_index, inner_name_index
+            int innerAccessFlags = u2();
+            if (innerClass == thisClass) {
+                return innerAccessFlags;
+            }
+        }
+        return accessFlags;
+    }
+
+    /**
+     * Reads the {@code Exceptions} attribute of a method and skips all other attributes, including its code.
+     */
+    private List<String> readExceptions() {
+        List<String> exceptionNames = Collections.emptyList();
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            String attributeName = utf8(u2());
+            int length = u4();
+            int end = position + length;
+            if ("Exceptions".equals(attributeName)) {
+                int exceptionCount = u2();
+                exceptionNames = new ArrayList<>(exceptionCount);
+                for (int j = 0; j < exceptionCount; j++) {
+                    exceptionNames.add(className(u2()));
+                }
+            }
+            position = end;
+        }
+        return exceptionNames;
+    }
+
+    private void skipAttributes() {
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            position += 2; // attribute_name_index
+            int length = u4();
+            position += length;
+        }
+    }
+
+    private String className(int index) {
+        return Descriptors.binaryName(utf8(buffer.getShort(offsets[index]) & 0xFFFF));
+    }
+
+    private String utf8(int index) {
+        String value = strings[index];
+        if (value == null) {
+            value = decodeUtf8(offsets[index]);
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes a modified UTF-8 string (JVMS §4.4.7) that starts with its two-byte length at the given offset.
+     */
+    private String decodeUtf8(int offset) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int index = offset + 2;
+        int end = index + length;
+        char[] chars = new char[length];
+        int count = 0;
+        while (index < end) {
+            int b = buffer.get(index++) & 0xFF;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[count++] = (char) (((b & 0x1F) << 6) | (buffer.get(index++) & 0x3F));
+            } else {
+                int b2 = buffer.get(index++) & 0x3F;
+                int b3 = buffer.get(index++) & 0x3F;
+                chars[count++] = (char) (((b & 0x0F) << 12) | (b2 << 6) | b3);
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    private int u1() {
+        return buffer.get(position++) & 0xFF;
+    }
+
+    private int u2() {
+        int value = buffer.getShort(position) & 0xFFFF;
+        position += 2;
+        return value;
+    }
+
+    private int u4() {
+        int value = buffer.getInt(position);
+        position += 4;
+        return value;
+    }
+}
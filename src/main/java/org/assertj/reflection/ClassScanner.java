@@ -0,0 +1,164 @@
+package org.assertj.reflection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Discovers the names of the classes in a package, directory or jar.
+ * <p>
+ * Directories are walked with one fork-join task per directory and separate classpath roots are scanned in
+ * parallel. Class names are returned sorted, so that the result does not depend on the order of the file system or
+ * of the scheduling. Classes are not loaded by the scanner.
+ */
+final class ClassScanner {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClassScanner() {
+    }
+
+    /**
+     * Returns the names of all classes in the given package and its subpackages, in all classpath roots visible to the
+     * class loader.
+     */
+    static List<String> classNamesInPackage(String packageName, ClassLoader classLoader) {
+        String packagePath = packageName.replace('.', '/');
+        List<URL> roots;
+        try {
+            roots = Collections.list(classLoader.getResources(packagePath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to find package " + packageName, e);
+        }
+
+        return roots.parallelStream()
+                .flatMap(root -> classNamesAt(root, packagePath).stream())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the names of all classes in a directory of class files or in a jar file.
+     */
+    static List<String> classNamesIn(Path jarOrDirectory) {
+        List<String> names = Files.isDirectory(jarOrDirectory)
+                ? classNamesInDirectory(jarOrDirectory, jarOrDirectory)
+                : classNamesInJar(jarOrDirectory, "");
+        Collections.sort(names);
+        return names;
+    }
+
+    private static List<String> classNamesAt(URL root, String packagePath) {
+        try {
+            if ("file".equals(root.getProtocol())) {
+                Path directory = Paths.get(root.toURI());
+                Path classpathRoot = directory;
+                for (int depth = packagePath.isEmpty() ? 0 : packagePath.split("/").length; depth > 0; depth--) {
+                    classpathRoot = classpathRoot.getParent();
+                }
+                return classNamesInDirectory(classpathRoot, directory);
+            }
+
+            URLConnection connection = root.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarURLConnection jarConnection = (JarURLConnection) connection;
+                jarConnection.setUseCaches(false);
+                Path jar = Paths.get(jarConnection.getJarFileURL().toURI());
+                return classNamesInJar(jar, packagePath.isEmpty() ? "" : packagePath + "/");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to scan " + root, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Unable to scan " + root, e);
+        }
+        throw new IllegalArgumentException("Unable to scan " + root + ": unsupported protocol " + root.getProtocol());
+    }
+
+    private static List<String> classNamesInDirectory(Path classpathRoot, Path directory) {
+        return ForkJoinPool.commonPool().invoke(new DirectoryScan(classpathRoot, directory));
+    }
+
+    private static List<String> classNamesInJar(Path jar, String prefix) {
+        List<String> names = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.startsWith(prefix) && isClassFile(entryName)) {
+                    names.add(toClassName(entryName));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to scan " + jar, e);
+        }
+        return names;
+    }
+
+    private static boolean isClassFile(String path) {
+        return path.endsWith(CLASS_SUFFIX)
+                && !path.endsWith("module-info.class")
+                && !path.endsWith("package-info.class")
+                && !path.startsWith("META-INF/");
+    }
+
+    private static String toClassName(String relativePath) {
+        return relativePath.substring(0, relativePath.length() - CLASS_SUFFIX.length()).replace('/', '.');
+    }
+
+    /**
+     * Lists the class files of a single directory and forks a subtask for each subdirectory.
+     */
+    private static final class DirectoryScan extends RecursiveTask<List<String>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path classpathRoot;
+        private final Path directory;
+
+        DirectoryScan(Path classpathRoot, Path directory) {
+            this.classpathRoot = classpathRoot;
+            this.directory = directory;
+        }
+
+        @Override
+        protected List<String> compute() {
+            List<String> names = new ArrayList<>();
+            List<DirectoryScan> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry)) {
+                        DirectoryScan scan = new DirectoryScan(classpathRoot, entry);
+                        scan.fork();
+                        subdirectories.add(scan);
+                    } else {
+                        String relativePath = classpathRoot.relativize(entry).toString().replace(entry.getFileSystem().getSeparator(), "/");
+                        if (isClassFile(relativePath)) {
+                            names.add(toClassName(relativePath));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to scan " + directory, e);
+            }
+            for (DirectoryScan scan : subdirectories) {
+                names.addAll(scan.join());
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The shape of a class, as compared by {@link ClassAssert#hasSameShapeAs(Class)}: the generic signatures of the class
+ * itself and of all its declared fields, constructors and methods, with their modifiers. Synthetic members, such as
+ * bridge methods and lambda bodies, are left out.
+ * <p>
+ * Each member is identified by a key of its kind, name and erased parameter types, so that a member whose type or
+ * modifiers changed is reported as changed rather than as removed and added. The name of the class itself, including
+ * as the prefix of its nested classes, is replaced by a placeholder in both, so that a class can be compared with a
+ * class of another name, e.g. the previous output of a code generator in another package.
+ * <p>
+ * The members are sorted by key once per class, so that comparing two shapes is a single pass over both.
+ */
+final class ClassShape {
+    private static final String THIS = "<this>";
+    private static final Comparator<String[]> BY_KEY_AND_SIGNATURE =
+            Comparator.comparing((String[] member) -> member[0]).thenComparing(member -> member[1]);
+
+    private final Class<?> type;
+    private final String[] keys;
+    private final String[] signatures;
+
+    private ClassShape(Class<?> type, List<String[]> members) {
+        this.type = type;
+        members.sort(BY_KEY_AND_SIGNATURE);
+        this.keys = new String[members.size()];
+        this.signatures = new String[members.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = members.get(i)[0];
+            signatures[i] = members.get(i)[1];
+        }
+    }
+
+    /**
+     * Computes the shape of the class of the given index.
+     */
+    static ClassShape of(MemberIndex index) {
+        Class<?> type = index.type();
+        String self = type.getTypeName();
+        List<String[]> members = new ArrayList<>();
+        members.add(new String[]{"class", "class " + describe(self, type)});
+        for (Field field : index.fields()) {
+            if (!field.isSynthetic()) {
+                members.add(new String[]{"field " + field.getName(),
+                        "field " + canonical(self, field.toGenericString())});
+            }
+        }
+        for (Constructor<?> constructor : index.constructors()) {
+            if (!constructor.isSynthetic()) {
+                members.add(new String[]{"constructor " + parameters(self, constructor),
+                        "constructor " + canonical(self, constructor.toGenericString())});
+            }
+        }
+        for (Method method : index.methods()) {
+            if (!method.isSynthetic()) {
+                members.add(new String[]{"method " + method.getName() + parameters(self, method),
+                        "method " + canonical(self, method.toGenericString())});
+            }
+        }
+        return new ClassShape(type, members);
+    }
+
+    private static String describe(String self, Class<?> type) {
+        StringBuilder out = new StringBuilder(canonical(self, type.toGenericString()));
+        Type superclass = type.getGenericSuperclass();
+        if (superclass != null) {
+            out.append(" extends ").append(canonical(self, superclass.getTypeName()));
+        }
+        Type[] interfaces = type.getGenericInterfaces();
+        for (int i = 0; i < interfaces.length; i++) {
+            out.append(i > 0 ? ", " : type.isInterface() ? " extends " : " implements ")
+                    .append(canonical(self, interfaces[i].getTypeName()));
+        }
+        return out.toString();
+    }
+
+    private static String parameters(String self, Executable executable) {
+        StringBuilder out = new StringBuilder("(");
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            out.append(i > 0 ? "," : "").append(canonical(self, parameterTypes[i].getTypeName()));
+        }
+        return out.append(')').toString();
+    }
+
+    /**
+     * Replaces the name of the class in a signature, where it is not part of a longer name. It may be followed by the
+     * name of a member or of a nested class, e.g. {@code com.acme.Order.copy()} or {@code com.acme.Order$Line}.
+     */
+    private static String canonical(String self, String signature) {
+        int found = signature.indexOf(self);
+        if (found < 0) {
+            return signature;
+        }
+        StringBuilder out = new StringBuilder(signature.length());
+        int start = 0;
+        while (found >= 0) {
+            int end = found + self.length();
+            boolean whole = (found == 0 || !isNamePart(signature.charAt(found - 1)))
+                    && (end == signature.length() || signature.charAt(end) == '$'
+                    || !Character.isJavaIdentifierPart(signature.charAt(end)));
+            if (whole) {
+                out.append(signature, start, found).append(THIS);
+                start = end;
+            }
+            found = signature.indexOf(self, end);
+        }
+        return out.append(signature, start, signature.length()).toString();
+    }
+
+    private static boolean isNamePart(char c) {
+        return c == '.' || Character.isJavaIdentifierPart(c);
+    }
+
+    /**
+     * Returns whether this shape is the same as the other, without allocating anything.
+     */
+    boolean matches(ClassShape other) {
+        return this == other || Arrays.equals(signatures, other.signatures);
+    }
+
+    /**
+     * Compares the shape of a class with the shape it is expected to have, in a single pass over the members of both.
+     *
+     * @return The signatures of the members that were {@code added}, {@code removed} and {@code changed}, the last as
+     * {@code expected -> actual}, for each of these that is not empty, in that order. The name of each class is put
+     * back into its own signatures.
+     */
+    static Map<String, List<String>> diff(ClassShape actual, ClassShape expected) {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < actual.keys.length || j < expected.keys.length) {
+            int order = i == actual.keys.length ? 1
+                    : j == expected.keys.length ? -1
+                    : actual.keys[i].compareTo(expected.keys[j]);
+            if (order < 0) {
+                added.add(actual.signature(i++));
+            } else if (order > 0) {
+                removed.add(expected.signature(j++));
+            } else {
+                if (!actual.signatures[i].equals(expected.signatures[j])) {
+                    changed.add(expected.signature(j) + " -> " + actual.signature(i));
+                }
+                i++;
+                j++;
+            }
+        }
+
+        Map<String, List<String>> diff = new LinkedHashMap<>();
+        if (!added.isEmpty()) {
+            diff.put("added", added);
+        }
+        if (!removed.isEmpty()) {
+            diff.put("removed", removed);
+        }
+        if (!changed.isEmpty()) {
+            diff.put("changed", changed);
+        }
+        return diff;
+    }
+
+    private String signature(int index) {
+        return signatures[index].replace(THIS, type.getTypeName());
+    }
+}
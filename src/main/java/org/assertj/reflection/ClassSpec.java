@@ -0,0 +1,263 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A reusable set of requirements on the declared members of a class, checked with
+ * {@link ClassAssert#satisfies(ClassSpec)}.
+ * <p>
+ * A spec is built once, with its member names, parameter signatures and modifier masks compiled up front, and can then
+ * be applied to any number of classes. Each class is checked against the index of its declared members, which is
+ * built in a single pass over the class and shared by all assertions, and all unmet requirements are reported
+ * together:
+ * <pre><code class='java'>
+ * private static final ModifierSpec PUBLIC_ONLY = ModifierSpec.exactly(PUBLIC);
+ * private static final ClassSpec BEAN = ClassSpec.builder()
+ *         .fields(ModifierSpec.of(PRIVATE))
+ *         .constructor(PUBLIC_ONLY)
+ *         .accessors(PUBLIC_ONLY)
+ *         .method(PUBLIC_ONLY, boolean.class, "equals", Object.class)
+ *         .method(PUBLIC_ONLY, int.class, "hashCode")
+ *         .method(PUBLIC_ONLY, String.class, "toString")
+ *         .build();
+ *
+ * assertThatClassesIn("com.acme.generated").allSatisfy(BEAN);
+ * </code></pre>
+ * Synthetic members, such as those added by compilers and coverage tools, are ignored.
+ */
+public final class ClassSpec {
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+    private static final Rule[] NO_RULES = new Rule[0];
+
+    private final ModifierSpec fieldModifiers;
+    private final ModifierSpec accessorModifiers;
+    private final Rule[] constructors;
+    private final Rule[] methods;
+    private final String fingerprint;
+
+    private ClassSpec(Builder builder) {
+        this.fieldModifiers = builder.fieldModifiers;
+        this.accessorModifiers = builder.accessorModifiers;
+        this.constructors = builder.constructors.toArray(NO_RULES);
+        this.methods = builder.methods.toArray(NO_RULES);
+        this.fingerprint = Stream.concat(Stream.of(constructors), Stream.of(methods))
+                .map(Rule::fingerprint)
+                .collect(Collectors.joining(";", "fields=" + fieldModifiers + ";accessors=" + accessorModifiers + ";", ""));
+    }
+
+    /**
+     * Creates a builder for a new {@link ClassSpec}.
+     *
+     * @return The builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a description of all requirements of this spec, which is the same for equal specs in every JVM.
+     */
+    String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Checks the indexed class against this spec. Nothing is allocated unless a requirement is not met.
+     *
+     * @return The unmet requirements, sorted, or an empty list if the class satisfies this spec.
+     */
+    List<String> violations(MemberIndex index) {
+        List<String> violations = null;
+        if (fieldModifiers != null || accessorModifiers != null) {
+            violations = checkFields(index, null);
+        }
+        for (Rule rule : constructors) {
+            violations = check(index.constructor(rule.parameterTypes), MemberKind.CONSTRUCTOR, rule.modifiers, null,
+                    index.type(), rule.signature, violations);
+        }
+        for (Rule rule : methods) {
+            violations = check(index.method(rule.name, rule.parameterTypes), MemberKind.METHOD, rule.modifiers,
+                    rule.returnType, null, rule.signature, violations);
+        }
+
+        if (violations == null) {
+            return Collections.emptyList();
+        }
+        violations.sort(null);
+        return violations;
+    }
+
+    private List<String> checkFields(MemberIndex index, List<String> violations) {
+        Field[] fields = index.fields();
+        MemberIndex.Accessors accessors = accessorModifiers == null ? null : index.accessors();
+        for (int i = 0; i < fields.length; i++) {
+            Field field = fields[i];
+            if (field.isSynthetic()) {
+                continue;
+            }
+            int modifiers = field.getModifiers();
+            if (fieldModifiers != null && !fieldModifiers.matches(modifiers, MemberKind.FIELD)) {
+                violations = add(violations, "field " + field.getName() + " should "
+                        + describe(fieldModifiers, modifiers, MemberKind.FIELD));
+            }
+            if (accessors != null && !Modifier.isStatic(modifiers)) {
+                violations = check(index.method(accessors.getters[i], NO_PARAMETERS), MemberKind.METHOD,
+                        accessorModifiers, field.getType(), null, accessors.getterSignatures[i], violations);
+                if (!Modifier.isFinal(modifiers)) {
+                    violations = check(index.method(accessors.setters[i], field.getType()), MemberKind.METHOD,
+                            accessorModifiers, void.class, null, accessors.setterSignatures[i], violations);
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Checks a required member, which is a constructor of the given class or, if it is {@code null}, a method.
+     */
+    private static List<String> check(Executable member, MemberKind kind, ModifierSpec modifiers, Class<?> returnType,
+                                      Class<?> constructorOf, String signature, List<String> violations) {
+        if (member == null || member.isSynthetic()) {
+            return add(violations, "missing " + describe(constructorOf, signature));
+        }
+        if (modifiers != null && !modifiers.matches(member.getModifiers(), kind)) {
+            violations = add(violations, describe(constructorOf, signature) + " should "
+                    + describe(modifiers, member.getModifiers(), kind));
+        }
+        if (returnType != null && ((Method) member).getReturnType() != returnType) {
+            violations = add(violations, describe(constructorOf, signature) + " should return "
+                    + returnType.getTypeName() + " but returns " + ((Method) member).getReturnType().getTypeName());
+        }
+        return violations;
+    }
+
+    private static String describe(Class<?> constructorOf, String signature) {
+        return constructorOf == null ? "method " + signature : "constructor " + constructorOf.getSimpleName() + signature;
+    }
+
+    private static String describe(ModifierSpec spec, int modifiers, MemberKind kind) {
+        return (spec.isNegated() ? "not " : "") + "have " + (spec.isExact() ? "exactly " : "")
+                + "modifiers " + spec.describe() + " but has " + ModifierFlag.describe(modifiers, kind, true);
+    }
+
+    private static List<String> add(List<String> violations, String violation) {
+        List<String> result = violations == null ? new ArrayList<>() : violations;
+        result.add(violation);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Stream.concat(Stream.of(constructors), Stream.of(methods))
+                .map(rule -> rule.signature)
+                .collect(Collectors.joining(", ", "ClassSpec[fields=" + fieldModifiers
+                        + ", accessors=" + accessorModifiers + ", members=", "]"));
+    }
+
+    /**
+     * A required constructor or method, with its signature compiled up front.
+     */
+    private static final class Rule {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final Class<?> returnType;
+        private final ModifierSpec modifiers;
+        private final String signature;
+
+        Rule(String name, Class<?>[] parameterTypes, Class<?> returnType, ModifierSpec modifiers) {
+            // The index is a HashMap keyed by member names, which the JVM interns, and HashMap compares keys by
+            // reference before calling equals, so an interned name matches without comparing its characters
+            this.name = name.intern();
+            this.parameterTypes = parameterTypes;
+            this.returnType = returnType;
+            this.modifiers = modifiers;
+            this.signature = name + Stream.of(parameterTypes)
+                    .map(Class::getName)
+                    .collect(Collectors.joining(",", "(", ")"));
+        }
+
+        String fingerprint() {
+            return modifiers + " " + (returnType == null ? "?" : returnType.getName()) + " " + signature;
+        }
+    }
+
+    /**
+     * Builder for a {@link ClassSpec}.
+     */
+    public static final class Builder {
+        private ModifierSpec fieldModifiers;
+        private ModifierSpec accessorModifiers;
+        private final List<Rule> constructors = new ArrayList<>();
+        private final List<Rule> methods = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Requires all declared fields to match the given modifiers.
+         *
+         * @param modifiers The modifiers of the fields.
+         * @return this builder.
+         */
+        public Builder fields(ModifierSpec modifiers) {
+            this.fieldModifiers = modifiers;
+            return this;
+        }
+
+        /**
+         * Requires a getter and, unless the field is final, a setter for every declared instance field, with the
+         * given modifiers. For a field {@code boolean active}, these are {@code boolean isActive()} and
+         * {@code void setActive(boolean)}; for other types the getter is named {@code getActive}.
+         *
+         * @param modifiers The modifiers of the accessors.
+         * @return this builder.
+         */
+        public Builder accessors(ModifierSpec modifiers) {
+            this.accessorModifiers = modifiers;
+            return this;
+        }
+
+        /**
+         * Requires a declared constructor with the given parameter types and modifiers.
+         *
+         * @param modifiers      The modifiers of the constructor, or {@code null} to accept any.
+         * @param parameterTypes The types of the constructor parameters.
+         * @return this builder.
+         */
+        public Builder constructor(ModifierSpec modifiers, Class<?>... parameterTypes) {
+            constructors.add(new Rule("", parameterTypes.clone(), null, modifiers));
+            return this;
+        }
+
+        /**
+         * Requires a declared method with the given signature and modifiers.
+         *
+         * @param modifiers      The modifiers of the method, or {@code null} to accept any.
+         * @param returnType     The return type of the method, or {@code null} to accept any.
+         * @param name           The name of the method.
+         * @param parameterTypes The types of the method parameters.
+         * @return this builder.
+         */
+        public Builder method(ModifierSpec modifiers, Class<?> returnType, String name, Class<?>... parameterTypes) {
+            methods.add(new Rule(name, parameterTypes.clone(), returnType, modifiers));
+            return this;
+        }
+
+        /**
+         * Creates the {@link ClassSpec}. The builder can be reused afterwards, without affecting the created spec.
+         *
+         * @return The spec.
+         */
+        public ClassSpec build() {
+            return new ClassSpec(this);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package org.assertj.reflection;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions for a set of classes, usually discovered with {@link ReflectionAssertions#assertThatClassesIn(String)}.
+ * <p>
+ * Requirements are checked for all classes in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+ * Failures are not reported one at a time: all classes are checked, and the failures are combined into a single
+ * report that is sorted by class name, so that the report is the same for every run.
+ */
+public class ClassesAssert extends AbstractReflectionAssert<ClassesAssert, List<Class<?>>> {
+    private final Map<String, Throwable> loadFailures;
+    private VerificationCache cache;
+
+    /**
+     * Creates a new {@link ClassesAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected ClassesAssert(List<Class<?>> actual) {
+        this(actual, Collections.emptyMap());
+    }
+
+    private ClassesAssert(List<Class<?>> actual, Map<String, Throwable> loadFailures) {
+        super(actual, ClassesAssert.class);
+        this.loadFailures = loadFailures;
+    }
+
+    /**
+     * Loads the given classes in parallel, without initializing them.
+     * Classes that cannot be loaded are reported as failures by {@link #allSatisfy(Consumer)}.
+     */
+    static ClassesAssert load(List<String> classNames, ClassLoader classLoader) {
+        Map<String, Throwable> loadFailures = new ConcurrentSkipListMap<>();
+        List<Class<?>> classes = classNames.parallelStream()
+                .map(className -> {
+                    try {
+                        return Class.forName(className, false, classLoader);
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        loadFailures.put(className, e);
+                        return null;
+                    }
+                })
+                .filter(type -> type != null)
+                .collect(Collectors.toList());
+        return new ClassesAssert(classes, loadFailures);
+    }
+
+    /**
+     * Verifies that at least one class was found.
+     *
+     * @return this {@link ClassesAssert} instance.
+     */
+    public ClassesAssert isNotEmpty() {
+        return instrumented("isNotEmpty", null, ClassesAssert::checkIsNotEmpty);
+    }
+
+    private ClassesAssert checkIsNotEmpty() {
+        if (actual.isEmpty() && loadFailures.isEmpty()) {
+            return fail(failure("Expected to find at least one class but found none"));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that exactly the given number of classes was found.
+     *
+     * @param expected The expected number of classes.
+     * @return this {@link ClassesAssert} instance.
+     */
+    public ClassesAssert hasSize(int expected) {
+        return instrumented("hasSize", null, expected, ClassesAssert::checkHasSize);
+    }
+
+    private ClassesAssert checkHasSize(int expected) {
+        int size = actual.size() + loadFailures.size();
+        if (size != expected) {
+            return fail(failureWithActualExpected(size, expected, "Expected to find %d classes but found %d",
+                    expected, size));
+        }
+        return this;
+    }
+
+    /**
+     * Returns a new {@link ClassesAssert} for the classes that match the given predicate.
+     *
+     * @param predicate The predicate that selects the classes to keep.
+     * @return A new {@link ClassesAssert} for the matching classes.
+     */
+    public ClassesAssert filteredOn(Predicate<? super Class<?>> predicate) {
+        isNotNull();
+        List<Class<?>> filtered = actual.stream().filter(predicate).collect(Collectors.toList());
+        return new ClassesAssert(filtered, loadFailures).usingCache(cache).collectingInto(softly());
+    }
+
+    /**
+     * Verifies that all classes satisfy the given requirements, expressed as assertions on a {@link ClassAssert}.
+     * The requirements are checked in parallel, so they must not depend on shared mutable state.
+     * <p>
+     * Normally the first failing requirement of each class is reported. For an assert created by
+     * {@link ReflectionSoftAssertions}, all failing requirements of each class are reported.
+     *
+     * @param requirements Consumer that is invoked with a {@link ClassAssert} for each class.
+     * @return this {@link ClassesAssert} instance.
+     */
+    public ClassesAssert allSatisfy(Consumer<ClassAssert> requirements) {
+        return instrumented("allSatisfy", null, requirements, ClassesAssert::checkAllSatisfy);
+    }
+
+    private ClassesAssert checkAllSatisfy(Consumer<ClassAssert> requirements) {
+        Map<String, String> report = new ConcurrentSkipListMap<>();
+        loadFailures.forEach((className, error) -> report.put(className, "could not be loaded: " + error));
+        actual.parallelStream().forEach(type -> {
+            String violations = violations(type, requirements);
+            if (violations != null) {
+                report.put(type.getName(), violations);
+            }
+        });
+
+        if (report.isEmpty()) {
+            return this;
+        }
+        return fail(failure("%s", describe(report)));
+    }
+
+    /**
+     * Skips the classes whose class file satisfied the same spec before, as recorded in the given cache, in
+     * {@link #allSatisfy(ClassSpec)}.
+     *
+     * @param cache The cache of classes that satisfied a spec.
+     * @return this {@link ClassesAssert} instance.
+     */
+    public ClassesAssert usingCache(VerificationCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Verifies that all classes satisfy the given spec. See {@link ClassAssert#satisfies(ClassSpec)}.
+     *
+     * @param spec The requirements on the declared members of each class.
+     * @return this {@link ClassesAssert} instance.
+     */
+    public ClassesAssert allSatisfy(ClassSpec spec) {
+        return allSatisfy(type -> type.usingCache(cache).satisfies(spec));
+    }
+
+    private String violations(Class<?> type, Consumer<ClassAssert> requirements) {
+        if (softly() == null) {
+            try {
+                requirements.accept(new ClassAssert(type));
+                return null;
+            } catch (AssertionError e) {
+                return String.valueOf(e.getMessage());
+            }
+        }
+
+        ReflectionSoftAssertions classSoftly = new ReflectionSoftAssertions();
+        try {
+            requirements.accept(new ClassAssert(type).collectingInto(classSoftly));
+        } catch (AssertionError e) {
+            classSoftly.collectAssertionError(e);
+        }
+        List<AssertionError> errors = classSoftly.assertionErrorsCollected();
+        if (errors.isEmpty()) {
+            return null;
+        }
+        return errors.stream()
+                .map(error -> String.valueOf(error.getMessage()).trim())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private String describe(Map<String, String> report) {
+        int total = actual.size() + loadFailures.size();
+        StringBuilder message = new StringBuilder()
+                .append("Expected all ").append(total).append(total == 1 ? " class" : " classes")
+                .append(" to satisfy the given requirements but ").append(report.size()).append(" did not:");
+        for (Map.Entry<String, String> entry : report.entrySet()) {
+            message.append(System.lineSeparator()).append(System.lineSeparator()).append(entry.getKey());
+            for (String line : entry.getValue().trim().split("\\R")) {
+                message.append(System.lineSeparator()).append("  ").append(line);
+            }
+        }
+        return message.toString();
+    }
+}
@@ -1,16 +1,15 @@
 package org.assertj.reflection;
 
-import org.assertj.core.api.AbstractAssert;
-
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
 
-import static org.assertj.reflection.MemberModifierShouldBe.*;
+import static org.assertj.reflection.MemberModifierShouldBe.shouldHaveModifiers;
 
 /**
  * Assertions for the {@link Constructor} type.
  */
-public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constructor<?>> {
+public class ConstructorAssert extends AbstractReflectionAssert<ConstructorAssert, Constructor<?>> {
 
     /**
      * Creates a new {@link ConstructorAssert}.
@@ -27,11 +26,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isPublic() {
-        isNotNull();
-        if (!hasPublicModifier()) {
-            throw assertionError(shouldBePublic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PUBLIC.spec());
     }
 
     /**
@@ -40,15 +35,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isNotPublic() {
-        isNotNull();
-        if (hasPublicModifier()) {
-            throw assertionError(shouldNotBePublic(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPublicModifier() {
-        return Modifier.isPublic(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PUBLIC.negatedSpec());
     }
 
     /**
@@ -57,11 +44,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isProtected() {
-        isNotNull();
-        if (!hasProtectedModifier()) {
-            throw assertionError(shouldBeProtected(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PROTECTED.spec());
     }
 
     /**
@@ -70,15 +53,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isNotProtected() {
-        isNotNull();
-        if (hasProtectedModifier()) {
-            throw assertionError(shouldNotBeProtected(actual));
-        }
-        return this;
-    }
-
-    private boolean hasProtectedModifier() {
-        return Modifier.isProtected(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PROTECTED.negatedSpec());
     }
 
     /**
@@ -87,11 +62,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isPrivate() {
-        isNotNull();
-        if (!hasPrivateModifier()) {
-            throw assertionError(shouldBePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PRIVATE.spec());
     }
 
     /**
@@ -100,15 +71,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isNotPrivate() {
-        isNotNull();
-        if (hasPrivateModifier()) {
-            throw assertionError(shouldNotBePrivate(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPrivateModifier() {
-        return Modifier.isPrivate(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PRIVATE.negatedSpec());
     }
 
     /**
@@ -117,11 +80,7 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isPackagePrivate() {
-        isNotNull();
-        if (hasPublicModifier() || hasProtectedModifier() || hasPrivateModifier()) {
-            throw assertionError(shouldBePackagePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.spec());
     }
 
     /**
@@ -130,10 +89,80 @@ public class ConstructorAssert extends AbstractAssert<ConstructorAssert, Constru
      * @return This {@link ConstructorAssert} instance.
      */
     public ConstructorAssert isNotPackagePrivate() {
-        isNotNull();
-        if (!hasPublicModifier() && !hasProtectedModifier() && !hasPrivateModifier()) {
-            throw assertionError(shouldNotBePackagePrivate(actual));
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.negatedSpec());
+    }
+
+    /**
+     * Verifies that the {@link Constructor} has all the given modifiers, and possibly others.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public ConstructorAssert hasModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.of(flags));
+    }
+
+    /**
+     * Verifies that the {@link Constructor} has the given modifiers and no others.
+     * If no access level is given, the {@link Constructor} must be <em>package-private</em>.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public ConstructorAssert hasExactlyModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.exactly(flags));
+    }
+
+    /**
+     * Verifies that the modifiers of the {@link Constructor} match the given spec.
+     * All mismatched modifiers are reported at once.
+     *
+     * @param spec The spec to match.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public ConstructorAssert hasModifiers(ModifierSpec spec) {
+        return instrumented("hasModifiers", null, spec, ConstructorAssert::checkHasModifiers);
+    }
+
+    private ConstructorAssert checkHasModifiers(ModifierSpec spec) {
+        int modifiers = actual.getModifiers();
+        MemberKind kind = MemberKind.CONSTRUCTOR;
+        if (!spec.matches(modifiers, kind)) {
+            return fail(assertionError(shouldHaveModifiers(actual.toString(), modifiers, kind, spec)));
         }
         return this;
     }
+
+    /**
+     * Verifies that the {@link Constructor} is annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public ConstructorAssert hasAnnotation(Class<? extends Annotation> annotationType) {
+        return hasAnnotation(annotationType, null);
+    }
+
+    /**
+     * Verifies that the {@link Constructor} is annotated with the given annotation type.
+     *
+     * @param annotationType     The type of the annotation.
+     * @param annotationConsumer Consumer that is invoked with the annotation, to perform additional assertions on its
+     *                           attributes.
+     * @param <A>                The type of the annotation.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public <A extends Annotation> ConstructorAssert hasAnnotation(Class<A> annotationType, Consumer<? super A> annotationConsumer) {
+        return hasAnnotation(actual, annotationType, annotationConsumer);
+    }
+
+    /**
+     * Verifies that the {@link Constructor} is not annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link ConstructorAssert} instance.
+     */
+    public ConstructorAssert hasNoAnnotation(Class<? extends Annotation> annotationType) {
+        return hasNoAnnotation(actual, annotationType);
+    }
 }
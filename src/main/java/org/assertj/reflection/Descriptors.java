@@ -0,0 +1,180 @@
+package org.assertj.reflection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversions between JVM type descriptors (JVMS §4.3), {@link Class} objects and type names.
+ */
+final class Descriptors {
+
+    private Descriptors() {
+    }
+
+    /**
+     * Returns the descriptor of a class, e.g. {@code I} for {@code int} or {@code [Ljava/lang/String;} for
+     * {@code String[]}.
+     */
+    static String of(Class<?> type) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, type);
+        return builder.toString();
+    }
+
+    /**
+     * Returns the parameter part of a method descriptor, including the parentheses, e.g. {@code (IJ)}.
+     */
+    static String parameters(Class<?>[] parameterTypes) {
+        StringBuilder builder = new StringBuilder().append('(');
+        if (parameterTypes != null) {
+            for (Class<?> parameterType : parameterTypes) {
+                append(builder, parameterType);
+            }
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Returns the descriptor of a type name in the format of {@link Class#getTypeName()},
+     * e.g. {@code int}, {@code java.lang.String[]} or {@code java.util.Map$Entry}.
+     */
+    static String ofTypeName(String typeName) {
+        String name = typeName.trim();
+        int dimensions = 0;
+        while (name.endsWith("[]")) {
+            dimensions++;
+            name = name.substring(0, name.length() - 2).trim();
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < dimensions; i++) {
+            builder.append('[');
+        }
+        char primitive = primitiveDescriptor(name);
+        if (primitive != 0) {
+            builder.append(primitive);
+        } else {
+            builder.append('L').append(name.replace('.', '/')).append(';');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts an internal name such as {@code java/util/Map$Entry} to a binary name such as
+     * {@code java.util.Map$Entry}.
+     */
+    static String binaryName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    /**
+     * Returns the type name of the single type descriptor that starts at the given offset.
+     */
+    static String toTypeName(String descriptor, int offset) {
+        int dimensions = 0;
+        int index = offset;
+        while (descriptor.charAt(index) == '[') {
+            dimensions++;
+            index++;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        char tag = descriptor.charAt(index);
+        if (tag == 'L') {
+            builder.append(binaryName(descriptor.substring(index + 1, descriptor.indexOf(';', index))));
+        } else {
+            builder.append(primitiveName(tag));
+        }
+        for (int i = 0; i < dimensions; i++) {
+            builder.append("[]");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the type names of the parameters of a method descriptor.
+     */
+    static List<String> parameterTypeNames(String methodDescriptor) {
+        List<String> names = new ArrayList<>();
+        int index = 1;
+        while (methodDescriptor.charAt(index) != ')') {
+            names.add(toTypeName(methodDescriptor, index));
+            index = end(methodDescriptor, index);
+        }
+        return names;
+    }
+
+    /**
+     * Returns the index just past the single type descriptor that starts at the given offset.
+     */
+    static int end(String descriptor, int offset) {
+        int index = offset;
+        while (descriptor.charAt(index) == '[') {
+            index++;
+        }
+        return descriptor.charAt(index) == 'L' ? descriptor.indexOf(';', index) + 1 : index + 1;
+    }
+
+    private static void append(StringBuilder builder, Class<?> type) {
+        Class<?> component = type;
+        while (component.isArray()) {
+            builder.append('[');
+            component = component.getComponentType();
+        }
+        if (component.isPrimitive()) {
+            builder.append(primitiveDescriptor(component.getName()));
+        } else {
+            builder.append('L').append(component.getName().replace('.', '/')).append(';');
+        }
+    }
+
+    private static char primitiveDescriptor(String name) {
+        switch (name) {
+            case "boolean":
+                return 'Z';
+            case "byte":
+                return 'B';
+            case "char":
+                return 'C';
+            case "short":
+                return 'S';
+            case "int":
+                return 'I';
+            case "long":
+                return 'J';
+            case "float":
+                return 'F';
+            case "double":
+                return 'D';
+            case "void":
+                return 'V';
+            default:
+                return 0;
+        }
+    }
+
+    private static String primitiveName(char descriptor) {
+        switch (descriptor) {
+            case 'Z':
+                return "boolean";
+            case 'B':
+                return "byte";
+            case 'C':
+                return "char";
+            case 'S':
+                return "short";
+            case 'I':
+                return "int";
+            case 'J':
+                return "long";
+            case 'F':
+                return "float";
+            case 'D':
+                return "double";
+            case 'V':
+                return "void";
+            default:
+                throw new IllegalArgumentException("Invalid descriptor: " + descriptor);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.assertj.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads the value of a field through a {@link MethodHandle}, created once per field and kept in the
+ * {@link MemberIndex} of its declaring class, so that reading the field of many instances neither copies the
+ * {@link Field} nor checks its accessibility again.
+ * <p>
+ * Besides a getter that returns any value as an {@link Object}, primitive fields get getters that are adapted to return
+ * a {@code long}, {@code double} or {@code boolean}, which read {@code int} and {@code long} fields without boxing
+ * their values. All getters take the instance as an {@link Object}, and ignore it for static fields.
+ * <p>
+ * The accessor makes its own copy of the field accessible, so the {@link Field} under test is left as it was.
+ */
+final class FieldAccessor {
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle longGetter;
+    private final MethodHandle doubleGetter;
+    private final MethodHandle booleanGetter;
+
+    private FieldAccessor(Field field, MethodHandle handle) {
+        this.field = field;
+        Class<?> type = field.getType();
+        this.getter = handle.asType(OBJECT_GETTER);
+        this.longGetter = isIntegral(type) ? handle.asType(MethodType.methodType(long.class, Object.class)) : null;
+        this.doubleGetter = type.isPrimitive() && type != boolean.class
+                ? handle.asType(MethodType.methodType(double.class, Object.class)) : null;
+        this.booleanGetter = type == boolean.class
+                ? handle.asType(MethodType.methodType(boolean.class, Object.class)) : null;
+    }
+
+    /**
+     * Creates an accessor for the given field.
+     *
+     * @throws IllegalArgumentException if the field cannot be made accessible, e.g. because its module does not open
+     *                                  its package.
+     */
+    static FieldAccessor of(Field field) {
+        try {
+            Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+            copy.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(copy);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return new FieldAccessor(field, handle);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("Unable to read " + field + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == long.class || type == short.class || type == byte.class
+                || type == char.class;
+    }
+
+    Field field() {
+        return field;
+    }
+
+    /**
+     * Returns whether {@link #getLong(Object)} can read the field: it is a {@code byte}, {@code short}, {@code char},
+     * {@code int} or {@code long}.
+     */
+    boolean isIntegral() {
+        return longGetter != null;
+    }
+
+    /**
+     * Returns whether {@link #getDouble(Object)} can read the field: it is of a numeric primitive type.
+     */
+    boolean isNumeric() {
+        return doubleGetter != null;
+    }
+
+    /**
+     * Returns whether {@link #getBoolean(Object)} can read the field.
+     */
+    boolean isBoolean() {
+        return booleanGetter != null;
+    }
+
+    Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    long getLong(Object instance) {
+        try {
+            return (long) longGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    double getDouble(Object instance) {
+        try {
+            return (double) doubleGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    boolean getBoolean(Object instance) {
+        try {
+            return (boolean) booleanGetter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Reading a field throws no checked exceptions, so anything else is unexpected.
+     */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException(e);
+    }
+}
@@ -2,16 +2,24 @@ package org.assertj.reflection;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactory;
+import org.assertj.core.api.ObjectAssert;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.function.Consumer;
 
-import static org.assertj.reflection.MemberModifierShouldBe.*;
+import static org.assertj.reflection.MemberModifierShouldBe.shouldHaveModifiers;
 
 /**
  * Assertions for the {@link Field} type.
  */
-public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
+public class FieldAssert extends AbstractReflectionAssert<FieldAssert, Field> {
+    private Class<?> memberOf;
+    private FieldAccessor accessor;
 
     /**
      * Creates a new {@link FieldAssert}.
@@ -22,17 +30,21 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
         super(actual, FieldAssert.class);
     }
 
+    /**
+     * Resolves the type variables of the declaring class against the given subclass, in generic type assertions.
+     */
+    FieldAssert memberOf(Class<?> type) {
+        this.memberOf = type;
+        return this;
+    }
+
     /**
      * Verifies that the {@link Field} is <em>public</em>.
      *
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isPublic() {
-        isNotNull();
-        if (!hasPublicModifier()) {
-            throw assertionError(shouldBePublic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PUBLIC.spec());
     }
 
     /**
@@ -41,15 +53,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotPublic() {
-        isNotNull();
-        if (hasPublicModifier()) {
-            throw assertionError(shouldNotBePublic(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPublicModifier() {
-        return Modifier.isPublic(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PUBLIC.negatedSpec());
     }
 
     /**
@@ -58,11 +62,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isProtected() {
-        isNotNull();
-        if (!hasProtectedModifier()) {
-            throw assertionError(shouldBeProtected(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PROTECTED.spec());
     }
 
     /**
@@ -71,15 +71,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotProtected() {
-        isNotNull();
-        if (hasProtectedModifier()) {
-            throw assertionError(shouldNotBeProtected(actual));
-        }
-        return this;
-    }
-
-    private boolean hasProtectedModifier() {
-        return Modifier.isProtected(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PROTECTED.negatedSpec());
     }
 
     /**
@@ -88,11 +80,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isPrivate() {
-        isNotNull();
-        if (!hasPrivateModifier()) {
-            throw assertionError(shouldBePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PRIVATE.spec());
     }
 
     /**
@@ -101,15 +89,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotPrivate() {
-        isNotNull();
-        if (hasPrivateModifier()) {
-            throw assertionError(shouldNotBePrivate(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPrivateModifier() {
-        return Modifier.isPrivate(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PRIVATE.negatedSpec());
     }
 
     /**
@@ -118,11 +98,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isPackagePrivate() {
-        isNotNull();
-        if (hasPublicModifier() || hasProtectedModifier() || hasPrivateModifier()) {
-            throw assertionError(shouldBePackagePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.spec());
     }
 
     /**
@@ -131,11 +107,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotPackagePrivate() {
-        isNotNull();
-        if (!hasPublicModifier() && !hasProtectedModifier() && !hasPrivateModifier()) {
-            throw assertionError(shouldNotBePackagePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.negatedSpec());
     }
 
     /**
@@ -144,11 +116,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isStatic() {
-        isNotNull();
-        if (!hasStaticModifier()) {
-            throw assertionError(shouldBeStatic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.STATIC.spec());
     }
 
     /**
@@ -157,15 +125,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotStatic() {
-        isNotNull();
-        if (hasStaticModifier()) {
-            throw assertionError(shouldNotBeStatic(actual));
-        }
-        return this;
-    }
-
-    private boolean hasStaticModifier() {
-        return Modifier.isStatic(actual.getModifiers());
+        return hasModifiers(ModifierFlag.STATIC.negatedSpec());
     }
 
     /**
@@ -174,11 +134,7 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isFinal() {
-        isNotNull();
-        if (!hasFinalModifier()) {
-            throw assertionError(shouldBeFinal(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.FINAL.spec());
     }
 
     /**
@@ -187,15 +143,48 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return This {@link FieldAssert} instance.
      */
     public FieldAssert isNotFinal() {
-        isNotNull();
-        if (hasFinalModifier()) {
-            throw assertionError(shouldNotBeFinal(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.FINAL.negatedSpec());
+    }
+
+    /**
+     * Verifies that the {@link Field} has all the given modifiers, and possibly others.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link FieldAssert} instance.
+     */
+    public FieldAssert hasModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.of(flags));
     }
 
-    private boolean hasFinalModifier() {
-        return Modifier.isFinal(actual.getModifiers());
+    /**
+     * Verifies that the {@link Field} has the given modifiers and no others.
+     * If no access level is given, the {@link Field} must be <em>package-private</em>.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link FieldAssert} instance.
+     */
+    public FieldAssert hasExactlyModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.exactly(flags));
+    }
+
+    /**
+     * Verifies that the modifiers of the {@link Field} match the given spec.
+     * All mismatched modifiers are reported at once.
+     *
+     * @param spec The spec to match.
+     * @return This {@link FieldAssert} instance.
+     */
+    public FieldAssert hasModifiers(ModifierSpec spec) {
+        return instrumented("hasModifiers", null, spec, FieldAssert::checkHasModifiers);
+    }
+
+    private FieldAssert checkHasModifiers(ModifierSpec spec) {
+        int modifiers = actual.getModifiers();
+        MemberKind kind = MemberKind.FIELD;
+        if (!spec.matches(modifiers, kind)) {
+            return fail(assertionError(shouldHaveModifiers(actual.toString(), modifiers, kind, spec)));
+        }
+        return this;
     }
 
     /**
@@ -205,8 +194,287 @@ public class FieldAssert extends AbstractAssert<FieldAssert, Field> {
      * @return this {@link FieldAssert} instance.
      */
     public FieldAssert hasType(Class<?> expected) {
-        isNotNull();
-        Assertions.assertThat(actual.getType()).isEqualTo(expected);
+        return instrumented("hasType", null, expected, FieldAssert::checkHasType);
+    }
+
+    private FieldAssert checkHasType(Class<?> expected) {
+        if (actual.getType() != expected) {
+            return fail(failureWithActualExpected(actual.getType(), expected, "Expected %s to have type %s but was %s",
+                    actual, expected == null ? null : expected.getTypeName(), actual.getType().getTypeName()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected generic type, given as a signature such as
+     * {@code "java.util.Map<java.lang.String, java.util.List<T>>"}. Classes are given by their binary names, e.g.
+     * {@code java.util.Map$Entry}, and type variables by their names. If the field was found by
+     * {@link ClassAssert#hasField(String, Consumer)}, type variables of its declaring class are resolved against the
+     * class under test.
+     *
+     * @param expected The signature of the expected type.
+     * @return this {@link FieldAssert} instance.
+     * @throws IllegalArgumentException if the signature is malformed.
+     */
+    public FieldAssert hasGenericType(String expected) {
+        return hasGenericType(GenericType.parse(expected));
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected generic type, given as a reflected type or as a
+     * {@link TypeReference}. If the field was found by {@link ClassAssert#hasField(String, Consumer)}, type variables
+     * of its declaring class are resolved against the class under test.
+     *
+     * @param expected The expected type.
+     * @return this {@link FieldAssert} instance.
+     */
+    public FieldAssert hasGenericType(Type expected) {
+        return hasGenericType(GenericType.of(expected));
+    }
+
+    private FieldAssert hasGenericType(GenericType expected) {
+        return instrumented("hasGenericType", null, expected, FieldAssert::checkHasGenericType);
+    }
+
+    private FieldAssert checkHasGenericType(GenericType expected) {
+        GenericType type = MemberIndex.of(memberOf == null ? actual.getDeclaringClass() : memberOf)
+                .genericSignature(actual)[0];
+        if (type != expected) {
+            return fail(failureWithActualExpected(type, expected, "Expected %s to have generic type %s but was %s",
+                    actual, expected, type));
+        }
+        return this;
+    }
+
+    /**
+     * Returns an assert on the value of the {@link Field} in the given instance, e.g.
+     * {@code assertThat(field).valueIn(dto).isEqualTo("unknown")}. The field is read through an accessor that is
+     * created once per field, so reading it from many instances is cheap.
+     *
+     * @param instance The instance to read the field of, ignored for a static field.
+     * @return An assert on the value.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public ObjectAssert<Object> valueIn(Object instance) {
+        return instrumented("valueIn", null, instance, FieldAssert::checkValueIn);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ObjectAssert<Object> checkValueIn(Object instance) {
+        Object value = accessor(instance).get(instance);
+        ObjectAssert<Object> valueAssert = softly() == null
+                ? Assertions.assertThat(value)
+                : softly().proxy(ObjectAssert.class, Object.class, value);
+        return valueAssert.as("%s in %s", actual.getName(), instance);
+    }
+
+    /**
+     * Returns an assert on the value of the {@link Field} in the given instance, of the type that the factory creates,
+     * e.g. {@code assertThat(field).valueIn(dto, InstanceOfAssertFactories.INTEGER).isPositive()}.
+     *
+     * @param instance      The instance to read the field of, ignored for a static field.
+     * @param assertFactory The factory of the assert, see {@link org.assertj.core.api.InstanceOfAssertFactories}.
+     * @param <ASSERT>      The type of the assert.
+     * @return An assert on the value.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public <ASSERT extends AbstractAssert<?, ?>> ASSERT valueIn(Object instance,
+                                                              InstanceOfAssertFactory<?, ASSERT> assertFactory) {
+        return valueIn(instance).asInstanceOf(assertFactory);
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected value in the given instance. Arrays are compared by their
+     * elements.
+     *
+     * @param instance The instance to read the field of, ignored for a static field.
+     * @param expected The expected value.
+     * @return This {@link FieldAssert} instance.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public FieldAssert hasValueIn(Object instance, Object expected) {
+        return instrumented("hasValueIn", null, instance, expected, FieldAssert::checkHasValueIn);
+    }
+
+    private FieldAssert checkHasValueIn(Object instance, Object expected) {
+        Object value = accessor(instance).get(instance);
+        if (!Objects.deepEquals(value, expected)) {
+            return fail(unexpectedValue(instance, value, expected));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected integral value in the given instance. A field of a primitive
+     * type is read without boxing its value. A field of another type must hold a number or character with the
+     * expected value.
+     *
+     * @param instance The instance to read the field of, ignored for a static field.
+     * @param expected The expected value.
+     * @return This {@link FieldAssert} instance.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public FieldAssert hasValueIn(Object instance, long expected) {
+        return instrumented("hasValueIn", null, instance, expected, FieldAssert::checkHasIntegralValueIn);
+    }
+
+    private FieldAssert checkHasIntegralValueIn(Object instance, long expected) {
+        FieldAccessor accessor = accessor(instance);
+        if (accessor.isIntegral()) {
+            long value = accessor.getLong(instance);
+            if (value != expected) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        } else if (accessor.isNumeric()) {
+            double value = accessor.getDouble(instance);
+            if (value != expected) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        } else {
+            Object value = accessor.get(instance);
+            if (!isNumber(value, expected)) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected floating-point value in the given instance. A field of a
+     * primitive type is read without boxing its value, and a {@code float} field is compared at {@code float}
+     * precision. A field of another type must hold a number with the expected value. {@code NaN} matches {@code NaN}.
+     *
+     * @param instance The instance to read the field of, ignored for a static field.
+     * @param expected The expected value.
+     * @return This {@link FieldAssert} instance.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public FieldAssert hasValueIn(Object instance, double expected) {
+        return instrumented("hasValueIn", null, instance, expected, FieldAssert::checkHasFloatingPointValueIn);
+    }
+
+    private FieldAssert checkHasFloatingPointValueIn(Object instance, double expected) {
+        FieldAccessor accessor = accessor(instance);
+        if (accessor.isNumeric()) {
+            double value = accessor.getDouble(instance);
+            if (!isNumber(value, expected, actual.getType() == float.class)) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        } else {
+            Object value = accessor.get(instance);
+            if (!(value instanceof Number)
+                    || !isNumber(((Number) value).doubleValue(), expected, value instanceof Float)) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Field} has the expected boolean value in the given instance. A {@code boolean} field is
+     * read without boxing its value.
+     *
+     * @param instance The instance to read the field of, ignored for a static field.
+     * @param expected The expected value.
+     * @return This {@link FieldAssert} instance.
+     * @throws IllegalArgumentException if the field is not static and the instance is not an instance of its declaring
+     *                                  class, or if the field cannot be made accessible.
+     */
+    public FieldAssert hasValueIn(Object instance, boolean expected) {
+        return instrumented("hasValueIn", null, instance, expected, FieldAssert::checkHasBooleanValueIn);
+    }
+
+    private FieldAssert checkHasBooleanValueIn(Object instance, boolean expected) {
+        FieldAccessor accessor = accessor(instance);
+        if (accessor.isBoolean()) {
+            boolean value = accessor.getBoolean(instance);
+            if (value != expected) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        } else {
+            Object value = accessor.get(instance);
+            if (!Boolean.valueOf(expected).equals(value)) {
+                return fail(unexpectedValue(instance, value, expected));
+            }
+        }
         return this;
     }
+
+    /**
+     * Returns the accessor of the field, after checking that it can read the field of the given instance.
+     */
+    private FieldAccessor accessor(Object instance) {
+        if (!Modifier.isStatic(actual.getModifiers()) && !actual.getDeclaringClass().isInstance(instance)) {
+            throw new IllegalArgumentException(String.format("Expected an instance of %s to read %s from but was %s",
+                    actual.getDeclaringClass().getName(), actual.getName(),
+                    instance == null ? null : instance.getClass().getName()));
+        }
+        FieldAccessor result = accessor;
+        if (result == null) {
+            result = MemberIndex.of(actual.getDeclaringClass()).fieldAccessor(actual);
+            accessor = result;
+        }
+        return result;
+    }
+
+    private static boolean isNumber(Object value, long expected) {
+        if (value instanceof Character) {
+            return (Character) value == expected;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return ((Number) value).doubleValue() == expected;
+        }
+        return (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+                && ((Number) value).longValue() == expected;
+    }
+
+    private static boolean isNumber(double value, double expected, boolean isFloat) {
+        if (isFloat) {
+            return Float.compare((float) value, (float) expected) == 0 || (float) value == (float) expected;
+        }
+        return Double.compare(value, expected) == 0 || value == expected;
+    }
+
+    private AssertionError unexpectedValue(Object instance, Object value, Object expected) {
+        return failureWithActualExpected(value, expected, "Expected %s to have value %s in %s but was %s",
+                actual, expected, instance, value);
+    }
+
+    /**
+     * Verifies that the {@link Field} is annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link FieldAssert} instance.
+     */
+    public FieldAssert hasAnnotation(Class<? extends Annotation> annotationType) {
+        return hasAnnotation(annotationType, null);
+    }
+
+    /**
+     * Verifies that the {@link Field} is annotated with the given annotation type.
+     *
+     * @param annotationType     The type of the annotation.
+     * @param annotationConsumer Consumer that is invoked with the annotation, to perform additional assertions on its
+     *                           attributes.
+     * @param <A>                The type of the annotation.
+     * @return This {@link FieldAssert} instance.
+     */
+    public <A extends Annotation> FieldAssert hasAnnotation(Class<A> annotationType, Consumer<? super A> annotationConsumer) {
+        return hasAnnotation(actual, annotationType, annotationConsumer);
+    }
+
+    /**
+     * Verifies that the {@link Field} is not annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link FieldAssert} instance.
+     */
+    public FieldAssert hasNoAnnotation(Class<? extends Annotation> annotationType) {
+        return hasNoAnnotation(actual, annotationType);
+    }
 }
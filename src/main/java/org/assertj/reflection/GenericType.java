@@ -0,0 +1,252 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A generic type, such as {@code java.util.Map<java.lang.String, java.util.List<T>>}, in the form of its canonical
+ * signature.
+ * <p>
+ * Generic types are interned: equal types are represented by the same instance, so that they are compared by
+ * identity. Types are parsed from signature strings and converted from {@link Type reflected types} only once, after
+ * which the same instance is returned for the same string or class. Only names are kept, so that interned types never
+ * keep a class loader reachable.
+ * <p>
+ * The canonical signature is the one of {@link Type#getTypeName()}: classes by their binary names, e.g.
+ * {@code java.util.Map$Entry}, type arguments separated by {@code ", "}, and {@code ?} for an unbounded wildcard.
+ * Type variables are represented by their names. Owner types of parameterized inner classes are not represented.
+ */
+final class GenericType {
+    private static final ConcurrentMap<String, GenericType> INTERNED = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, GenericType> SIGNATURES = new ConcurrentHashMap<>();
+    private static final ClassValue<GenericType> CLASSES = new ClassValue<GenericType>() {
+        @Override
+        protected GenericType computeValue(Class<?> type) {
+            if (type.getSuperclass() == TypeReference.class) {
+                return of(((ParameterizedType) type.getGenericSuperclass()).getActualTypeArguments()[0],
+                        Collections.emptyMap());
+            }
+            return intern(type.getTypeName());
+        }
+    };
+
+    private final String name;
+
+    private GenericType(String name) {
+        this.name = name;
+    }
+
+    private static GenericType intern(String name) {
+        GenericType type = INTERNED.get(name);
+        if (type != null) {
+            return type;
+        }
+        GenericType created = new GenericType(name);
+        type = INTERNED.putIfAbsent(name, created);
+        return type == null ? created : type;
+    }
+
+    /**
+     * Parses a signature such as {@code java.util.Map<java.lang.String, java.util.List<? extends java.lang.Number>>}.
+     * Whitespace is ignored, and {@code ? extends java.lang.Object} is the same as {@code ?}.
+     *
+     * @throws IllegalArgumentException if the signature is malformed.
+     */
+    static GenericType parse(String signature) {
+        GenericType type = SIGNATURES.get(signature);
+        if (type == null) {
+            type = intern(new Parser(signature).parse());
+            SIGNATURES.putIfAbsent(signature, type);
+        }
+        return type;
+    }
+
+    /**
+     * Converts a reflected type, or a {@link TypeReference}, without resolving any type variables. Classes and type
+     * references are converted once and kept on their class, other types are converted on every call.
+     */
+    static GenericType of(Type type) {
+        if (type instanceof Class) {
+            return CLASSES.get((Class<?>) type);
+        }
+        if (type instanceof TypeReference) {
+            return CLASSES.get(type.getClass());
+        }
+        return of(type, Collections.emptyMap());
+    }
+
+    /**
+     * Converts a reflected type, replacing the type variables that have a binding in the given map.
+     */
+    static GenericType of(Type type, Map<TypeVariable<?>, GenericType> bindings) {
+        return intern(render(type, bindings, new StringBuilder()).toString());
+    }
+
+    private static StringBuilder render(Type type, Map<TypeVariable<?>, GenericType> bindings, StringBuilder out) {
+        if (type instanceof Class) {
+            return out.append(((Class<?>) type).getTypeName());
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            render(parameterized.getRawType(), bindings, out).append('<');
+            Type[] arguments = parameterized.getActualTypeArguments();
+            for (int i = 0; i < arguments.length; i++) {
+                render(arguments[i], bindings, i == 0 ? out : out.append(", "));
+            }
+            return out.append('>');
+        }
+        if (type instanceof GenericArrayType) {
+            return render(((GenericArrayType) type).getGenericComponentType(), bindings, out).append("[]");
+        }
+        if (type instanceof TypeVariable) {
+            GenericType binding = bindings.get(type);
+            return out.append(binding == null ? ((TypeVariable<?>) type).getName() : binding.name);
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcard = (WildcardType) type;
+            if (wildcard.getLowerBounds().length > 0) {
+                return render(wildcard.getLowerBounds()[0], bindings, out.append("? super "));
+            }
+            Type upperBound = wildcard.getUpperBounds()[0];
+            return upperBound == Object.class ? out.append('?') : render(upperBound, bindings, out.append("? extends "));
+        }
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+
+    /**
+     * Returns the signatures of the given types, starting at the given index, separated by {@code ", "}.
+     */
+    static String describe(GenericType[] types, int from) {
+        StringBuilder out = new StringBuilder();
+        for (int i = from; i < types.length; i++) {
+            out.append(i == from ? "" : ", ").append(types[i].name);
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Recursive descent parser for signatures, which renders the canonical signature while it parses.
+     */
+    private static final class Parser {
+        private final String signature;
+        private final StringBuilder out = new StringBuilder();
+        private int position;
+
+        Parser(String signature) {
+            this.signature = signature;
+        }
+
+        String parse() {
+            type();
+            skipWhitespace();
+            if (position < signature.length()) {
+                throw malformed("unexpected '" + signature.charAt(position) + "'");
+            }
+            return out.toString();
+        }
+
+        private void type() {
+            skipWhitespace();
+            if (accept('?')) {
+                wildcard();
+                return;
+            }
+            out.append(name());
+            if (accept('<')) {
+                out.append('<');
+                type();
+                while (accept(',')) {
+                    out.append(", ");
+                    type();
+                }
+                expect('>');
+                out.append('>');
+            }
+            while (accept('[')) {
+                expect(']');
+                out.append("[]");
+            }
+        }
+
+        private void wildcard() {
+            skipWhitespace();
+            int start = position;
+            String keyword = position < signature.length() && Character.isJavaIdentifierStart(signature.charAt(position))
+                    ? name() : "";
+            if (keyword.isEmpty()) {
+                out.append('?');
+            } else if (keyword.equals("super")) {
+                out.append("? super ");
+                type();
+            } else if (keyword.equals("extends")) {
+                int mark = out.length();
+                out.append("? extends ");
+                int bound = out.length();
+                type();
+                if (out.substring(bound).equals("java.lang.Object")) {
+                    out.setLength(mark);
+                    out.append('?');
+                }
+            } else {
+                position = start;
+                throw malformed("expected 'extends' or 'super'");
+            }
+        }
+
+        private String name() {
+            skipWhitespace();
+            int start = position;
+            while (position < signature.length()) {
+                char c = signature.charAt(position);
+                boolean valid = position == start || signature.charAt(position - 1) == '.'
+                        ? Character.isJavaIdentifierStart(c) : Character.isJavaIdentifierPart(c) || c == '.';
+                if (!valid) {
+                    break;
+                }
+                position++;
+            }
+            if (position == start || signature.charAt(position - 1) == '.') {
+                throw malformed("expected a type name");
+            }
+            return signature.substring(start, position);
+        }
+
+        private boolean accept(char c) {
+            skipWhitespace();
+            if (position < signature.length() && signature.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!accept(c)) {
+                throw malformed("expected '" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < signature.length() && Character.isWhitespace(signature.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException malformed(String reason) {
+            return new IllegalArgumentException("Malformed generic signature \"" + signature + "\" at position "
+                    + position + ": " + reason);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package org.assertj.reflection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * The class files in a jar, read from a memory mapping of the archive without loading any class.
+ * <p>
+ * Only the central directory at the end of the archive is parsed up front. The class files are then read in parallel,
+ * straight from the mapping: stored entries without copying them, deflated entries by inflating them into a buffer of
+ * their own. Entries under {@code META-INF/}, such as the versioned classes of a multi-release jar, and module
+ * descriptors are skipped. Archives of up to 2 GB are supported, including ZIP64 archives with more than 65,535
+ * entries.
+ */
+final class JarArchive {
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR = 0x07064b50;
+    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int ZIP64_EXTRA_FIELD = 0x0001;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final long UNKNOWN = 0xFFFFFFFFL;
+
+    private final Path path;
+    private final ByteBuffer archive;
+    private final List<Entry> entries;
+
+    private JarArchive(Path path, ByteBuffer archive, List<Entry> entries) {
+        this.path = path;
+        this.archive = archive;
+        this.entries = entries;
+    }
+
+    /**
+     * Maps the given jar and reads its central directory.
+     *
+     * @throws UncheckedIOException     if the jar cannot be read.
+     * @throws IllegalArgumentException if the file is not a zip archive, or is larger than 2 GB.
+     */
+    static JarArchive open(Path path) {
+        MappedByteBuffer archive;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Unable to read " + path + ": archives larger than 2 GB are not supported");
+            }
+            archive = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read jar " + path, e);
+        }
+        archive.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return new JarArchive(path, archive, readCentralDirectory(archive));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unable to read " + path + ": truncated or malformed zip archive", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unable to read " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<Entry> readCentralDirectory(ByteBuffer archive) {
+        int end = findEndOfCentralDirectory(archive);
+        long entryCount = archive.getShort(end + 10) & 0xFFFF;
+        long offset = archive.getInt(end + 16) & UNKNOWN;
+        int locator = end - 20;
+        if (locator >= 0 && archive.getInt(locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR) {
+            int zip64End = (int) archive.getLong(locator + 8);
+            if (archive.getInt(zip64End) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                throw new IllegalArgumentException("invalid ZIP64 end of central directory");
+            }
+            entryCount = archive.getLong(zip64End + 32);
+            offset = archive.getLong(zip64End + 48);
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        int position = (int) offset;
+        for (long i = 0; i < entryCount; i++) {
+            if (archive.getInt(position) != CENTRAL_DIRECTORY_HEADER) {
+                throw new IllegalArgumentException("invalid central directory header");
+            }
+            int method = archive.getShort(position + 10) & 0xFFFF;
+            long compressedSize = archive.getInt(position + 20) & UNKNOWN;
+            long size = archive.getInt(position + 24) & UNKNOWN;
+            int nameLength = archive.getShort(position + 28) & 0xFFFF;
+            int extraLength = archive.getShort(position + 30) & 0xFFFF;
+            int commentLength = archive.getShort(position + 32) & 0xFFFF;
+            long localHeader = archive.getInt(position + 42) & UNKNOWN;
+            String name = string(archive, position + 46, nameLength);
+
+            if (size == UNKNOWN || compressedSize == UNKNOWN || localHeader == UNKNOWN) {
+                int extra = zip64ExtraField(archive, position + 46 + nameLength, extraLength);
+                if (size == UNKNOWN) {
+                    size = archive.getLong(extra);
+                    extra += 8;
+                }
+                if (compressedSize == UNKNOWN) {
+                    compressedSize = archive.getLong(extra);
+                    extra += 8;
+                }
+                if (localHeader == UNKNOWN) {
+                    localHeader = archive.getLong(extra);
+                }
+            }
+            if (isClassFile(name)) {
+                entries.add(new Entry(name, method, (int) localHeader, (int) compressedSize, (int) size));
+            }
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer archive) {
+        // The record is at the end of the archive, followed by a comment of at most 65,535 bytes
+        int last = archive.limit() - 22;
+        for (int position = last; position >= 0 && position >= last - 0xFFFF; position--) {
+            if (archive.getInt(position) == END_OF_CENTRAL_DIRECTORY) {
+                return position;
+            }
+        }
+        throw new IllegalArgumentException("not a zip archive");
+    }
+
+    private static int zip64ExtraField(ByteBuffer archive, int position, int length) {
+        int end = position + length;
+        while (position + 4 <= end) {
+            int id = archive.getShort(position) & 0xFFFF;
+            int size = archive.getShort(position + 2) & 0xFFFF;
+            if (id == ZIP64_EXTRA_FIELD) {
+                return position + 4;
+            }
+            position += 4 + size;
+        }
+        throw new IllegalArgumentException("missing ZIP64 extra field");
+    }
+
+    private static boolean isClassFile(String name) {
+        return name.endsWith(".class") && !name.startsWith("META-INF/") && !name.endsWith("module-info.class");
+    }
+
+    private static String string(ByteBuffer archive, int position, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = archive.get(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Reads all class files in parallel.
+     *
+     * @return The class files by binary class name.
+     * @throws IllegalArgumentException if an entry is not a valid class file, or uses an unsupported compression method.
+     */
+    Map<String, ClassFile> readClasses() {
+        Map<String, ClassFile> classes = new ConcurrentHashMap<>(entries.size() * 4 / 3 + 1);
+        entries.parallelStream().forEach(entry -> {
+            ClassFile classFile = read(entry);
+            classes.put(classFile.getName(), classFile);
+        });
+        return classes;
+    }
+
+    private ClassFile read(Entry entry) {
+        try {
+            ByteBuffer data = archive.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            if (data.getInt(entry.localHeader) != LOCAL_FILE_HEADER) {
+                throw new IllegalArgumentException("invalid local file header");
+            }
+            int start = entry.localHeader + 30 + (data.getShort(entry.localHeader + 26) & 0xFFFF)
+                    + (data.getShort(entry.localHeader + 28) & 0xFFFF);
+            // Through Buffer, because ByteBuffer only overrides these methods from Java 9 on
+            ((Buffer) data).position(start);
+            ((Buffer) data).limit(start + entry.compressedSize);
+            if (entry.method == STORED) {
+                return ClassFile.read(data);
+            }
+            if (entry.method != DEFLATED) {
+                throw new IllegalArgumentException("unsupported compression method " + entry.method);
+            }
+            return ClassFile.read(inflate(data, entry.size));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Unable to read " + entry.name + " in " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer data, int size) {
+        byte[] compressed = new byte[data.remaining()];
+        data.get(compressed);
+        byte[] bytes = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                int inflated = inflater.inflate(bytes, length, size - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != size) {
+                throw new IllegalArgumentException("corrupt deflated entry");
+            }
+            return bytes;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("corrupt deflated entry", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    /**
+     * A class file in the archive, as described by the central directory.
+     */
+    private static final class Entry {
+        private final String name;
+        private final int method;
+        private final int localHeader;
+        private final int compressedSize;
+        private final int size;
+
+        Entry(String name, int method, int localHeader, int compressedSize, int size) {
+            this.name = name;
+            this.method = method;
+            this.localHeader = localHeader;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.assertj.reflection;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assertions for a jar file, read with {@link ClassFile} instead of being loaded by a class loader.
+ */
+public class JarAssert extends AbstractReflectionAssert<JarAssert, Path> {
+
+    /**
+     * Creates a new {@link JarAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected JarAssert(Path actual) {
+        super(actual, JarAssert.class);
+    }
+
+    /**
+     * Verifies that code compiled against an older version of the jar still links against the jar under test, as
+     * defined by the binary compatibility rules of the Java Language Specification (chapter 13):
+     * <pre><code class='java'>
+     * assertThatJar(Paths.get("target/acme-2.0.jar")).isBinaryCompatibleWith(Paths.get("lib/acme-1.0.jar"));
+     * </code></pre>
+     * The public and protected classes and members of the old jar are compared with those of the jar under test.
+     * Incompatible changes, such as removed methods, changed field types and classes that became final, are reported
+     * together, grouped by kind.
+     * <p>
+     * Neither jar is loaded: both are memory-mapped, and their class files are read and compared in parallel.
+     * Members that moved to a superclass in the jar under test are still found, but supertypes from outside the jar,
+     * such as those of the JDK, are compared by name only.
+     *
+     * @param oldJar The path to the older version of the jar.
+     * @return this {@link JarAssert} instance.
+     * @throws UncheckedIOException     if either jar cannot be read.
+     * @throws IllegalArgumentException if either file is not a jar, or contains an invalid class file.
+     */
+    public JarAssert isBinaryCompatibleWith(Path oldJar) {
+        return instrumented("isBinaryCompatibleWith", null, oldJar, JarAssert::checkIsBinaryCompatibleWith);
+    }
+
+    private JarAssert checkIsBinaryCompatibleWith(Path oldJar) {
+        Map<String, ClassFile> oldClasses = JarArchive.open(oldJar).readClasses();
+        Map<String, ClassFile> newClasses = JarArchive.open(actual).readClasses();
+        Map<BinaryCompatibility.Kind, List<String>> changes = BinaryCompatibility.compare(oldClasses, newClasses);
+        if (changes.isEmpty()) {
+            return this;
+        }
+
+        StringBuilder report = new StringBuilder();
+        int count = 0;
+        for (Map.Entry<BinaryCompatibility.Kind, List<String>> kind : changes.entrySet()) {
+            report.append(String.format("%n  %s:", kind.getKey()));
+            for (String change : kind.getValue()) {
+                report.append(String.format("%n    %s", change));
+            }
+            count += kind.getValue().size();
+        }
+        return fail(failure("Expected %s to be binary compatible with %s but found %d incompatible change%s:%s",
+                actual, oldJar, count, count == 1 ? "" : "s", report));
+    }
+}
@@ -0,0 +1,694 @@
+package org.assertj.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Index of the declared members of a single class, built once per class and shared by all assertions.
+ * <p>
+ * {@link Class#getDeclaredMethod(String, Class[])} and friends copy the requested member on every call,
+ * and the JDK rebuilds its own reflection data whenever it is dropped under memory pressure.
+ * This index reads the declared members once and keeps them, together with their parameter types,
+ * so that repeated lookups do not copy anything.
+ * <p>
+ * Indexes are stored through a {@link ClassValue}, which keeps the index on the {@link Class} itself rather than in a
+ * map owned by this library. The index only references members of its own class and of its supertypes, which are
+ * reachable from the class anyway, so it never keeps a class loader reachable that would otherwise be unloaded.
+ * <p>
+ * Indexes are shared by all threads. The parts that are computed on first use are immutable once built, and are
+ * published through volatile fields or concurrent maps, so that threads racing to build the same part at most build
+ * it twice, with equal results.
+ */
+final class MemberIndex {
+    private static final LongAdder LOOKUPS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final ThreadLocal<int[]> BUILT_ON_THREAD = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final ClassValue<MemberIndex> INDEXES = new ClassValue<MemberIndex>() {
+        @Override
+        protected MemberIndex computeValue(Class<?> type) {
+            MISSES.increment();
+            BUILT_ON_THREAD.get()[0]++;
+            return new MemberIndex(type);
+        }
+    };
+
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+    private static final Method[] NO_METHODS = new Method[0];
+
+    private final Class<?> type;
+    private final Field[] fields;
+    private final Map<String, Field> fieldsByName;
+    private final Method[] methods;
+    private final Map<String, Overloads<Method>> methodsByName;
+    private final Overloads<Constructor<?>> constructors;
+    private final ConcurrentMap<String, Property> properties = new ConcurrentHashMap<>();
+    private volatile Accessors accessors;
+    private volatile Hierarchy hierarchy;
+    private volatile Annotations annotations;
+    private volatile ApiSnapshot apiSnapshot;
+    private volatile Suggestions suggestions;
+    private volatile ClassShape shape;
+    private final ConcurrentMap<Member, GenericType[]> genericSignatures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+    private volatile Map<TypeVariable<?>, GenericType> typeArguments;
+
+    private MemberIndex(Class<?> type) {
+        this.type = type;
+        this.fields = type.getDeclaredFields();
+        this.fieldsByName = new HashMap<>(capacityFor(fields.length));
+        for (Field field : fields) {
+            fieldsByName.put(field.getName(), field);
+        }
+
+        this.methods = type.getDeclaredMethods();
+        Map<String, List<Method>> grouped = new LinkedHashMap<>(capacityFor(methods.length));
+        for (Method method : methods) {
+            grouped.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+        }
+        this.methodsByName = new HashMap<>(capacityFor(grouped.size()));
+        for (Map.Entry<String, List<Method>> entry : grouped.entrySet()) {
+            methodsByName.put(entry.getKey(), new Overloads<>(entry.getValue().toArray(new Method[0])));
+        }
+
+        this.constructors = new Overloads<>(type.getDeclaredConstructors());
+    }
+
+    /**
+     * Returns the index of the given class, building it on first access.
+     *
+     * @param type The class to get the index for.
+     * @return The member index of the class.
+     */
+    static MemberIndex of(Class<?> type) {
+        LOOKUPS.increment();
+        return INDEXES.get(type);
+    }
+
+    /**
+     * Returns the number of indexes built by the current thread, to tell whether an assertion was served from the
+     * cache.
+     */
+    static int builtOnThisThread() {
+        return BUILT_ON_THREAD.get()[0];
+    }
+
+    static CacheStatistics statistics() {
+        long misses = MISSES.sum();
+        long lookups = LOOKUPS.sum();
+        return new CacheStatistics("MemberIndex", Math.max(0, lookups - misses), misses);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Returns the declared fields, in the order reported by {@link Class#getDeclaredFields()}.
+     * The returned array is shared and must not be modified.
+     */
+    Field[] fields() {
+        return fields;
+    }
+
+    /**
+     * Returns the declared methods, in the order reported by {@link Class#getDeclaredMethods()}.
+     * The returned array is shared and must not be modified.
+     */
+    Method[] methods() {
+        return methods;
+    }
+
+    /**
+     * Returns the declared constructors, in the order reported by {@link Class#getDeclaredConstructors()}.
+     * The returned array is shared and must not be modified.
+     */
+    Constructor<?>[] constructors() {
+        return constructors.members;
+    }
+
+    /**
+     * Returns the names of the JavaBeans accessors of the declared fields, computed on first use.
+     */
+    Accessors accessors() {
+        Accessors result = accessors;
+        if (result == null) {
+            result = new Accessors(fields);
+            accessors = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the members of this class together with the members it inherits, computed on first use from the
+     * hierarchies of its superclass and interfaces, which are computed once and shared by all their subclasses.
+     */
+    Hierarchy hierarchy() {
+        Hierarchy result = hierarchy;
+        if (result == null) {
+            result = new Hierarchy(this);
+            hierarchy = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the snapshot of the visible API of this class, computed on first use.
+     */
+    ApiSnapshot apiSnapshot() {
+        ApiSnapshot result = apiSnapshot;
+        if (result == null) {
+            result = ApiSnapshot.of(this);
+            apiSnapshot = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the shape of this class, computed on first use.
+     */
+    ClassShape shape() {
+        ClassShape result = shape;
+        if (result == null) {
+            result = ClassShape.of(this);
+            shape = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the declared members to suggest when a lookup fails, indexed on first use.
+     */
+    Suggestions suggestions() {
+        Suggestions result = suggestions;
+        if (result == null) {
+            result = new Suggestions(type.getSimpleName(), Arrays.asList(fields), members(methodsByName),
+                    constructors.members);
+            suggestions = result;
+        }
+        return result;
+    }
+
+    private static Map<String, Method[]> members(Map<String, Overloads<Method>> methodsByName) {
+        Map<String, Method[]> methods = new HashMap<>(capacityFor(methodsByName.size()));
+        methodsByName.forEach((name, overloads) -> methods.put(name, overloads.members));
+        return methods;
+    }
+
+    /**
+     * Looks up an annotation of a class or of a declared member, like {@link AnnotatedElement#getAnnotation(Class)}
+     * does. The annotations of a class and all its declared members are read once, on first use, and kept in the
+     * index of the class, so that a lookup neither parses nor copies any annotations.
+     *
+     * @return The annotation, or {@code null} if the element is not annotated with the given type.
+     */
+    static <A extends Annotation> A annotation(AnnotatedElement element, Class<A> annotationType) {
+        if (element instanceof Class) {
+            return of((Class<?>) element).annotations().type.find(annotationType);
+        }
+        Member member = (Member) element;
+        AnnotationTable table = of(member.getDeclaringClass()).annotations().members.get(member);
+        return table == null ? null : table.find(annotationType);
+    }
+
+    private Annotations annotations() {
+        Annotations result = annotations;
+        if (result == null) {
+            result = new Annotations(this);
+            annotations = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the generic signature of a field or method of this class or of one of its supertypes: the type of a
+     * field, or the return type followed by the parameter types of a method. Type variables of the supertypes are
+     * resolved against this class, so that {@code T get()} of a {@code Supplier<String>} returns
+     * {@code java.lang.String}. The generic signature of a member is parsed once and kept.
+     */
+    GenericType[] genericSignature(Member member) {
+        GenericType[] signature = genericSignatures.get(member);
+        if (signature == null) {
+            signature = resolveGenericSignature(member);
+            genericSignatures.putIfAbsent(member, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the accessor that reads the values of a declared field, created on first use and kept.
+     *
+     * @throws IllegalArgumentException if the field cannot be made accessible.
+     */
+    FieldAccessor fieldAccessor(Field field) {
+        FieldAccessor accessor = fieldAccessors.get(field);
+        if (accessor == null) {
+            accessor = FieldAccessor.of(field);
+            fieldAccessors.putIfAbsent(field, accessor);
+        }
+        return accessor;
+    }
+
+    private GenericType[] resolveGenericSignature(Member member) {
+        Map<TypeVariable<?>, GenericType> bindings = typeArguments();
+        if (member instanceof Field) {
+            return new GenericType[]{GenericType.of(((Field) member).getGenericType(), bindings)};
+        }
+        Method method = (Method) member;
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        GenericType[] signature = new GenericType[parameterTypes.length + 1];
+        signature[0] = GenericType.of(method.getGenericReturnType(), bindings);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            signature[i + 1] = GenericType.of(parameterTypes[i], bindings);
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the type arguments that this class passes to the type parameters of its supertypes, directly or
+     * through other supertypes, computed on first use.
+     */
+    private Map<TypeVariable<?>, GenericType> typeArguments() {
+        Map<TypeVariable<?>, GenericType> result = typeArguments;
+        if (result == null) {
+            result = new HashMap<>();
+            bindSupertypes(type, result);
+            typeArguments = result;
+        }
+        return result;
+    }
+
+    private static void bindSupertypes(Class<?> type, Map<TypeVariable<?>, GenericType> bindings) {
+        Type superclass = type.getGenericSuperclass();
+        if (superclass != null) {
+            bind(superclass, bindings);
+        }
+        for (Type supertype : type.getGenericInterfaces()) {
+            bind(supertype, bindings);
+        }
+    }
+
+    private static void bind(Type supertype, Map<TypeVariable<?>, GenericType> bindings) {
+        if (supertype instanceof ParameterizedType) {
+            Class<?> rawType = (Class<?>) ((ParameterizedType) supertype).getRawType();
+            TypeVariable<?>[] parameters = rawType.getTypeParameters();
+            Type[] arguments = ((ParameterizedType) supertype).getActualTypeArguments();
+            for (int i = 0; i < parameters.length; i++) {
+                bindings.putIfAbsent(parameters[i], GenericType.of(arguments[i], bindings));
+            }
+            bindSupertypes(rawType, bindings);
+        } else {
+            bindSupertypes((Class<?>) supertype, bindings);
+        }
+    }
+
+    /**
+     * Looks up the JavaBeans property with the given name and type, see {@link Property}. The property is resolved
+     * once and kept, so that asserting it again only costs a map lookup.
+     *
+     * @return The property, which has no members if the class declares none of them.
+     */
+    Property property(String name, Class<?> propertyType) {
+        Property property = properties.get(name);
+        if (property != null && property.getType() == propertyType) {
+            return property;
+        }
+        Property resolved = resolveProperty(name, propertyType);
+        if (property == null) {
+            properties.putIfAbsent(name, resolved);
+        }
+        return resolved;
+    }
+
+    private Property resolveProperty(String name, Class<?> propertyType) {
+        String suffix = capitalize(name);
+        Field field = fieldsByName.get(name);
+        if (field != null && (field.getType() != propertyType || !isPropertyMember(field))) {
+            field = null;
+        }
+        Method getter = propertyType == boolean.class ? getter("is" + suffix, propertyType) : null;
+        if (getter == null) {
+            getter = getter("get" + suffix, propertyType);
+        }
+        Method setter = method("set" + suffix, propertyType);
+        if (setter != null && !isPropertyMember(setter)) {
+            setter = null;
+        }
+        return new Property(type, name, propertyType, field, getter, setter);
+    }
+
+    private Method getter(String name, Class<?> propertyType) {
+        Method method = method(name, NO_PARAMETERS);
+        if (method == null || method.getReturnType() != propertyType || !isPropertyMember(method)) {
+            return null;
+        }
+        return method;
+    }
+
+    private static boolean isPropertyMember(Member member) {
+        return !Modifier.isStatic(member.getModifiers()) && !member.isSynthetic();
+    }
+
+    /**
+     * Looks up a declared field by name.
+     *
+     * @return The field, or {@code null} if the class declares no field with the given name.
+     */
+    Field field(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * Looks up a declared method like {@link Class#getDeclaredMethod(String, Class[])} does:
+     * if several methods share the given signature, the one with the most specific return type is returned.
+     *
+     * @return The method, or {@code null} if the class declares no such method.
+     */
+    Method method(String name, Class<?>... parameterTypes) {
+        Overloads<Method> overloads = methodsByName.get(name);
+        return overloads == null ? null : overloads.find(parameterTypes);
+    }
+
+    /**
+     * Looks up all declared methods with the given name, regardless of their parameters.
+     * The returned array is shared and must not be modified.
+     *
+     * @return The methods, or an empty array if the class declares no method with the given name.
+     */
+    Method[] methods(String name) {
+        Overloads<Method> overloads = methodsByName.get(name);
+        return overloads == null ? NO_METHODS : overloads.members;
+    }
+
+    /**
+     * Looks up a declared method with a single parameter, without requiring a parameter array.
+     *
+     * @return The method, or {@code null} if the class declares no such method.
+     */
+    Method method(String name, Class<?> parameterType) {
+        Overloads<Method> overloads = methodsByName.get(name);
+        return overloads == null ? null : overloads.find(parameterType);
+    }
+
+    /**
+     * Looks up a declared constructor by its parameter types.
+     *
+     * @return The constructor, or {@code null} if the class declares no such constructor.
+     */
+    Constructor<?> constructor(Class<?>... parameterTypes) {
+        return constructors.find(parameterTypes);
+    }
+
+    /**
+     * Looks up a declared constructor with a single parameter, without requiring a parameter array.
+     *
+     * @return The constructor, or {@code null} if the class declares no such constructor.
+     */
+    Constructor<?> constructor(Class<?> parameterType) {
+        return constructors.find(parameterType);
+    }
+
+    /**
+     * Returns the given property name as it appears in the names of its accessors, e.g. {@code Name} for {@code name}.
+     */
+    static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static int capacityFor(int size) {
+        return Math.max(4, (int) (size / 0.75f) + 1);
+    }
+
+    /**
+     * Members that share a name (methods) or a kind (constructors), with their parameter types read once up front.
+     */
+    private static final class Overloads<T extends Executable> {
+        private final T[] members;
+        private final Class<?>[][] parameterTypes;
+
+        Overloads(T[] members) {
+            this.members = members;
+            this.parameterTypes = new Class<?>[members.length][];
+            for (int i = 0; i < members.length; i++) {
+                parameterTypes[i] = members[i].getParameterTypes();
+            }
+        }
+
+        T find(Class<?>[] wanted) {
+            Class<?>[] expected = wanted == null ? NO_PARAMETERS : wanted;
+            T found = null;
+            for (int i = 0; i < members.length; i++) {
+                if (Arrays.equals(parameterTypes[i], expected)) {
+                    found = mostSpecific(found, members[i]);
+                }
+            }
+            return found;
+        }
+
+        T find(Class<?> wanted) {
+            T found = null;
+            for (int i = 0; i < members.length; i++) {
+                Class<?>[] candidate = parameterTypes[i];
+                if (candidate.length == 1 && candidate[0] == wanted) {
+                    found = mostSpecific(found, members[i]);
+                }
+            }
+            return found;
+        }
+
+        private T mostSpecific(T current, T candidate) {
+            if (current == null) {
+                return candidate;
+            }
+            if (current instanceof Method
+                    && ((Method) current).getReturnType().isAssignableFrom(((Method) candidate).getReturnType())) {
+                return candidate;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * The getter and setter names of the declared fields, at the same positions as in {@link #fields()}: for a field
+     * {@code name} these are {@code getName} and {@code setName}, or {@code isName} for the getter of a
+     * {@code boolean} field. The signatures are kept as well, for reporting missing accessors.
+     */
+    static final class Accessors {
+        final String[] getters;
+        final String[] setters;
+        final String[] getterSignatures;
+        final String[] setterSignatures;
+
+        private Accessors(Field[] fields) {
+            this.getters = new String[fields.length];
+            this.setters = new String[fields.length];
+            this.getterSignatures = new String[fields.length];
+            this.setterSignatures = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                String property = capitalize(fields[i].getName());
+                getters[i] = (fields[i].getType() == boolean.class ? "is" : "get") + property;
+                setters[i] = "set" + property;
+                getterSignatures[i] = getters[i] + "()";
+                setterSignatures[i] = setters[i] + "(" + fields[i].getType().getName() + ")";
+            }
+        }
+    }
+
+    /**
+     * The methods and fields of a class that are visible through it: its declared members, followed by the members it
+     * inherits, like {@link Class#getMethod(String, Class[])} and {@link Class#getField(String)} resolve them but
+     * regardless of their access level. Private members of supertypes and static methods of interfaces are not
+     * inherited, and a method that is overridden is only visible in its most specific declaration. Synthetic members
+     * are left out.
+     * <p>
+     * The tables of the superclass and interfaces are merged into a new table, so that a lookup is a single probe
+     * however deep the hierarchy is.
+     */
+    static final class Hierarchy {
+        private final Map<String, Overloads<Method>> methodsByName;
+        private final Map<String, Field> fieldsByName;
+        private final MemberIndex index;
+        private volatile Suggestions suggestions;
+
+        private Hierarchy(MemberIndex index) {
+            this.index = index;
+            Class<?> type = index.type;
+            Map<String, List<Method>> methods = new LinkedHashMap<>();
+            for (Method method : index.methods) {
+                if (!method.isSynthetic()) {
+                    methods.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+                }
+            }
+            Map<String, Field> fields = new LinkedHashMap<>();
+            for (Field field : index.fields) {
+                if (!field.isSynthetic()) {
+                    fields.put(field.getName(), field);
+                }
+            }
+
+            Class<?> superclass = type.getSuperclass();
+            for (Class<?> supertype : type.getInterfaces()) {
+                inherit(MemberIndex.of(supertype).hierarchy(), true, methods, fields);
+            }
+            if (superclass != null) {
+                inherit(MemberIndex.of(superclass).hierarchy(), false, methods, fields);
+            }
+
+            this.methodsByName = new HashMap<>(capacityFor(methods.size()));
+            for (Map.Entry<String, List<Method>> entry : methods.entrySet()) {
+                methodsByName.put(entry.getKey(), new Overloads<>(entry.getValue().toArray(new Method[0])));
+            }
+            this.fieldsByName = new HashMap<>(fields);
+        }
+
+        /**
+         * Adds the members of a supertype that are not private and not already visible. Interfaces are inherited
+         * before the superclass for fields, like {@link Class#getField(String)} does, but methods of the superclass
+         * take precedence over default methods.
+         */
+        private static void inherit(Hierarchy supertype, boolean isInterface, Map<String, List<Method>> methods,
+                                    Map<String, Field> fields) {
+            for (Map.Entry<String, Overloads<Method>> entry : supertype.methodsByName.entrySet()) {
+                Overloads<Method> overloads = entry.getValue();
+                for (int i = 0; i < overloads.members.length; i++) {
+                    Method method = overloads.members[i];
+                    int modifiers = method.getModifiers();
+                    if (Modifier.isPrivate(modifiers) || isInterface && Modifier.isStatic(modifiers)) {
+                        continue;
+                    }
+                    List<Method> visible = methods.computeIfAbsent(entry.getKey(), name -> new ArrayList<>(1));
+                    int overridden = indexOfSignature(visible, overloads.parameterTypes[i]);
+                    if (overridden < 0) {
+                        visible.add(method);
+                    } else if (!isInterface && visible.get(overridden).getDeclaringClass().isInterface()) {
+                        visible.set(overridden, method);
+                    }
+                }
+            }
+            for (Field field : supertype.fieldsByName.values()) {
+                if (!Modifier.isPrivate(field.getModifiers())) {
+                    fields.putIfAbsent(field.getName(), field);
+                }
+            }
+        }
+
+        private static int indexOfSignature(List<Method> methods, Class<?>[] parameterTypes) {
+            for (int i = 0; i < methods.size(); i++) {
+                if (Arrays.equals(methods.get(i).getParameterTypes(), parameterTypes)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Looks up a visible method, like {@link MemberIndex#method(String, Class[])} does for declared methods.
+         *
+         * @return The method, or {@code null} if no such method is visible.
+         */
+        Method method(String name, Class<?>... parameterTypes) {
+            Overloads<Method> overloads = methodsByName.get(name);
+            return overloads == null ? null : overloads.find(parameterTypes);
+        }
+
+        /**
+         * Looks up a visible method with a single parameter, without requiring a parameter array.
+         *
+         * @return The method, or {@code null} if no such method is visible.
+         */
+        Method method(String name, Class<?> parameterType) {
+            Overloads<Method> overloads = methodsByName.get(name);
+            return overloads == null ? null : overloads.find(parameterType);
+        }
+
+        /**
+         * Looks up a visible field by name.
+         *
+         * @return The field, or {@code null} if no such field is visible.
+         */
+        Field field(String name) {
+            return fieldsByName.get(name);
+        }
+
+        /**
+         * Returns the visible members to suggest when a lookup fails, indexed on first use.
+         */
+        Suggestions suggestions() {
+            Suggestions result = suggestions;
+            if (result == null) {
+                result = new Suggestions(index.type.getSimpleName(), fieldsByName.values(), members(methodsByName),
+                        index.constructors.members);
+                suggestions = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The annotations of a class and of its declared members. Members without annotations are left out.
+     */
+    private static final class Annotations {
+        private final AnnotationTable type;
+        private final Map<Member, AnnotationTable> members;
+
+        Annotations(MemberIndex index) {
+            this.type = new AnnotationTable(index.type.getAnnotations());
+            this.members = new HashMap<>();
+            add(index.fields);
+            add(index.methods);
+            add(index.constructors.members);
+        }
+
+        private <T extends AnnotatedElement & Member> void add(T[] elements) {
+            for (T element : elements) {
+                Annotation[] annotations = element.getAnnotations();
+                if (annotations.length > 0) {
+                    members.put(element, new AnnotationTable(annotations));
+                }
+            }
+        }
+    }
+
+    /**
+     * The annotations of a single element, with their types read once up front.
+     */
+    private static final class AnnotationTable {
+        private final Annotation[] annotations;
+        private final Class<?>[] types;
+
+        AnnotationTable(Annotation[] annotations) {
+            this.annotations = annotations;
+            this.types = new Class<?>[annotations.length];
+            for (int i = 0; i < annotations.length; i++) {
+                types[i] = annotations[i].annotationType();
+            }
+        }
+
+        <A extends Annotation> A find(Class<A> annotationType) {
+            for (int i = 0; i < types.length; i++) {
+                if (types[i] == annotationType) {
+                    return annotationType.cast(annotations[i]);
+                }
+            }
+            return null;
+        }
+    }
+}
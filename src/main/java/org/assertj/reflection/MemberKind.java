@@ -0,0 +1,41 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+
+/**
+ * The kinds of members that modifiers are checked on.
+ * Access flags are interpreted per kind, because fields and methods use some of the same bits for different flags.
+ */
+enum MemberKind {
+    FIELD("fields"),
+    METHOD("methods"),
+    CONSTRUCTOR("constructors");
+
+    private final String description;
+
+    MemberKind(String description) {
+        this.description = description;
+    }
+
+    static MemberKind of(Member member) {
+        if (member instanceof Field) {
+            return FIELD;
+        }
+        return member instanceof Constructor ? CONSTRUCTOR : METHOD;
+    }
+
+    static MemberKind of(ClassFile.MethodInfo method) {
+        return method.isConstructor() ? CONSTRUCTOR : METHOD;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -7,11 +7,44 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Modifier;
 
 class MemberModifierShouldBe extends BasicErrorMessageFactory {
-    private static final String PACKAGE_PRIVATE = "package-private";
+    static final String PACKAGE_PRIVATE = "package-private";
 
     public MemberModifierShouldBe(Member actual, boolean positive, String modifier) {
+        this(actual.toString(), actual.getModifiers(), MemberKind.of(actual), positive, modifier);
+    }
+
+    MemberModifierShouldBe(String actual, int actualModifiers, MemberKind kind, boolean positive, String modifier) {
         super("%nExpecting actual:%n  %s%n" + (positive ? "to" : "not to") + " be %s but was %s.",
-                actual.toString(), modifier, modifiers(actual));
+                actual, modifier, ModifierFlag.describe(actualModifiers, kind, true));
+    }
+
+    private MemberModifierShouldBe(String format, Object... arguments) {
+        super(format, arguments);
+    }
+
+    /**
+     * Creates the error for a member that does not match the given spec. A spec of a single flag is reported like
+     * {@link #shouldBePublic(Member)} and its siblings; otherwise the message lists all missing and unexpected flags.
+     */
+    static ErrorMessageFactory shouldHaveModifiers(String actual, int actualModifiers, MemberKind kind, ModifierSpec spec) {
+        ModifierFlag flag = spec.singleFlag();
+        if (flag != null) {
+            return new MemberModifierShouldBe(actual, actualModifiers, kind, !spec.isNegated(), flag.toString());
+        }
+
+        String format = "%nExpecting actual:%n  %s%n" + (spec.isNegated() ? "not to" : "to") + " have "
+                + (spec.isExact() ? "exactly " : "") + "modifiers %s but was %s.";
+        if (!spec.isNegated()) {
+            String missing = spec.describeMissing(actualModifiers, kind);
+            if (!missing.isEmpty()) {
+                format += "%nMissing: " + missing;
+            }
+            String unexpected = spec.describeUnexpected(actualModifiers, kind);
+            if (!unexpected.isEmpty()) {
+                format += "%nUnexpected: " + unexpected;
+            }
+        }
+        return new MemberModifierShouldBe(format, actual, spec.describe(), ModifierFlag.describe(actualModifiers, kind, true));
     }
 
     static ErrorMessageFactory shouldBePublic(Member actual) {
@@ -61,13 +94,4 @@ class MemberModifierShouldBe extends BasicErrorMessageFactory {
     static ErrorMessageFactory shouldNotBeFinal(Member actual) {
         return new MemberModifierShouldBe(actual, false, Modifier.toString(Modifier.FINAL));
     }
-
-    private static String modifiers(Member actual) {
-        int modifiers = actual.getModifiers();
-        if (!Modifier.isPublic(modifiers) && !Modifier.isProtected(modifiers) && !Modifier.isPrivate(modifiers)) {
-            return PACKAGE_PRIVATE;
-        }
-
-        return Modifier.toString(modifiers);
-    }
 }
@@ -1,17 +1,18 @@
 package org.assertj.reflection;
 
-import org.assertj.core.api.AbstractAssert;
-import org.assertj.core.api.Assertions;
-
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
-import static org.assertj.reflection.MemberModifierShouldBe.*;
+import static org.assertj.reflection.MemberModifierShouldBe.shouldHaveModifiers;
 
 /**
  * Assertions for the {@link Method} type.
  */
-public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
+public class MethodAssert extends AbstractReflectionAssert<MethodAssert, Method> {
+    private Class<?> memberOf;
 
     /**
      * Creates a new {@link MethodAssert}.
@@ -22,17 +23,21 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
         super(actual, MethodAssert.class);
     }
 
+    /**
+     * Resolves the type variables of the declaring class against the given subclass, in generic type assertions.
+     */
+    MethodAssert memberOf(Class<?> type) {
+        this.memberOf = type;
+        return this;
+    }
+
     /**
      * Verifies that the {@link Method} is <em>public</em>.
      *
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isPublic() {
-        isNotNull();
-        if (!hasPublicModifier()) {
-            throw assertionError(shouldBePublic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PUBLIC.spec());
     }
 
     /**
@@ -41,15 +46,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isNotPublic() {
-        isNotNull();
-        if (hasPublicModifier()) {
-            throw assertionError(shouldNotBePublic(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPublicModifier() {
-        return Modifier.isPublic(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PUBLIC.negatedSpec());
     }
 
     /**
@@ -58,11 +55,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isProtected() {
-        isNotNull();
-        if (!hasProtectedModifier()) {
-            throw assertionError(shouldBeProtected(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PROTECTED.spec());
     }
 
     /**
@@ -71,15 +64,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isNotProtected() {
-        isNotNull();
-        if (hasProtectedModifier()) {
-            throw assertionError(shouldNotBeProtected(actual));
-        }
-        return this;
-    }
-
-    private boolean hasProtectedModifier() {
-        return Modifier.isProtected(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PROTECTED.negatedSpec());
     }
 
     /**
@@ -88,11 +73,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isPrivate() {
-        isNotNull();
-        if (!hasPrivateModifier()) {
-            throw assertionError(shouldBePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PRIVATE.spec());
     }
 
     /**
@@ -101,15 +82,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isNotPrivate() {
-        isNotNull();
-        if (hasPrivateModifier()) {
-            throw assertionError(shouldNotBePrivate(actual));
-        }
-        return this;
-    }
-
-    private boolean hasPrivateModifier() {
-        return Modifier.isPrivate(actual.getModifiers());
+        return hasModifiers(ModifierFlag.PRIVATE.negatedSpec());
     }
 
     /**
@@ -118,11 +91,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isPackagePrivate() {
-        isNotNull();
-        if (hasPublicModifier() || hasProtectedModifier() || hasPrivateModifier()) {
-            throw assertionError(shouldBePackagePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.spec());
     }
 
     /**
@@ -131,11 +100,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isNotPackagePrivate() {
-        isNotNull();
-        if (!hasPublicModifier() && !hasProtectedModifier() && !hasPrivateModifier()) {
-            throw assertionError(shouldNotBePackagePrivate(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.PACKAGE_PRIVATE.negatedSpec());
     }
 
     /**
@@ -144,11 +109,7 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isStatic() {
-        isNotNull();
-        if (!hasStaticModifier()) {
-            throw assertionError(shouldBeStatic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.STATIC.spec());
     }
 
     /**
@@ -157,15 +118,48 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert isNotStatic() {
-        isNotNull();
-        if (hasStaticModifier()) {
-            throw assertionError(shouldNotBeStatic(actual));
-        }
-        return this;
+        return hasModifiers(ModifierFlag.STATIC.negatedSpec());
+    }
+
+    /**
+     * Verifies that the {@link Method} has all the given modifiers, and possibly others.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.of(flags));
+    }
+
+    /**
+     * Verifies that the {@link Method} has the given modifiers and no others.
+     * If no access level is given, the {@link Method} must be <em>package-private</em>.
+     *
+     * @param flags The expected modifiers.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasExactlyModifiers(ModifierFlag... flags) {
+        return hasModifiers(ModifierSpec.exactly(flags));
+    }
+
+    /**
+     * Verifies that the modifiers of the {@link Method} match the given spec.
+     * All mismatched modifiers are reported at once.
+     *
+     * @param spec The spec to match.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasModifiers(ModifierSpec spec) {
+        return instrumented("hasModifiers", null, spec, MethodAssert::checkHasModifiers);
     }
 
-    private boolean hasStaticModifier() {
-        return Modifier.isStatic(actual.getModifiers());
+    private MethodAssert checkHasModifiers(ModifierSpec spec) {
+        int modifiers = actual.getModifiers();
+        MemberKind kind = MemberKind.METHOD;
+        if (!spec.matches(modifiers, kind)) {
+            return fail(assertionError(shouldHaveModifiers(actual.toString(), modifiers, kind, spec)));
+        }
+        return this;
     }
 
     /**
@@ -175,11 +169,111 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert hasReturnType(Class<?> expected) {
-        isNotNull();
-        Assertions.assertThat(actual.getReturnType()).isEqualTo(expected);
+        return instrumented("hasReturnType", null, expected, MethodAssert::checkHasReturnType);
+    }
+
+    private MethodAssert checkHasReturnType(Class<?> expected) {
+        if (actual.getReturnType() != expected) {
+            return fail(failureWithActualExpected(actual.getReturnType(), expected, "Expected %s to have return type %s but was %s",
+                    actual, expected == null ? null : expected.getTypeName(), actual.getReturnType().getTypeName()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Method} has the expected generic return type, given as a signature such as
+     * {@code "java.util.Map<java.lang.String, java.util.List<T>>"}. Classes are given by their binary names, e.g.
+     * {@code java.util.Map$Entry}, and type variables by their names. If the method was found by
+     * {@link ClassAssert#hasMethod(String, Consumer)} or its overloads, type variables of its declaring class are
+     * resolved against the class under test.
+     *
+     * @param expected The signature of the expected return type.
+     * @return This {@link MethodAssert} instance.
+     * @throws IllegalArgumentException if the signature is malformed.
+     */
+    public MethodAssert hasGenericReturnType(String expected) {
+        return hasGenericReturnType(GenericType.parse(expected));
+    }
+
+    /**
+     * Verifies that the {@link Method} has the expected generic return type, given as a reflected type or as a
+     * {@link TypeReference}. Type variables are resolved as in {@link #hasGenericReturnType(String)}.
+     *
+     * @param expected The expected return type.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasGenericReturnType(Type expected) {
+        return hasGenericReturnType(GenericType.of(expected));
+    }
+
+    private MethodAssert hasGenericReturnType(GenericType expected) {
+        return instrumented("hasGenericReturnType", null, expected, MethodAssert::checkHasGenericReturnType);
+    }
+
+    private MethodAssert checkHasGenericReturnType(GenericType expected) {
+        GenericType returnType = genericSignature()[0];
+        if (returnType != expected) {
+            return fail(failureWithActualExpected(returnType, expected,
+                    "Expected %s to have generic return type %s but was %s", actual, expected, returnType));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Method} has exactly the expected generic parameter types, given as signatures as in
+     * {@link #hasGenericReturnType(String)}.
+     *
+     * @param expected The signatures of the expected parameter types.
+     * @return This {@link MethodAssert} instance.
+     * @throws IllegalArgumentException if a signature is malformed.
+     */
+    public MethodAssert hasGenericParameterTypes(String... expected) {
+        return hasGenericParameterTypes((Object[]) expected);
+    }
+
+    /**
+     * Verifies that the {@link Method} has exactly the expected generic parameter types, given as reflected types or
+     * as {@link TypeReference type references}. Type variables are resolved as in {@link #hasGenericReturnType(String)}.
+     *
+     * @param expected The expected parameter types.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasGenericParameterTypes(Type... expected) {
+        return hasGenericParameterTypes((Object[]) expected);
+    }
+
+    private MethodAssert hasGenericParameterTypes(Object[] expected) {
+        return instrumented("hasGenericParameterTypes", null, expected, MethodAssert::checkHasGenericParameterTypes);
+    }
+
+    private MethodAssert checkHasGenericParameterTypes(Object[] expected) {
+        GenericType[] signature = genericSignature();
+        boolean matches = signature.length == expected.length + 1;
+        for (int i = 0; matches && i < expected.length; i++) {
+            matches = signature[i + 1] == genericType(expected[i]);
+        }
+        if (!matches) {
+            GenericType[] expectedTypes = new GenericType[expected.length];
+            for (int i = 0; i < expected.length; i++) {
+                expectedTypes[i] = genericType(expected[i]);
+            }
+            return fail(failure("Expected %s to have generic parameter types (%s) but were (%s)",
+                    actual, GenericType.describe(expectedTypes, 0), GenericType.describe(signature, 1)));
+        }
         return this;
     }
 
+    private static GenericType genericType(Object type) {
+        return type instanceof String ? GenericType.parse((String) type) : GenericType.of((Type) type);
+    }
+
+    /**
+     * Returns the return type followed by the parameter types.
+     */
+    private GenericType[] genericSignature() {
+        return MemberIndex.of(memberOf == null ? actual.getDeclaringClass() : memberOf).genericSignature(actual);
+    }
+
     /**
      * Verifies that the {@link Method} declares the given exception to be thrown.
      * If a declared exception is assignable to the expected exception, this assertion passes.
@@ -188,8 +282,50 @@ public class MethodAssert extends AbstractAssert<MethodAssert, Method> {
      * @return This {@link MethodAssert} instance.
      */
     public MethodAssert throwsException(Class<? extends Exception> expected) {
-        isNotNull();
-        Assertions.assertThat(actual.getExceptionTypes()).anyMatch(expected::isAssignableFrom);
-        return this;
+        return instrumented("throwsException", null, expected, MethodAssert::checkThrowsException);
+    }
+
+    private MethodAssert checkThrowsException(Class<? extends Exception> expected) {
+        Class<?>[] exceptionTypes = actual.getExceptionTypes();
+        for (Class<?> exceptionType : exceptionTypes) {
+            if (expected.isAssignableFrom(exceptionType)) {
+                return this;
+            }
+        }
+        return fail(failure("Expected %s to declare %s to be thrown but it declares %s",
+                actual, expected.getName(), Arrays.toString(exceptionTypes)));
+    }
+
+    /**
+     * Verifies that the {@link Method} is annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasAnnotation(Class<? extends Annotation> annotationType) {
+        return hasAnnotation(annotationType, null);
+    }
+
+    /**
+     * Verifies that the {@link Method} is annotated with the given annotation type.
+     *
+     * @param annotationType     The type of the annotation.
+     * @param annotationConsumer Consumer that is invoked with the annotation, to perform additional assertions on its
+     *                           attributes.
+     * @param <A>                The type of the annotation.
+     * @return This {@link MethodAssert} instance.
+     */
+    public <A extends Annotation> MethodAssert hasAnnotation(Class<A> annotationType, Consumer<? super A> annotationConsumer) {
+        return hasAnnotation(actual, annotationType, annotationConsumer);
+    }
+
+    /**
+     * Verifies that the {@link Method} is not annotated with the given annotation type.
+     *
+     * @param annotationType The type of the annotation.
+     * @return This {@link MethodAssert} instance.
+     */
+    public MethodAssert hasNoAnnotation(Class<? extends Annotation> annotationType) {
+        return hasNoAnnotation(actual, annotationType);
     }
 }
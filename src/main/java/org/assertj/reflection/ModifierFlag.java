@@ -0,0 +1,197 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Modifier;
+
+import static org.assertj.reflection.MemberKind.CONSTRUCTOR;
+import static org.assertj.reflection.MemberKind.FIELD;
+import static org.assertj.reflection.MemberKind.METHOD;
+
+/**
+ * A modifier or access flag of a field, method or constructor, to build a {@link ModifierSpec} from.
+ * <p>
+ * Each flag only applies to the kinds of members that can have it. This matters because the class file format uses the
+ * same bit for {@link #VOLATILE} fields and {@link #BRIDGE} methods, and for {@link #TRANSIENT} fields and
+ * {@link #VARARGS} methods.
+ */
+public enum ModifierFlag {
+    /**
+     * The <em>public</em> access modifier.
+     */
+    PUBLIC(Modifier.PUBLIC, "public", FIELD, METHOD, CONSTRUCTOR),
+    /**
+     * The <em>protected</em> access modifier.
+     */
+    PROTECTED(Modifier.PROTECTED, "protected", FIELD, METHOD, CONSTRUCTOR),
+    /**
+     * The <em>private</em> access modifier.
+     */
+    PRIVATE(Modifier.PRIVATE, "private", FIELD, METHOD, CONSTRUCTOR),
+    /**
+     * Neither {@link #PUBLIC}, {@link #PROTECTED} nor {@link #PRIVATE}.
+     */
+    PACKAGE_PRIVATE(0, MemberModifierShouldBe.PACKAGE_PRIVATE, FIELD, METHOD, CONSTRUCTOR),
+    /**
+     * The <em>abstract</em> modifier of methods.
+     */
+    ABSTRACT(Modifier.ABSTRACT, "abstract", METHOD),
+    /**
+     * The <em>static</em> modifier of fields and methods.
+     */
+    STATIC(Modifier.STATIC, "static", FIELD, METHOD),
+    /**
+     * The <em>final</em> modifier of fields and methods.
+     */
+    FINAL(Modifier.FINAL, "final", FIELD, METHOD),
+    /**
+     * The <em>transient</em> modifier of fields.
+     */
+    TRANSIENT(Modifier.TRANSIENT, "transient", FIELD),
+    /**
+     * The <em>volatile</em> modifier of fields.
+     */
+    VOLATILE(Modifier.VOLATILE, "volatile", FIELD),
+    /**
+     * The <em>synchronized</em> modifier of methods.
+     */
+    SYNCHRONIZED(Modifier.SYNCHRONIZED, "synchronized", METHOD),
+    /**
+     * The <em>native</em> modifier of methods.
+     */
+    NATIVE(Modifier.NATIVE, "native", METHOD),
+    /**
+     * The <em>strictfp</em> modifier of methods. Since Java 17 it is no longer recorded in class files.
+     */
+    STRICT(Modifier.STRICT, "strictfp", METHOD),
+    /**
+     * Marks a bridge method, generated by the compiler for generic or covariant overrides.
+     */
+    BRIDGE(0x0040, "bridge", METHOD),
+    /**
+     * Marks a method or constructor with a variable number of arguments.
+     */
+    VARARGS(0x0080, "varargs", METHOD, CONSTRUCTOR),
+    /**
+     * Marks a member that was generated by the compiler and does not appear in the source code.
+     */
+    SYNTHETIC(0x1000, "synthetic", FIELD, METHOD, CONSTRUCTOR);
+
+    static final int ACCESS = Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE;
+
+    private static final ModifierFlag[] VALUES = values();
+    private static final int[] MASKS = new int[MemberKind.values().length];
+
+    static {
+        for (ModifierFlag flag : VALUES) {
+            for (MemberKind kind : MemberKind.values()) {
+                if (flag.appliesTo(kind)) {
+                    MASKS[kind.ordinal()] |= flag.mask;
+                }
+            }
+        }
+    }
+
+    private final int modifier;
+    private final int mask;
+    private final String keyword;
+    private final int kinds;
+    private final ModifierSpec spec;
+    private final ModifierSpec negatedSpec;
+
+    ModifierFlag(int modifier, String keyword, MemberKind... kinds) {
+        this.modifier = modifier;
+        this.mask = modifier == 0 ? ACCESS : modifier;
+        this.keyword = keyword;
+        int bits = 0;
+        for (MemberKind kind : kinds) {
+            bits |= kind.bit();
+        }
+        this.kinds = bits;
+        this.spec = ModifierSpec.of(this);
+        this.negatedSpec = spec.negate();
+    }
+
+    /**
+     * The spec that matches members with this flag.
+     */
+    ModifierSpec spec() {
+        return spec;
+    }
+
+    /**
+     * The spec that matches members without this flag.
+     */
+    ModifierSpec negatedSpec() {
+        return negatedSpec;
+    }
+
+    /**
+     * The bit that is set when a member has this flag, or {@code 0} for {@link #PACKAGE_PRIVATE}.
+     */
+    int modifier() {
+        return modifier;
+    }
+
+    /**
+     * The bits that are inspected to decide whether a member has this flag.
+     */
+    int mask() {
+        return mask;
+    }
+
+    boolean appliesTo(MemberKind kind) {
+        return (kinds & kind.bit()) != 0;
+    }
+
+    /**
+     * Returns whether a member of the given kind with the given modifiers has this flag.
+     */
+    boolean isPresentIn(int modifiers, MemberKind kind) {
+        return appliesTo(kind) && (modifiers & mask) == modifier;
+    }
+
+    int kinds() {
+        return kinds;
+    }
+
+    boolean isAccessLevel() {
+        return (mask & ACCESS) != 0;
+    }
+
+    /**
+     * Returns all bits that carry a flag for the given kind of member.
+     */
+    static int mask(MemberKind kind) {
+        return MASKS[kind.ordinal()];
+    }
+
+    /**
+     * Formats the given modifiers as the keywords of the flags that are set, in the order of
+     * {@link Modifier#toString(int)}, starting with {@code package-private} if no access modifier is set.
+     */
+    static String describe(int modifiers, MemberKind kind, boolean withAccessLevel) {
+        StringBuilder builder = new StringBuilder();
+        for (ModifierFlag flag : VALUES) {
+            if (!flag.appliesTo(kind)) {
+                continue;
+            }
+            boolean present = flag == PACKAGE_PRIVATE
+                    ? withAccessLevel && (modifiers & ACCESS) == 0
+                    : (modifiers & flag.modifier) != 0;
+            if (present) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(flag.keyword);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the keyword of this flag, e.g. {@code public}, {@code strictfp} or {@code package-private}.
+     */
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
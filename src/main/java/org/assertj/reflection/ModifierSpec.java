@@ -0,0 +1,154 @@
+package org.assertj.reflection;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A precompiled check of the modifiers of a field, method or constructor.
+ * <p>
+ * The flags are compiled into a mask of the bits to inspect and the bits that are expected, so that any combination
+ * of flags is checked with a single comparison. Specs are immutable and can be shared, e.g. as constants:
+ * <pre><code class='java'>
+ * private static final ModifierSpec CONSTANT = ModifierSpec.exactly(PUBLIC, STATIC, FINAL);
+ *
+ * assertThat(field).hasModifiers(CONSTANT);
+ * </code></pre>
+ */
+public final class ModifierSpec {
+    private final ModifierFlag[] flags;
+    private final int mask;
+    private final int expected;
+    private final int kinds;
+    private final boolean exact;
+    private final boolean negated;
+
+    private ModifierSpec(ModifierFlag[] flags, int mask, int expected, int kinds, boolean exact, boolean negated) {
+        this.flags = flags;
+        this.mask = mask;
+        this.expected = expected;
+        this.kinds = kinds;
+        this.exact = exact;
+        this.negated = negated;
+    }
+
+    /**
+     * Creates a spec that matches members that have all the given flags, and possibly others.
+     *
+     * @param flags The required flags.
+     * @return The spec.
+     * @throws IllegalArgumentException if more than one access level is given.
+     */
+    public static ModifierSpec of(ModifierFlag... flags) {
+        return compile(flags, false);
+    }
+
+    /**
+     * Creates a spec that matches members that have the given flags and no others.
+     * If no access level is given, the member must be <em>package-private</em>.
+     *
+     * @param flags The required flags.
+     * @return The spec.
+     * @throws IllegalArgumentException if more than one access level is given.
+     */
+    public static ModifierSpec exactly(ModifierFlag... flags) {
+        return compile(flags, true);
+    }
+
+    private static ModifierSpec compile(ModifierFlag[] flags, boolean exact) {
+        ModifierFlag[] copy = flags.clone();
+        int mask = 0;
+        int expected = 0;
+        int kinds = ~0;
+        ModifierFlag accessLevel = null;
+        for (ModifierFlag flag : copy) {
+            if (flag.isAccessLevel()) {
+                if (accessLevel != null && accessLevel != flag) {
+                    throw new IllegalArgumentException("Conflicting modifiers: " + accessLevel + " and " + flag);
+                }
+                accessLevel = flag;
+            }
+            mask |= flag.mask();
+            expected |= flag.modifier();
+            kinds &= flag.kinds();
+        }
+        return new ModifierSpec(copy, mask, expected, kinds, exact, false);
+    }
+
+    /**
+     * Returns a spec that matches exactly the members that this spec does not match.
+     *
+     * @return The negated spec.
+     */
+    public ModifierSpec negate() {
+        return new ModifierSpec(flags, mask, expected, kinds, exact, !negated);
+    }
+
+    /**
+     * Checks the modifiers of a member of the given kind against this spec.
+     * Flags that do not apply to the kind of member, such as {@code static} for constructors, are never present.
+     */
+    boolean matches(int modifiers, MemberKind kind) {
+        boolean matches = (kinds & kind.bit()) != 0 && (modifiers & mask(kind)) == expected;
+        return matches != negated;
+    }
+
+    private int mask(MemberKind kind) {
+        return exact ? ModifierFlag.mask(kind) : mask;
+    }
+
+    boolean isExact() {
+        return exact;
+    }
+
+    boolean isNegated() {
+        return negated;
+    }
+
+    /**
+     * Returns the flag of a spec that checks a single flag, or {@code null} for all other specs.
+     */
+    ModifierFlag singleFlag() {
+        return !exact && flags.length == 1 ? flags[0] : null;
+    }
+
+    /**
+     * Describes the modifiers that this spec expects, in the order of {@link java.lang.reflect.Modifier#toString(int)}.
+     */
+    String describe() {
+        Stream<ModifierFlag> described = Arrays.stream(flags);
+        if (exact && (mask & ModifierFlag.ACCESS) == 0) {
+            described = Stream.concat(Stream.of(ModifierFlag.PACKAGE_PRIVATE), described);
+        }
+        return described.distinct().sorted().map(ModifierFlag::toString).collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Describes the flags of this spec that a member of the given kind with the given modifiers does not have.
+     */
+    String describeMissing(int modifiers, MemberKind kind) {
+        return Arrays.stream(flags)
+                .filter(flag -> !flag.isPresentIn(modifiers, kind))
+                .distinct()
+                .sorted()
+                .map(ModifierFlag::toString)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Describes the flags that a member of the given kind with the given modifiers has, but that an exact spec does
+     * not allow.
+     */
+    String describeUnexpected(int modifiers, MemberKind kind) {
+        if (!exact) {
+            return "";
+        }
+        return ModifierFlag.describe(modifiers & ModifierFlag.mask(kind) & ~expected, kind, false);
+    }
+
+    @Override
+    public String toString() {
+        String description = Arrays.stream(flags).map(ModifierFlag::toString).collect(Collectors.joining(", "));
+        return (negated ? "not " : "") + (exact ? "exactly" : "of") + "(" + description + ")";
+    }
+}
@@ -0,0 +1,104 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A JavaBeans property of a class, made up of the declared getter, setter and backing field of the same name and type,
+ * as verified by {@link ClassAssert#hasProperty(String, Class, java.util.function.Consumer)}.
+ * <p>
+ * For a property {@code name} of type {@code T}, the getter is {@code T getName()}, or {@code boolean isName()} if
+ * {@code T} is {@code boolean}, the setter is {@code setName(T)} and the backing field is {@code T name}. Each of them
+ * may be missing, and static and synthetic members are never part of a property.
+ */
+public final class Property {
+    private final Class<?> declaringClass;
+    private final String name;
+    private final Class<?> type;
+    private final Field field;
+    private final Method readMethod;
+    private final Method writeMethod;
+
+    Property(Class<?> declaringClass, String name, Class<?> type, Field field, Method readMethod, Method writeMethod) {
+        this.declaringClass = declaringClass;
+        this.name = name;
+        this.type = type;
+        this.field = field;
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+    }
+
+    /**
+     * Returns the class that declares this property.
+     *
+     * @return The declaring class.
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * Returns the name of this property.
+     *
+     * @return The property name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the type of this property.
+     *
+     * @return The property type.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the backing field of this property.
+     *
+     * @return The field, or {@code null} if the class declares no field with the name and type of this property.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the getter of this property.
+     *
+     * @return The getter, or {@code null} if the class declares no getter that returns the type of this property.
+     */
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    /**
+     * Returns the setter of this property.
+     *
+     * @return The setter, or {@code null} if the class declares no setter that accepts the type of this property.
+     */
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    /**
+     * Returns whether the class declares any of the members of this property.
+     */
+    boolean exists() {
+        return field != null || readMethod != null || writeMethod != null;
+    }
+
+    String readMethodName() {
+        return (type == boolean.class ? "is" : "get") + MemberIndex.capitalize(name);
+    }
+
+    String writeMethodName() {
+        return "set" + MemberIndex.capitalize(name);
+    }
+
+    @Override
+    public String toString() {
+        return "property " + type.getTypeName() + " " + name + " of " + declaringClass.getName();
+    }
+}
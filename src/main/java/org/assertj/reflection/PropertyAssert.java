@@ -0,0 +1,206 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * Assertions for a JavaBeans {@link Property}, see {@link ClassAssert#hasProperty(String, Class, Consumer)}.
+ */
+public class PropertyAssert extends AbstractReflectionAssert<PropertyAssert, Property> {
+
+    /**
+     * Creates a new {@link PropertyAssert}.
+     *
+     * @param actual The actual value.
+     */
+    protected PropertyAssert(Property actual) {
+        super(actual, PropertyAssert.class);
+    }
+
+    /**
+     * Verifies that the {@link Property} has a getter.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasGetter() {
+        return hasGetter(null);
+    }
+
+    /**
+     * Verifies that the {@link Property} has a getter.
+     *
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert},
+     *                             to perform additional assertions on the getter.
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasGetter(Consumer<MethodAssert> methodAssertConsumer) {
+        return instrumented("hasGetter", null, methodAssertConsumer, PropertyAssert::checkHasGetter);
+    }
+
+    private PropertyAssert checkHasGetter(Consumer<MethodAssert> methodAssertConsumer) {
+        Method getter = actual.getReadMethod();
+        if (getter == null) {
+            return fail(noSuchAccessor("getter", actual.readMethodName() + "()"));
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(getter));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Property} has a <em>public</em> getter.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasPublicGetter() {
+        return instrumented("hasPublicGetter", null, PropertyAssert::checkHasPublicGetter);
+    }
+
+    private PropertyAssert checkHasPublicGetter() {
+        Method getter = actual.getReadMethod();
+        if (getter == null) {
+            return fail(noSuchAccessor("getter", actual.readMethodName() + "()"));
+        }
+        return isPublic(getter);
+    }
+
+    /**
+     * Verifies that the {@link Property} has a setter.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasSetter() {
+        return hasSetter(null);
+    }
+
+    /**
+     * Verifies that the {@link Property} has a setter.
+     *
+     * @param methodAssertConsumer Consumer that is invoked with an instance of {@link MethodAssert},
+     *                             to perform additional assertions on the setter.
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasSetter(Consumer<MethodAssert> methodAssertConsumer) {
+        return instrumented("hasSetter", null, methodAssertConsumer, PropertyAssert::checkHasSetter);
+    }
+
+    private PropertyAssert checkHasSetter(Consumer<MethodAssert> methodAssertConsumer) {
+        Method setter = actual.getWriteMethod();
+        if (setter == null) {
+            return fail(noSuchSetter());
+        }
+        if (methodAssertConsumer != null) {
+            methodAssertConsumer.accept(nested(setter));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Property} has a <em>public</em> setter.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasPublicSetter() {
+        return instrumented("hasPublicSetter", null, PropertyAssert::checkHasPublicSetter);
+    }
+
+    private PropertyAssert checkHasPublicSetter() {
+        Method setter = actual.getWriteMethod();
+        if (setter == null) {
+            return fail(noSuchSetter());
+        }
+        return isPublic(setter);
+    }
+
+    /**
+     * Verifies that the {@link Property} does not have a setter.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasNoSetter() {
+        return instrumented("hasNoSetter", null, PropertyAssert::checkHasNoSetter);
+    }
+
+    private PropertyAssert checkHasNoSetter() {
+        Method setter = actual.getWriteMethod();
+        if (setter != null) {
+            return fail(failure("Expected %s not to have a setter but found %s", actual, setter));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Property} has a backing field.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasField() {
+        return hasField(null);
+    }
+
+    /**
+     * Verifies that the {@link Property} has a backing field.
+     *
+     * @param fieldAssertConsumer Consumer that is invoked with an instance of {@link FieldAssert},
+     *                            to perform additional assertions on the field.
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasField(Consumer<FieldAssert> fieldAssertConsumer) {
+        return instrumented("hasField", null, fieldAssertConsumer, PropertyAssert::checkHasField);
+    }
+
+    private PropertyAssert checkHasField(Consumer<FieldAssert> fieldAssertConsumer) {
+        Field field = actual.getField();
+        if (field == null) {
+            return fail(noSuchField());
+        }
+        if (fieldAssertConsumer != null) {
+            fieldAssertConsumer.accept(nested(field));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that the {@link Property} has a <em>private</em> backing field.
+     *
+     * @return This {@link PropertyAssert} instance.
+     */
+    public PropertyAssert hasPrivateField() {
+        return instrumented("hasPrivateField", null, PropertyAssert::checkHasPrivateField);
+    }
+
+    private PropertyAssert checkHasPrivateField() {
+        Field field = actual.getField();
+        if (field == null) {
+            return fail(noSuchField());
+        }
+        if (!ModifierFlag.PRIVATE.spec().matches(field.getModifiers(), MemberKind.FIELD)) {
+            nested(field).isPrivate();
+        }
+        return this;
+    }
+
+    /**
+     * Checks the modifiers directly, so that only a failing accessor creates a {@link MethodAssert} for its message.
+     */
+    private PropertyAssert isPublic(Method accessor) {
+        if (!ModifierFlag.PUBLIC.spec().matches(accessor.getModifiers(), MemberKind.METHOD)) {
+            nested(accessor).isPublic();
+        }
+        return this;
+    }
+
+    private AssertionError noSuchAccessor(String kind, String signature) {
+        return failure("Expected %s to have a %s %s but no such method exists", actual, kind, signature);
+    }
+
+    private AssertionError noSuchSetter() {
+        return noSuchAccessor("setter", actual.writeMethodName() + "(" + actual.getType().getName() + ")");
+    }
+
+    private AssertionError noSuchField() {
+        return failure("Expected %s to have a backing field %s but no such field exists", actual, actual.getName());
+    }
+}
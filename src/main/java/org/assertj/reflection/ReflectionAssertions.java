@@ -3,10 +3,18 @@ package org.assertj.reflection;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Entry point for assertion methods for different reflection types.
  * Each method in this class is a static factory for a type-specific assertion object.
+ * <p>
+ * Assertions are thread safe: any number of threads can assert on the same classes and members at the same time, e.g.
+ * in tests that JUnit runs in parallel. The caches behind the assertions, such as the index of the members of a class,
+ * are built on first use and shared between threads. If several threads build the same cache at the same time, they
+ * build equal caches and all use one of them. An assert object itself must only be used by the thread that created it.
  */
 public final class ReflectionAssertions {
 
@@ -55,4 +63,78 @@ public final class ReflectionAssertions {
     public static MethodAssert assertThat(Method actual) {
         return new MethodAssert(actual);
     }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for a {@code .class} file on disk.
+     * The class is read without being loaded.
+     *
+     * @param classFile The path to the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public static ClassFileAssert assertThatClassFile(Path classFile) {
+        return new ClassFileAssert(ClassFile.read(classFile));
+    }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for the contents of a {@code .class} file.
+     * The class is read without being loaded.
+     *
+     * @param classFile The contents of the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public static ClassFileAssert assertThatClassFile(byte[] classFile) {
+        return new ClassFileAssert(ClassFile.read(classFile));
+    }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for the remaining contents of a buffer.
+     * The class is read without being loaded, and the position of the buffer is not modified.
+     *
+     * @param classFile The contents of the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public static ClassFileAssert assertThatClassFile(ByteBuffer classFile) {
+        return new ClassFileAssert(ClassFile.read(classFile));
+    }
+
+    /**
+     * Creates a new instance of {@link JarAssert} for a jar file. The classes in the jar are read without being loaded.
+     *
+     * @param jar The path to the jar file.
+     * @return The created assertion object.
+     */
+    public static JarAssert assertThatJar(Path jar) {
+        return new JarAssert(jar);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassesAssert} for all classes in the given package and its subpackages.
+     * Classes are discovered on the classpath of the context class loader and are loaded without being initialized.
+     *
+     * @param packageName The name of the package, e.g. {@code com.acme.generated}.
+     * @return The created assertion object.
+     */
+    public static ClassesAssert assertThatClassesIn(String packageName) {
+        ClassLoader classLoader = defaultClassLoader();
+        return ClassesAssert.load(ClassScanner.classNamesInPackage(packageName, classLoader), classLoader);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassesAssert} for all classes in a directory of class files or a jar file.
+     * The classes are loaded, without being initialized, by a new class loader whose parent is the context class
+     * loader, so that their dependencies can be resolved from the current classpath. The class files of a jar are read
+     * into memory at once, so the jar is not kept open.
+     *
+     * @param jarOrDirectory The path to the jar file or to the root directory of the class files.
+     * @return The created assertion object.
+     */
+    public static ClassesAssert assertThatClassesIn(Path jarOrDirectory) {
+        List<String> classNames = ClassScanner.classNamesIn(jarOrDirectory);
+        return ClassesAssert.load(classNames, ClassFileLoader.of(jarOrDirectory, defaultClassLoader()));
+    }
+
+    private static ClassLoader defaultClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ReflectionAssertions.class.getClassLoader();
+    }
 }
@@ -0,0 +1,146 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.AbstractSoftAssertions;
+import org.assertj.core.api.SoftAssertionsProvider;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Entry point for soft assertions on reflection types: failing assertions are collected instead of thrown, and are
+ * reported together by {@link #assertAll()}.
+ * <pre><code class='java'>
+ * ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+ * softly.assertThatClassesIn("com.acme.generated")
+ *         .allSatisfy(type -&gt; type.hasDeclaredConstructor().hasDeclaredMethod("toString"));
+ * softly.assertAll();
+ * </code></pre>
+ * The asserts passed to consumers, e.g. by {@link ClassAssert#hasDeclaredField(String, Consumer)} and
+ * {@link ClassesAssert#allSatisfy(Consumer)}, collect their failures as well, so every violation in a class set is
+ * reported in a single run. Collected failures do not have a stack trace.
+ */
+public class ReflectionSoftAssertions extends AbstractSoftAssertions {
+
+    /**
+     * Runs the given assertions softly and reports all failures at the end.
+     *
+     * @param softly The assertions to run.
+     */
+    public static void assertSoftly(Consumer<ReflectionSoftAssertions> softly) {
+        SoftAssertionsProvider.assertSoftly(ReflectionSoftAssertions.class, softly);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassAssert} that collects its failures.
+     *
+     * @param actual The actual value.
+     * @return The created assertion object.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ClassAssert assertThat(Class<?> actual) {
+        return proxy(ClassAssert.class, (Class) Class.class, actual).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link ConstructorAssert} that collects its failures.
+     *
+     * @param actual The actual value.
+     * @return The created assertion object.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConstructorAssert assertThat(Constructor<?> actual) {
+        return proxy(ConstructorAssert.class, (Class) Constructor.class, actual).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link FieldAssert} that collects its failures.
+     *
+     * @param actual The actual value.
+     * @return The created assertion object.
+     */
+    public FieldAssert assertThat(Field actual) {
+        return proxy(FieldAssert.class, Field.class, actual).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link MethodAssert} that collects its failures.
+     *
+     * @param actual The actual value.
+     * @return The created assertion object.
+     */
+    public MethodAssert assertThat(Method actual) {
+        return proxy(MethodAssert.class, Method.class, actual).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for a {@code .class} file on disk, that collects its failures.
+     *
+     * @param classFile The path to the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public ClassFileAssert assertThatClassFile(Path classFile) {
+        return assertThat(ClassFile.read(classFile));
+    }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for the contents of a {@code .class} file, that collects its
+     * failures.
+     *
+     * @param classFile The contents of the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public ClassFileAssert assertThatClassFile(byte[] classFile) {
+        return assertThat(ClassFile.read(classFile));
+    }
+
+    /**
+     * Creates a new instance of {@link ClassFileAssert} for the remaining contents of a buffer, that collects its
+     * failures.
+     *
+     * @param classFile The contents of the {@code .class} file.
+     * @return The created assertion object.
+     */
+    public ClassFileAssert assertThatClassFile(ByteBuffer classFile) {
+        return assertThat(ClassFile.read(classFile));
+    }
+
+    private ClassFileAssert assertThat(ClassFile actual) {
+        return proxy(ClassFileAssert.class, ClassFile.class, actual).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link JarAssert} for a jar file, that collects its failures.
+     *
+     * @param jar The path to the jar file.
+     * @return The created assertion object.
+     */
+    public JarAssert assertThatJar(Path jar) {
+        return proxy(JarAssert.class, Path.class, jar).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassesAssert} for all classes in the given package and its subpackages, that
+     * collects its failures. See {@link ReflectionAssertions#assertThatClassesIn(String)}.
+     *
+     * @param packageName The name of the package, e.g. {@code com.acme.generated}.
+     * @return The created assertion object.
+     */
+    public ClassesAssert assertThatClassesIn(String packageName) {
+        return ReflectionAssertions.assertThatClassesIn(packageName).collectingInto(this);
+    }
+
+    /**
+     * Creates a new instance of {@link ClassesAssert} for all classes in a directory of class files or a jar file, that
+     * collects its failures. See {@link ReflectionAssertions#assertThatClassesIn(Path)}.
+     *
+     * @param jarOrDirectory The path to the jar file or to the root directory of the class files.
+     * @return The created assertion object.
+     */
+    public ClassesAssert assertThatClassesIn(Path jarOrDirectory) {
+        return ReflectionAssertions.assertThatClassesIn(jarOrDirectory).collectingInto(this);
+    }
+}
@@ -0,0 +1,19 @@
+package org.assertj.reflection;
+
+/**
+ * An {@link AssertionError} without a stack trace, for failures that are collected by
+ * {@link ReflectionSoftAssertions}. When thousands of checks fail at once, filling in the stack traces would take
+ * longer than the checks themselves, and the collected failures are reported by their messages only.
+ */
+final class StacklessAssertionError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    StacklessAssertionError(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,177 @@
+package org.assertj.reflection;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The members that are suggested when an assertion does not find the member it looks for, e.g.
+ * {@code did you mean getFooBar(), getFooBaz() or getFoo()?}.
+ * <p>
+ * The field and method names are kept in a {@link BkTree}, which is built once per class, on the first failure that
+ * needs it, so that a lookup only compares a misspelled name with a fraction of the names even in generated classes with
+ * thousands of members. The candidates are ranked by the edit distance of their names first, and then by how close their
+ * parameter types are to the expected ones. Synthetic members are never suggested.
+ */
+final class Suggestions {
+    static final int LIMIT = 3;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt((Candidate candidate) -> candidate.nameDistance)
+            .thenComparingInt(candidate -> candidate.parameterDistance)
+            .thenComparing(candidate -> candidate.signature);
+
+    private final String simpleName;
+    private final BkTree fieldNames;
+    private final BkTree methodNames;
+    private final Map<String, Method[]> methods;
+    private final Constructor<?>[] constructors;
+
+    /**
+     * @param simpleName   The simple name of the class, to describe its constructors.
+     * @param fields       The fields.
+     * @param methods      The methods, by name.
+     * @param constructors The constructors.
+     */
+    Suggestions(String simpleName, Collection<Field> fields, Map<String, Method[]> methods,
+                Constructor<?>[] constructors) {
+        this.simpleName = simpleName;
+        this.fieldNames = new BkTree(fields.stream()
+                .filter(field -> !field.isSynthetic())
+                .map(Field::getName)
+                .collect(Collectors.toList()));
+        this.methodNames = new BkTree(methods.keySet());
+        this.methods = methods;
+        this.constructors = constructors;
+    }
+
+    /**
+     * Returns the names of the fields that are closest to the given name.
+     */
+    List<String> fields(String name) {
+        List<Candidate> candidates = new ArrayList<>();
+        fieldNames.search(name, tolerance(name), (candidate, distance) ->
+                candidates.add(new Candidate(candidate, distance, 0)));
+        return best(candidates);
+    }
+
+    /**
+     * Returns the signatures of the methods that are closest to the given name and parameter types.
+     *
+     * @param parameterTypes The expected parameter types, or {@code null} to rank the overloads of a name by their
+     *                       number of parameters.
+     */
+    List<String> methods(String name, Class<?>[] parameterTypes) {
+        List<Candidate> candidates = new ArrayList<>();
+        methodNames.search(name, tolerance(name), (candidate, distance) -> {
+            for (Method method : methods.get(candidate)) {
+                if (!method.isSynthetic()) {
+                    candidates.add(new Candidate(describe(candidate, method), distance,
+                            parameterTypes == null ? method.getParameterCount() : distance(parameterTypes, method)));
+                }
+            }
+        });
+        return best(candidates);
+    }
+
+    /**
+     * Returns the signatures of the constructors whose parameter types are closest to the given ones.
+     */
+    List<String> constructors(Class<?>[] parameterTypes) {
+        List<Candidate> candidates = new ArrayList<>(constructors.length);
+        for (Constructor<?> constructor : constructors) {
+            if (!constructor.isSynthetic()) {
+                candidates.add(new Candidate(describe(simpleName, constructor), 0,
+                        distance(parameterTypes == null ? new Class<?>[0] : parameterTypes, constructor)));
+            }
+        }
+        return best(candidates);
+    }
+
+    /**
+     * Returns the suggestions as the end of a failure message, or an empty string if there are none.
+     */
+    static String didYouMean(List<String> suggestions) {
+        if (suggestions.isEmpty()) {
+            return "";
+        }
+        int last = suggestions.size() - 1;
+        String head = String.join(", ", suggestions.subList(0, last));
+        return ", did you mean " + (head.isEmpty() ? "" : head + " or ") + suggestions.get(last) + "?";
+    }
+
+    /**
+     * Returns the largest edit distance at which a name is still suggested: one typo in short names, up to three in
+     * long ones.
+     */
+    static int tolerance(String name) {
+        return Math.max(1, Math.min(3, name.length() / 4));
+    }
+
+    /**
+     * Returns how far the parameters of a method or constructor are from the expected ones: nothing for the same type,
+     * one for a type that is assignable either way or is the wrapper of the same primitive, and two for any other type
+     * and for each missing or extra parameter.
+     */
+    static int distance(Class<?>[] expected, Executable executable) {
+        Class<?>[] actual = executable.getParameterTypes();
+        int common = Math.min(expected.length, actual.length);
+        int distance = 2 * (Math.max(expected.length, actual.length) - common);
+        for (int i = 0; i < common; i++) {
+            distance += distance(expected[i], actual[i]);
+        }
+        return distance;
+    }
+
+    private static int distance(Class<?> expected, Class<?> actual) {
+        if (expected == actual) {
+            return 0;
+        }
+        if (expected == null) {
+            return 2;
+        }
+        if (expected.isAssignableFrom(actual) || actual.isAssignableFrom(expected)
+                || wrap(expected) == wrap(actual)) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static String describe(String name, Executable executable) {
+        return name + "(" + Stream.of(executable.getParameterTypes()).map(Class::getName)
+                .collect(Collectors.joining(",")) + ")";
+    }
+
+    private static List<String> best(List<Candidate> candidates) {
+        return candidates.stream()
+                .sorted(RANKING)
+                .limit(LIMIT)
+                .map(candidate -> candidate.signature)
+                .collect(Collectors.toList());
+    }
+
+    private static final class Candidate {
+        private final String signature;
+        private final int nameDistance;
+        private final int parameterDistance;
+
+        Candidate(String signature, int nameDistance, int parameterDistance) {
+            this.signature = signature;
+            this.nameDistance = nameDistance;
+            this.parameterDistance = parameterDistance;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.assertj.reflection;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The subtype relation between all classes seen so far, for constant-time subtype checks.
+ * <p>
+ * Each class is given a dense id when it is first seen, after all its supertypes, and the ids of all its supertypes,
+ * including its own, are stored as a bitset. Checking whether a class is a subtype of another is then a single bit
+ * test, instead of the walk over the hierarchy that {@link Class#isAssignableFrom(Class)} does. The bitset of a class is
+ * built once, from the bitsets of its direct supertypes.
+ * <p>
+ * Most classes have a few supertypes among many seen classes, so only the non-zero words of a bitset are stored,
+ * together with their indexes. The memory of a bitset therefore grows with the number of supertypes of the class,
+ * rather than with the number of classes seen.
+ * <p>
+ * Like {@link MemberIndex}, the bitsets are stored through a {@link ClassValue}, so they never keep a class loader
+ * reachable.
+ */
+final class TypeHierarchy {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private static final ClassValue<TypeHierarchy> HIERARCHIES = new ClassValue<TypeHierarchy>() {
+        @Override
+        protected TypeHierarchy computeValue(Class<?> type) {
+            return new TypeHierarchy(type);
+        }
+    };
+
+    private final int id;
+    private final int[] wordIndexes;
+    private final long[] words;
+
+    private TypeHierarchy(Class<?> type) {
+        Map<Integer, Long> supertypes = new TreeMap<>();
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null) {
+            of(superclass).addTo(supertypes);
+        }
+        for (Class<?> supertype : type.getInterfaces()) {
+            of(supertype).addTo(supertypes);
+        }
+        this.id = NEXT_ID.getAndIncrement();
+        supertypes.merge(id >>> 6, 1L << id, (a, b) -> a | b);
+
+        this.wordIndexes = new int[supertypes.size()];
+        this.words = new long[supertypes.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Long> word : supertypes.entrySet()) {
+            wordIndexes[i] = word.getKey();
+            words[i++] = word.getValue();
+        }
+    }
+
+    static TypeHierarchy of(Class<?> type) {
+        return HIERARCHIES.get(type);
+    }
+
+    /**
+     * Returns whether the given type is the same as, or a subtype of, the given supertype, like
+     * {@code supertype.isAssignableFrom(type)}.
+     */
+    static boolean isSubtype(Class<?> type, Class<?> supertype) {
+        if (type == supertype) {
+            return true;
+        }
+        if (type.isArray() || type.isPrimitive() || supertype.isPrimitive()) {
+            // Array covariance and primitives are not part of the bitsets
+            return supertype.isAssignableFrom(type);
+        }
+        if (supertype == Object.class) {
+            // Interfaces do not have Object as their superclass, but are subtypes of it
+            return true;
+        }
+        return of(type).contains(of(supertype).id);
+    }
+
+    int id() {
+        return id;
+    }
+
+    private boolean contains(int supertypeId) {
+        int word = Arrays.binarySearch(wordIndexes, supertypeId >>> 6);
+        return word >= 0 && (words[word] & 1L << supertypeId) != 0;
+    }
+
+    private void addTo(Map<Integer, Long> supertypes) {
+        for (int i = 0; i < words.length; i++) {
+            supertypes.merge(wordIndexes[i], words[i], (a, b) -> a | b);
+        }
+    }
+}
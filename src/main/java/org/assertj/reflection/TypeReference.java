@@ -0,0 +1,51 @@
+package org.assertj.reflection;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * A type token that captures a generic type, for assertions such as {@link FieldAssert#hasGenericType(Type)}:
+ * <pre><code class='java'>
+ * assertThat(field).hasGenericType(new TypeReference&lt;Map&lt;String, List&lt;Long&gt;&gt;&gt;() {});
+ * </code></pre>
+ * The captured type is read from the anonymous subclass once, and is kept on that class.
+ *
+ * @param <T> The captured type.
+ */
+public abstract class TypeReference<T> implements Type {
+    private final Type type;
+
+    /**
+     * Captures the type argument of the subclass.
+     *
+     * @throws IllegalArgumentException if the subclass does not extend {@link TypeReference} directly, with a type
+     *                                  argument.
+     */
+    protected TypeReference() {
+        Type superclass = getClass().getGenericSuperclass();
+        if (getClass().getSuperclass() != TypeReference.class || !(superclass instanceof ParameterizedType)) {
+            throw new IllegalArgumentException("Expected " + getClass().getName()
+                    + " to extend TypeReference directly, with a type argument");
+        }
+        this.type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+    }
+
+    /**
+     * Returns the captured type.
+     *
+     * @return The type.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public String getTypeName() {
+        return type.getTypeName();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeReference<" + type.getTypeName() + ">";
+    }
+}
@@ -0,0 +1,255 @@
+package org.assertj.reflection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An on-disk record of the classes that satisfied a {@link ClassSpec}, so that unchanged classes are not checked again
+ * on the next build:
+ * <pre><code class='java'>
+ * private static final VerificationCache CACHE = VerificationCache.open(Paths.get("target/assertj-reflection.cache"));
+ *
+ * assertThatClassesIn("com.acme.generated").usingCache(CACHE).allSatisfy(BEAN);
+ * </code></pre>
+ * Each entry is a 128-bit hash of the contents of a class file together with the spec it satisfied, so a class is
+ * checked again as soon as either of them changes. Failures are never cached.
+ * <p>
+ * The file starts with a short header, followed by the entries of 16 bytes each. Entries are only ever appended, each
+ * while holding a lock on the file, so that several JVMs, e.g. forked test JVMs, can read and extend the same file at
+ * the same time. A partially written entry at the end of the file, e.g. of a JVM that was killed, is cut off under the
+ * same lock before the next entry is appended, or when the cache is opened, so that all other entries are read back
+ * whole. Only specs can be cached: requirements that are expressed as consumers cannot be hashed, and are always
+ * checked.
+ */
+public final class VerificationCache implements Closeable {
+    private static final int MAGIC = 0x414a5243;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int ENTRY_SIZE = 16;
+
+    /**
+     * File locks are held on behalf of the whole JVM, which throws
+     * {@link java.nio.channels.OverlappingFileLockException} rather than wait for a lock that it holds already, so the
+     * threads of one JVM take turns before locking the file.
+     */
+    private static final Object FILE_LOCKING = new Object();
+
+    private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Set<Key> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private VerificationCache(Path file, FileChannel channel, Set<Key> entries) {
+        this.file = file;
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    /**
+     * Opens the cache in the given file, creating the file if it does not exist yet. A file that was written by an
+     * incompatible version of this library is cleared.
+     *
+     * @param file The path to the cache file.
+     * @return The opened cache.
+     * @throws UncheckedIOException if the file cannot be read or written.
+     */
+    public static VerificationCache open(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Set<Key> entries = ConcurrentHashMap.newKeySet();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                synchronized (FILE_LOCKING) {
+                    FileLock lock = channel.lock();
+                    try {
+                        load(channel, entries);
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+            return new VerificationCache(file, FileChannel.open(file, StandardOpenOption.APPEND), entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open verification cache " + file, e);
+        }
+    }
+
+    /**
+     * Reads the entries of the file, and cuts off a partially written entry at its end, or writes the header if the file
+     * is new or incompatible. Other JVMs are kept from doing so while they append an entry by a lock on the file.
+     */
+    private static void load(FileChannel channel, Set<Key> entries) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // read until the end of the file
+        }
+        // Through Buffer, because ByteBuffer only overrides flip() from Java 9 on
+        ((Buffer) buffer).flip();
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            ((Buffer) header).flip();
+            channel.truncate(0);
+            channel.write(header, 0);
+            return;
+        }
+        while (buffer.remaining() >= ENTRY_SIZE) {
+            entries.add(new Key(buffer.getLong(), buffer.getLong()));
+        }
+        if (buffer.hasRemaining()) {
+            channel.truncate(buffer.position());
+        }
+    }
+
+    /**
+     * Returns the key of the given class and spec, or {@code null} if the class file cannot be found, in which case
+     * the class cannot be cached.
+     */
+    static Key key(Class<?> type, ClassSpec spec) {
+        byte[] classFile = classFile(type);
+        if (classFile == null) {
+            return null;
+        }
+        MessageDigest digest = DIGESTS.get();
+        digest.update(spec.fingerprint().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(classFile));
+        return new Key(hash.getLong(), hash.getLong());
+    }
+
+    private static byte[] classFile(Class<?> type) {
+        if (type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+        try (InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    boolean contains(Key key) {
+        if (entries.contains(key)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    void add(Key key) {
+        if (!entries.add(key)) {
+            return;
+        }
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE).putLong(key.high).putLong(key.low);
+        ((Buffer) entry).flip();
+        try {
+            append(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write verification cache " + file, e);
+        }
+    }
+
+    /**
+     * Appends the entry while holding the lock on the file, after cutting off a partially written entry.
+     */
+    private void append(ByteBuffer entry) throws IOException {
+        synchronized (FILE_LOCKING) {
+            FileLock lock = channel.lock();
+            try {
+                long size = channel.size();
+                long partial = (size - HEADER_SIZE) % ENTRY_SIZE;
+                if (partial > 0) {
+                    channel.truncate(size - partial);
+                }
+                channel.write(entry);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache. A hit means that a class was skipped because it satisfied the same spec
+     * before, a miss means that the class had to be checked.
+     *
+     * @return The current statistics of this cache.
+     */
+    public CacheStatistics statistics() {
+        return new CacheStatistics("VerificationCache", hits.sum(), misses.sum());
+    }
+
+    /**
+     * Closes the cache file. The entries that were added are already written.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "VerificationCache[" + file + "]";
+    }
+
+    /**
+     * The first 128 bits of the SHA-256 hash of a spec and a class file.
+     */
+    static final class Key {
+        private final long high;
+        private final long low;
+
+        Key(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).high == high && ((Key) o).low == low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.assertj.reflection;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * Isolated, because enabling the events affects the assertions of all tests that run at the same time.
+ */
+@Isolated
+class AssertionEventTest {
+    @SuppressWarnings("unused")
+    private static class Subject {
+        private String name;
+
+        Subject(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    @Test
+    void recordsEachAssertionWhileEnabled(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("assertions.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.assertj.reflection.Assertion");
+            recording.start();
+            assertThat(Subject.class)
+                    .hasDeclaredField("name", field -> field.isPrivate())
+                    .hasDeclaredConstructor(String.class)
+                    .hasNoDeclaredMethod("setName", String.class);
+            Assertions.assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertThat(Subject.class.getDeclaredMethod("getName")).hasReturnType(int.class));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Assertions.assertThat(events(file))
+                .extracting(event -> event.getClass("type").getName(), event -> event.getString("member"),
+                        event -> event.getString("assertion"), event -> event.getBoolean("passed"))
+                .containsExactlyInAnyOrder(
+                        tuple(Subject.class.getName(), "name", "hasModifiers", true),
+                        tuple(Subject.class.getName(), "name", "hasDeclaredField", true),
+                        tuple(Subject.class.getName(), "<init>(java.lang.String)", "hasDeclaredConstructor", true),
+                        tuple(Subject.class.getName(), "setName", "hasNoDeclaredMethod", true),
+                        tuple(Subject.class.getName(), "getName()", "hasReturnType", false));
+        Assertions.assertThat(AssertionEvents.isRecording()).isFalse();
+    }
+
+    @Test
+    void recordsNothingByDefault(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("assertions.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            Assertions.assertThat(AssertionEvents.isRecording()).isFalse();
+            assertThat(Subject.class).hasDeclaredField("name");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Assertions.assertThat(events(file)).isEmpty();
+    }
+
+    private static List<RecordedEvent> events(Path file) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("org.assertj.reflection.Assertion"))
+                .filter(event -> event.getClass("type").getName().equals(Subject.class.getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,156 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+import static org.assertj.reflection.ReflectionAssertions.assertThatClassFile;
+
+class AssertionListenerTest {
+    @SuppressWarnings("unused")
+    private static class Subject {
+        private String name;
+
+        Subject(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Uncached {
+        private int count;
+    }
+
+    @Test
+    void callsListenersAroundEachAssertion() {
+        assertThat(Subject.class).hasDeclaredField("name");
+
+        List<String> calls = RecordingAssertionListener.record(() -> assertThat(Subject.class)
+                .hasDeclaredField("name", field -> field.isPrivate())
+                .hasDeclaredConstructor(String.class));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField Subject name",
+                "started hasModifiers Subject name",
+                "finished hasModifiers Subject name passed=true cacheHit=true",
+                "finished hasDeclaredField Subject name passed=true cacheHit=true",
+                "started hasDeclaredConstructor Subject <init>(java.lang.String)",
+                "finished hasDeclaredConstructor Subject <init>(java.lang.String) passed=true cacheHit=true");
+    }
+
+    @Test
+    void reportsFailedAssertions() {
+        List<String> calls = RecordingAssertionListener.record(() -> Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class.getDeclaredMethod("getName")).hasReturnType(int.class)));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasReturnType Subject getName()",
+                "finished hasReturnType Subject getName() passed=false cacheHit=true");
+    }
+
+    @Test
+    void reportsFailedNestedAssertionsAsFailuresOfTheirParent() {
+        List<String> calls = RecordingAssertionListener.record(() -> Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasDeclaredField("name", field -> field.isPublic())));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField Subject name",
+                "started hasModifiers Subject name",
+                "finished hasModifiers Subject name passed=false cacheHit=true",
+                "finished hasDeclaredField Subject name passed=false cacheHit=true");
+    }
+
+    @Test
+    void reportsSoftlyFailedNestedAssertionsAsFailuresOfTheirParent() {
+        List<String> calls = RecordingAssertionListener.record(() -> Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> ReflectionSoftAssertions.assertSoftly(softly -> softly.assertThat(Subject.class)
+                        .hasDeclaredField("name", field -> field.isPublic())
+                        .hasDeclaredConstructor(String.class))));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField Subject name",
+                "started hasModifiers Subject name",
+                "finished hasModifiers Subject name passed=false cacheHit=true",
+                "finished hasDeclaredField Subject name passed=false cacheHit=true",
+                "started hasDeclaredConstructor Subject <init>(java.lang.String)",
+                "finished hasDeclaredConstructor Subject <init>(java.lang.String) passed=true cacheHit=true");
+    }
+
+    @Test
+    void reportsAssertionsThatThrowAsFailed() {
+        List<String> calls = RecordingAssertionListener.record(() -> Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(Subject.class.getDeclaredField("name")).hasValueIn("Subject", "name")));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasValueIn Subject name",
+                "finished hasValueIn Subject name passed=false cacheHit=true");
+    }
+
+    @Test
+    void ignoresWhatListenersThrow() {
+        assertThat(Subject.class).hasDeclaredField("name");
+
+        List<String> calls = RecordingAssertionListener.record(() -> ThrowingAssertionListener.throwing(() -> {
+            assertThat(Subject.class).hasDeclaredField("name");
+            Assertions.assertThatExceptionOfType(AssertionError.class)
+                    .isThrownBy(() -> assertThat(Subject.class).hasDeclaredField("id"))
+                    .withMessageContaining("Expected");
+        }));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField Subject name",
+                "finished hasDeclaredField Subject name passed=true cacheHit=true",
+                "started hasDeclaredField Subject id",
+                "finished hasDeclaredField Subject id passed=false cacheHit=true");
+    }
+
+    @Test
+    void reportsPropertyAssertions() {
+        assertThat(Subject.class).hasProperty("name", String.class);
+
+        List<String> calls = RecordingAssertionListener.record(() -> assertThat(Subject.class)
+                .hasProperty("name", String.class, property -> property.hasGetter().hasPrivateField()));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasProperty Subject name",
+                "started hasGetter Subject name",
+                "finished hasGetter Subject name passed=true cacheHit=true",
+                "started hasPrivateField Subject name",
+                "finished hasPrivateField Subject name passed=true cacheHit=true",
+                "finished hasProperty Subject name passed=true cacheHit=true");
+    }
+
+    @Test
+    void reportsClassFileAssertions() {
+        byte[] classFile = ClassFileTest.classFileBytes(Subject.class);
+
+        List<String> calls = RecordingAssertionListener.record(() -> assertThatClassFile(classFile)
+                .hasDeclaredField("name", field -> field.isPrivate()));
+
+        String name = Subject.class.getName() + "#name";
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField null " + name,
+                "started hasModifiers null " + name,
+                "finished hasModifiers null " + name + " passed=true cacheHit=true",
+                "finished hasDeclaredField null " + name + " passed=true cacheHit=true");
+    }
+
+    @Test
+    void reportsCacheMissWhenMembersAreIndexed() {
+        List<String> calls = RecordingAssertionListener.record(() -> assertThat(Uncached.class)
+                .hasDeclaredField("count")
+                .hasDeclaredField("count"));
+
+        Assertions.assertThat(calls).containsExactly(
+                "started hasDeclaredField Uncached count",
+                "finished hasDeclaredField Uncached count passed=true cacheHit=false",
+                "started hasDeclaredField Uncached count",
+                "finished hasDeclaredField Uncached count passed=true cacheHit=true");
+    }
+}
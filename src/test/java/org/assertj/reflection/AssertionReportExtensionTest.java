@@ -0,0 +1,63 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+@ExtendWith(AssertionReportExtension.class)
+class AssertionReportExtensionTest {
+    /**
+     * Each test asserts on a class of its own, because the tests run in parallel.
+     */
+    @SuppressWarnings("unused")
+    private static class Counted {
+        private String name;
+
+        String getName() {
+            return name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Limited {
+        private String name;
+
+        String getName() {
+            return name;
+        }
+    }
+
+    @Test
+    void countsChecksPerTestClass() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(Counted.class).hasDeclaredField("name");
+        }
+        assertThat(Counted.class).hasDeclaredMethod("getName");
+
+        List<String> report = AssertionReportExtension.report(Integer.MAX_VALUE);
+        Assertions.assertThat(report.get(0)).startsWith("Slowest reflection checks (");
+        Assertions.assertThat(report.get(1)).isEqualTo("    total ms        count   cached  test class: check");
+        Assertions.assertThat(report.stream().filter(line -> line.contains(Counted.class.getName())).collect(Collectors.toList()))
+                .hasSize(2)
+                .anySatisfy(line -> Assertions.assertThat(line).matches(" +\\d+\\.\\d{3} +3 +\\d+\\.\\d%  "
+                        + "org\\.assertj\\.reflection\\.AssertionReportExtensionTest: hasDeclaredField "
+                        + "org\\.assertj\\.reflection\\.AssertionReportExtensionTest\\$Counted#name"))
+                .anySatisfy(line -> Assertions.assertThat(line).matches(" +\\d+\\.\\d{3} +1 +\\d+\\.\\d%  "
+                        + "org\\.assertj\\.reflection\\.AssertionReportExtensionTest: hasDeclaredMethod "
+                        + "org\\.assertj\\.reflection\\.AssertionReportExtensionTest\\$Counted#getName"));
+    }
+
+    @Test
+    void limitsReportToTopChecks() {
+        assertThat(Limited.class).hasDeclaredField("name").hasDeclaredMethod("getName");
+
+        List<String> report = AssertionReportExtension.report(1);
+        Assertions.assertThat(report).hasSize(3);
+        Assertions.assertThat(report.get(0)).matches("Slowest reflection checks \\(1 of \\d+\\):");
+    }
+}
@@ -0,0 +1,13 @@
+package org.assertj.reflection;
+
+/**
+ * Listener that is registered for the tests but cannot be loaded, like a listener whose dependencies are missing. It is
+ * skipped, so the other listeners and the assertions still work.
+ */
+public class BrokenAssertionListener implements AssertionListener {
+    private static final Object DEPENDENCY = missingDependency();
+
+    private static Object missingDependency() {
+        throw new NoClassDefFoundError("com/acme/Missing");
+    }
+}
@@ -0,0 +1,67 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasAnnotationTest {
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Entity {
+        String value();
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Audited {
+    }
+
+    @Audited
+    @Entity("base")
+    private static class Base {
+    }
+
+    private static class Subject extends Base {
+    }
+
+    @Test
+    void annotatedClass() {
+        assertThat(Base.class)
+                .hasAnnotation(Entity.class)
+                .hasAnnotation(Entity.class, entity -> Assertions.assertThat(entity.value()).isEqualTo("base"))
+                .hasNoAnnotation(Deprecated.class);
+    }
+
+    @Test
+    void inheritedAnnotation() {
+        assertThat(Subject.class)
+                .hasAnnotation(Audited.class)
+                .hasNoAnnotation(Entity.class);
+    }
+
+    @Test
+    void missingAnnotation() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasAnnotation(Entity.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasAnnotationTest$Subject to be annotated with @org.assertj.reflection.ClassAssertHasAnnotationTest$Entity but it is not");
+    }
+
+    @Test
+    void unexpectedAnnotation() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasNoAnnotation(Audited.class))
+                .withMessageStartingWith("Expected org.assertj.reflection.ClassAssertHasAnnotationTest$Subject not to be annotated with @org.assertj.reflection.ClassAssertHasAnnotationTest$Audited but found @");
+    }
+
+    @Test
+    void failingAnnotationConsumer() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Base.class)
+                        .hasAnnotation(Entity.class, entity -> Assertions.assertThat(entity.value()).isEqualTo("other")))
+                .withMessageContaining("other");
+    }
+}
@@ -50,13 +50,13 @@ class ClassAssertHasDeclaredConstructorTest {
     void constructorInheritedFromSuper() {
         Assertions.assertThatExceptionOfType(AssertionError.class)
                 .isThrownBy(() -> assertThat(Subject.class).hasDeclaredConstructor())
-                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredConstructorTest$Subject to have declared constructor Subject() but no such constructor exists");
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredConstructorTest$Subject to have declared constructor Subject() but no such constructor exists, did you mean Subject(int) or Subject(int,boolean)?");
     }
 
     @Test
     void nonExistingConstructor() {
         Assertions.assertThatExceptionOfType(AssertionError.class)
                 .isThrownBy(() -> assertThat(Subject.class).hasDeclaredConstructor(boolean.class))
-                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredConstructorTest$Subject to have declared constructor Subject(boolean) but no such constructor exists");
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredConstructorTest$Subject to have declared constructor Subject(boolean) but no such constructor exists, did you mean Subject(int) or Subject(int,boolean)?");
     }
 }
@@ -31,13 +31,13 @@ class ClassAssertHasDeclaredFieldTest {
     void fieldInheritedFromSuper() {
         Assertions.assertThatExceptionOfType(AssertionError.class)
                 .isThrownBy(() -> assertThat(Subject.class).hasDeclaredField("field1"))
-                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredFieldTest$Subject to have declared field field1 but no such field exists");
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredFieldTest$Subject to have declared field field1 but no such field exists, did you mean field2 or field3?");
     }
 
     @Test
     void nonExistingField() {
         Assertions.assertThatExceptionOfType(AssertionError.class)
                 .isThrownBy(() -> assertThat(Subject.class).hasDeclaredField("field4"))
-                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredFieldTest$Subject to have declared field field4 but no such field exists");
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredFieldTest$Subject to have declared field field4 but no such field exists, did you mean field2 or field3?");
     }
 }
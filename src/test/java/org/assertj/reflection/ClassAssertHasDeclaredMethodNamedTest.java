@@ -0,0 +1,76 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasDeclaredMethodNamedTest {
+    @SuppressWarnings("unused")
+    private static class Super {
+        public void inherited() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Subject extends Super {
+        public static Subject of(int value) {
+            return new Subject();
+        }
+
+        public static Subject of(int first, int second) {
+            return new Subject();
+        }
+
+        public static Subject of(String first, String second) {
+            return new Subject();
+        }
+
+        private void helper() {
+        }
+    }
+
+    @Test
+    void declaredMethods() {
+        assertThat(Subject.class)
+                .hasDeclaredMethodNamed("of")
+                .hasDeclaredMethodNamed("helper")
+                .hasDeclaredMethodNamed("of", 1)
+                .hasDeclaredMethodNamed("helper", 0);
+    }
+
+    @Test
+    void withMethodAssertConsumerForEachOverload() {
+        List<MethodAssert> visited = new ArrayList<>();
+        assertThat(Subject.class).hasDeclaredMethodNamed("of", 2, method -> {
+            visited.add(method);
+            method.isStatic().hasReturnType(Subject.class);
+        });
+
+        Assertions.assertThat(visited).hasSize(2);
+    }
+
+    @Test
+    void methodInheritedFromSuper() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasDeclaredMethodNamed("inherited"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodNamedTest$Subject to have declared method named inherited but no such method exists");
+    }
+
+    @Test
+    void nonExistingArity() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasDeclaredMethodNamed("of", 3))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodNamedTest$Subject to have declared method of with 3 parameters but found only of(int), of(int,int), of(java.lang.String,java.lang.String)");
+    }
+
+    @Test
+    void nonExistingMethodWithArity() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasDeclaredMethodNamed("other", 1))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodNamedTest$Subject to have declared method other with 1 parameter but no such method exists");
+    }
+}
@@ -71,6 +71,13 @@ class ClassAssertHasDeclaredMethodTest {
     void nonExistingMethod() {
         Assertions.assertThatExceptionOfType(AssertionError.class)
                 .isThrownBy(() -> assertThat(Subject.class).hasDeclaredMethod("methodOnSubject", boolean.class))
-                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodTest$Subject to have declared method methodOnSubject(boolean) but no such method exists");
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodTest$Subject to have declared method methodOnSubject(boolean) but no such method exists, did you mean methodOnSubject() or methodOnSubject(int)?");
+    }
+
+    @Test
+    void suggestsClosestMethods() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasDeclaredMethod("methodOnSubjet", Integer.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasDeclaredMethodTest$Subject to have declared method methodOnSubjet(java.lang.Integer) but no such method exists, did you mean methodOnSubject(int) or methodOnSubject()?");
     }
 }
@@ -0,0 +1,46 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasFieldTest {
+    @SuppressWarnings("unused")
+    private interface Constants {
+        int LIMIT = 10;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Super implements Constants {
+        protected int field1 = 1;
+        private int secret = 2;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Subject extends Super {
+        private int field1 = 3;
+        public int field2 = 4;
+    }
+
+    @Test
+    void declaredAndInheritedFields() {
+        assertThat(Subject.class)
+                .hasField("field1")
+                .hasField("field2")
+                .hasField("LIMIT", FieldAssert::isStatic);
+    }
+
+    @Test
+    void declaredFieldHidesInheritedField() {
+        assertThat(Subject.class).hasField("field1", FieldAssert::isPrivate);
+        assertThat(Super.class).hasField("field1", FieldAssert::isProtected);
+    }
+
+    @Test
+    void privateFieldOfSuperclass() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasField("secret"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasFieldTest$Subject to have field secret but no such field is declared or inherited");
+    }
+}
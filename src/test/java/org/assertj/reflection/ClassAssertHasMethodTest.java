@@ -0,0 +1,94 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasMethodTest {
+    @SuppressWarnings("unused")
+    private interface Resource extends AutoCloseable {
+        default String name() {
+            return "resource";
+        }
+
+        static Resource create() {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static abstract class Base implements Resource {
+        public String name() {
+            return "base";
+        }
+
+        protected void open(String location) {
+        }
+
+        private void secret() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Middle extends Base {
+        @Override
+        public void close() {
+        }
+
+        void configure(String key, int value) {
+        }
+    }
+
+    private static class Subject extends Middle {
+    }
+
+    @Test
+    void declaredAndInheritedMethods() {
+        assertThat(Subject.class)
+                .hasMethod("close")
+                .hasMethod("open", String.class)
+                .hasMethod("configure", String.class, int.class)
+                .hasMethod("hashCode");
+    }
+
+    @Test
+    void mostSpecificDeclarationIsMatched() {
+        assertThat(Subject.class)
+                .hasMethod("close", method -> method.isPublic().matches(close -> close.getDeclaringClass() == Middle.class))
+                .hasMethod("name", method -> method.matches(name -> name.getDeclaringClass() == Base.class));
+    }
+
+    @Test
+    void abstractMethodsOfInterfacesAreInherited() {
+        assertThat(Base.class).hasMethod("close", method -> method
+                .hasModifiers(ModifierFlag.ABSTRACT)
+                .matches(close -> close.getDeclaringClass() == AutoCloseable.class));
+    }
+
+    @Test
+    void withMethodAssertConsumer() {
+        assertThat(Subject.class).hasMethod("open", String.class, MethodAssert::isProtected);
+    }
+
+    @Test
+    void privateMethodOfSuperclass() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasMethod("secret"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasMethodTest$Subject to have method secret() but no such method is declared or inherited");
+    }
+
+    @Test
+    void staticMethodOfInterface() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasMethod("create"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasMethodTest$Subject to have method create() but no such method is declared or inherited");
+    }
+
+    @Test
+    void nonExistingMethod() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasMethod("open", int.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasMethodTest$Subject to have method open(int) but no such method is declared or inherited, did you mean open(java.lang.String)?");
+    }
+}
@@ -0,0 +1,37 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasNoDeclaredMethodNamedTest {
+    @SuppressWarnings("unused")
+    private static class Super {
+        public void inherited() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Subject extends Super {
+        void method(int arg) {
+        }
+
+        void method(String arg) {
+        }
+    }
+
+    @Test
+    void undeclaredMethods() {
+        assertThat(Subject.class)
+                .hasNoDeclaredMethodNamed("inherited")
+                .hasNoDeclaredMethodNamed("other");
+    }
+
+    @Test
+    void declaredMethod() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasNoDeclaredMethodNamed("method"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasNoDeclaredMethodNamedTest$Subject not to have declared method named method but found method(int), method(java.lang.String)");
+    }
+}
@@ -0,0 +1,43 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasNoMethodTest {
+    @SuppressWarnings("unused")
+    private static class Super {
+        public void method(int arg) {
+        }
+
+        private void secret() {
+        }
+    }
+
+    private static class Subject extends Super {
+    }
+
+    @Test
+    void methodsThatAreNotVisible() {
+        assertThat(Subject.class)
+                .hasNoMethod("secret")
+                .hasNoMethod("method")
+                .hasNoMethod("method", long.class)
+                .hasNoMethod("method", int.class, int.class);
+    }
+
+    @Test
+    void inheritedMethod() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasNoMethod("method", int.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasNoMethodTest$Subject not to have method method(int) but found public void org.assertj.reflection.ClassAssertHasNoMethodTest$Super.method(int)");
+    }
+
+    @Test
+    void methodInheritedFromObject() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasNoMethod("toString"))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasNoMethodTest$Subject not to have method toString() but found public java.lang.String java.lang.Object.toString()");
+    }
+}
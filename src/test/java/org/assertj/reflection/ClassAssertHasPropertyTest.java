@@ -0,0 +1,90 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasPropertyTest {
+    @SuppressWarnings("unused")
+    private static class Subject {
+        private String name;
+        private boolean active;
+        private final int id = 1;
+        public static String constant;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public static String getConstant() {
+            return constant;
+        }
+    }
+
+    @Test
+    void propertiesWithAllMembers() {
+        assertThat(Subject.class)
+                .hasProperty("name", String.class)
+                .hasProperty("name", String.class, property -> property
+                        .hasPublicGetter()
+                        .hasPublicSetter()
+                        .hasPrivateField());
+    }
+
+    @Test
+    void booleanPropertyWithIsGetter() {
+        assertThat(Subject.class).hasProperty("active", boolean.class, property -> property
+                .hasPublicGetter()
+                .hasSetter(method -> method.isPackagePrivate())
+                .hasPrivateField());
+    }
+
+    @Test
+    void readOnlyProperty() {
+        assertThat(Subject.class).hasProperty("id", int.class, property -> property
+                .hasGetter(method -> method.hasReturnType(int.class))
+                .hasNoSetter()
+                .hasField(FieldAssert::isFinal));
+    }
+
+    @Test
+    void propertyOfOtherType() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("name", Integer.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasPropertyTest$Subject to have property name "
+                        + "of type java.lang.Integer but it declares no getter, setter or field for it");
+    }
+
+    @Test
+    void staticMembersAreNotProperties() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("constant", String.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasPropertyTest$Subject to have property "
+                        + "constant of type java.lang.String but it declares no getter, setter or field for it");
+    }
+
+    @Test
+    void nonExistingProperty() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("other", String.class))
+                .withMessage("Expected org.assertj.reflection.ClassAssertHasPropertyTest$Subject to have property other "
+                        + "of type java.lang.String but it declares no getter, setter or field for it");
+    }
+}
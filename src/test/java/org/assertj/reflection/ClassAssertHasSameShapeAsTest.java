@@ -0,0 +1,112 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertHasSameShapeAsTest {
+    @SuppressWarnings("unused")
+    private static class Order implements Comparable<Order> {
+        private String id;
+        private List<Line> lines;
+
+        Order(String id) {
+        }
+
+        Order copy() {
+            return this;
+        }
+
+        @Override
+        public int compareTo(Order other) {
+            return 0;
+        }
+
+        static class Line {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class RegeneratedOrder implements Comparable<RegeneratedOrder> {
+        private String id;
+        private List<Line> lines;
+
+        RegeneratedOrder(String id) {
+        }
+
+        RegeneratedOrder copy() {
+            return this;
+        }
+
+        @Override
+        public int compareTo(RegeneratedOrder other) {
+            return 0;
+        }
+
+        static class Line {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ChangedOrder implements Comparable<ChangedOrder> {
+        private long id;
+        private List<Line> lines;
+
+        ChangedOrder(String id) {
+        }
+
+        public ChangedOrder copy() {
+            return this;
+        }
+
+        String describe() {
+            return "";
+        }
+
+        @Override
+        public int compareTo(ChangedOrder other) {
+            return 0;
+        }
+
+        static class Line {
+        }
+    }
+
+    @Test
+    void sameShape() {
+        assertThat(RegeneratedOrder.class).hasSameShapeAs(Order.class);
+        assertThat(Order.class).hasSameShapeAs(Order.class);
+    }
+
+    @Test
+    void differentShape() {
+        String order = Order.class.getName();
+        String changed = ChangedOrder.class.getName();
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(ChangedOrder.class).hasSameShapeAs(Order.class))
+                .withMessage(String.format("Expected %2$s to have the same shape as %1$s but found 3 differences:%n"
+                        + "  added:%n"
+                        + "    method java.lang.String %2$s.describe()%n"
+                        + "  changed:%n"
+                        + "    field private java.lang.String %1$s.id -> field private long %2$s.id%n"
+                        + "    method %1$s %1$s.copy() -> method public %2$s %2$s.copy()", order, changed));
+    }
+
+    @Test
+    void removedMembers() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Order.class).hasSameShapeAs(ChangedOrder.class))
+                .withMessageContaining(String.format("  removed:%n    method java.lang.String %s.describe()",
+                        ChangedOrder.class.getName()));
+    }
+
+    @Test
+    void nullClass() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(Order.class).hasSameShapeAs(null))
+                .withMessage("The given class should not be null");
+    }
+}
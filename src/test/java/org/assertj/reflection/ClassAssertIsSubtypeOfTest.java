@@ -0,0 +1,104 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertIsSubtypeOfTest {
+    @Test
+    void subtypes() {
+        assertThat(ArrayList.class)
+                .isSubtypeOf(ArrayList.class)
+                .isSubtypeOf(AbstractList.class)
+                .isSubtypeOf(Collection.class)
+                .isSubtypeOf(Object.class)
+                .isNotSubtypeOf(Closeable.class)
+                .isNotSubtypeOf(String.class);
+        assertThat(Collection.class).isNotSubtypeOf(List.class);
+    }
+
+    @Test
+    void arraysAndPrimitives() {
+        assertThat(String[].class)
+                .isSubtypeOf(Object[].class)
+                .isSubtypeOf(Serializable.class)
+                .isNotSubtypeOf(Integer[].class);
+        assertThat(int.class)
+                .isSubtypeOf(int.class)
+                .isNotSubtypeOf(long.class)
+                .isNotSubtypeOf(Object.class);
+    }
+
+    @Test
+    void notASubtype() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(ArrayList.class).isSubtypeOf(Closeable.class))
+                .withMessage("Expected java.util.ArrayList to be a subtype of java.io.Closeable but it is not");
+    }
+
+    @Test
+    void unexpectedSubtype() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(ArrayList.class).isNotSubtypeOf(List.class))
+                .withMessage("Expected java.util.ArrayList not to be a subtype of java.util.List but it is");
+    }
+
+    @Test
+    void nullSupertype() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(ArrayList.class).isSubtypeOf(null))
+                .withMessage("The given supertype should not be null");
+    }
+
+    @Test
+    void nullUnexpectedSupertype() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(ArrayList.class).isNotSubtypeOf(null))
+                .withMessage("The given supertype should not be null");
+    }
+
+    @Test
+    void implementsInterface() {
+        assertThat(ArrayList.class)
+                .implementsInterface(RandomAccess.class)
+                .implementsInterface(Collection.class);
+        assertThat(List.class).implementsInterface(Collection.class);
+    }
+
+    @Test
+    void doesNotImplementInterface() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(List.class).implementsInterface(List.class))
+                .withMessage("Expected java.util.List to implement java.util.List but it does not");
+    }
+
+    @Test
+    void implementsClass() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(ArrayList.class).implementsInterface(AbstractList.class))
+                .withMessage("java.util.AbstractList is not an interface");
+    }
+
+    @Test
+    void implementsNullInterface() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(ArrayList.class).implementsInterface(null))
+                .withMessage("The given interface should not be null");
+    }
+
+    @Test
+    void nullImplementsClass() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat((Class<?>) null).implementsInterface(AbstractList.class))
+                .withMessageContaining("Expecting actual not to be null");
+    }
+}
@@ -0,0 +1,112 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ClassAssertMatchesApiSnapshotTest {
+    @SuppressWarnings("unused")
+    public static abstract class Subject<T> implements Serializable {
+        public static final int LIMIT = 10;
+        protected List<T> items;
+        private String hidden;
+
+        public Subject(List<T> items) {
+            this.items = items;
+        }
+
+        Subject() {
+        }
+
+        public abstract Map<String, T> index() throws IOException;
+
+        protected void clear() {
+        }
+
+        void internal() {
+        }
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesMissingSnapshotAndFails() throws IOException {
+        Path file = directory.resolve("api/Subject.api");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).matchesApiSnapshot(file))
+                .withMessage("Expected %s to match the API snapshot %s but it did not exist, so the current API has been "
+                        + "written to it", Subject.class.getName(), file);
+
+        String prefix = "org.assertj.reflection.ClassAssertMatchesApiSnapshotTest$Subject";
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        Assertions.assertThat(lines.get(0)).matches("assertj-reflection-api 1 [0-9a-f]{16}");
+        Assertions.assertThat(lines.subList(1, lines.size())).containsExactly(
+                "class public abstract static class " + prefix + "<T> extends java.lang.Object implements java.io.Serializable",
+                "constructor public " + prefix + "(java.util.List<T>)",
+                "field protected java.util.List<T> " + prefix + ".items",
+                "field public static final int " + prefix + ".LIMIT",
+                "method protected void " + prefix + ".clear()",
+                "method public abstract java.util.Map<java.lang.String, T> " + prefix + ".index() throws java.io.IOException");
+
+        assertThat(Subject.class).matchesApiSnapshot(file);
+    }
+
+    @Test
+    void matchingFingerprintSkipsTheSignatures() throws IOException {
+        Path file = directory.resolve("Subject.api");
+        recordSnapshot(file);
+        String header = Files.readAllLines(file, StandardCharsets.UTF_8).get(0);
+        Files.write(file, (header + "\nnot a signature\n").getBytes(StandardCharsets.UTF_8));
+
+        assertThat(Subject.class).matchesApiSnapshot(file);
+    }
+
+    @Test
+    void reportsAddedAndRemovedSignatures() throws IOException {
+        Path file = directory.resolve("Subject.api");
+        recordSnapshot(file);
+        List<String> lines = new ArrayList<>(Files.readAllLines(file, StandardCharsets.UTF_8));
+        String clear = lines.remove(5);
+        lines.set(0, "assertj-reflection-api 1 0000000000000000");
+        lines.add(5, "method protected void org.assertj.reflection.ClassAssertMatchesApiSnapshotTest$Subject.reset()");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).matchesApiSnapshot(file))
+                .withMessage("Expected %s to match the API snapshot %s but the API changed:%n+ %s%n- %s",
+                        Subject.class.getName(), file, clear,
+                        "method protected void org.assertj.reflection.ClassAssertMatchesApiSnapshotTest$Subject.reset()");
+    }
+
+    @Test
+    void outdatedHeader() throws IOException {
+        Path file = directory.resolve("Subject.api");
+        recordSnapshot(file);
+        List<String> lines = new ArrayList<>(Files.readAllLines(file, StandardCharsets.UTF_8));
+        lines.set(0, "assertj-reflection-api 0 0000000000000000");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).matchesApiSnapshot(file))
+                .withMessage("Expected %s to match the API snapshot %s but its header is missing or out of date",
+                        Subject.class.getName(), file);
+    }
+
+    private static void recordSnapshot(Path file) {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).matchesApiSnapshot(file));
+    }
+}
@@ -0,0 +1,93 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.reflection.ClassFileTest.classFileBytes;
+import static org.assertj.reflection.ClassFileTest.classFilePath;
+import static org.assertj.reflection.ReflectionAssertions.assertThatClassFile;
+
+class ClassFileAssertTest {
+    @SuppressWarnings("unused")
+    private static class Subject {
+        private final String name = "";
+        protected static int[] counts;
+        public Subject next;
+
+        public Subject() {
+        }
+
+        private Subject(String name, int count) {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        static void setCounts(int[] counts) {
+        }
+    }
+
+    @Test
+    void declaredMembers() {
+        assertThatClassFile(classFilePath(Subject.class))
+                .hasDeclaredConstructor()
+                .hasDeclaredConstructor(String.class, int.class)
+                .hasDeclaredField("name")
+                .hasDeclaredMethod("getName")
+                .hasDeclaredMethod("setCounts", int[].class)
+                .hasNoDeclaredConstructor(String.class)
+                .hasNoDeclaredField("other")
+                .hasNoDeclaredMethod("getName", String.class);
+    }
+
+    @Test
+    void memberAssertions() {
+        assertThatClassFile(classFileBytes(Subject.class))
+                .hasDeclaredConstructor(ClassFileMethodAssert::isPublic)
+                .hasDeclaredConstructor(new Class[]{String.class, int.class}, constructor -> constructor.isPrivate().isNotStatic())
+                .hasDeclaredField("name", field -> field.isPrivate().isFinal().hasType(String.class))
+                .hasDeclaredField("counts", field -> field.isProtected().isStatic().isNotFinal().hasType("int[]"))
+                .hasDeclaredField("next", field -> field.isPublic().hasType(Subject.class.getName()))
+                .hasDeclaredMethod("getName", method -> method.isPublic().isNotStatic().hasReturnType(String.class))
+                .hasDeclaredMethod("setCounts", int[].class, method -> method.isPackagePrivate().isStatic().hasReturnType("void"));
+    }
+
+    @Test
+    void readsFromByteBuffer() {
+        assertThatClassFile(ByteBuffer.wrap(classFileBytes(Subject.class)))
+                .hasDeclaredField("next");
+    }
+
+    @Test
+    void missingMembers() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasDeclaredMethod("getName", int.class))
+                .withMessage("Expected org.assertj.reflection.ClassFileAssertTest$Subject to have declared method getName(int) but no such method exists");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasDeclaredConstructor(int.class))
+                .withMessage("Expected org.assertj.reflection.ClassFileAssertTest$Subject to have declared constructor Subject(int) but no such constructor exists");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasNoDeclaredField("next"))
+                .withMessage("Expected org.assertj.reflection.ClassFileAssertTest$Subject not to have declared field next but found public org.assertj.reflection.ClassFileAssertTest$Subject org.assertj.reflection.ClassFileAssertTest$Subject.next");
+    }
+
+    @Test
+    void failingMemberAssertions() throws NoSuchFieldException {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasDeclaredField("name", ClassFileFieldAssert::isPublic))
+                .withMessage(MemberModifierShouldBe.shouldBePublic(Subject.class.getDeclaredField("name")).create());
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasDeclaredField("name", field -> field.hasType(int.class)))
+                .withMessageContaining("to have type int but was java.lang.String");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassFile(classFileBytes(Subject.class)).hasDeclaredMethod("getName", method -> method.hasReturnType(Object.class)))
+                .withMessageContaining("to have return type java.lang.Object but was java.lang.String");
+    }
+}
@@ -0,0 +1,124 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ClassFileTest {
+    @SuppressWarnings("unused")
+    protected abstract static class Subject<T> implements Serializable, Comparable<Subject<T>> {
+        private static final long serialVersionUID = 1L;
+        public static final String CONSTANT = "é中";
+        protected volatile double[][] matrix;
+        transient Map<String, List<T>> map;
+
+        Subject(int value, String... rest) {
+        }
+
+        public abstract T get();
+
+        synchronized long[] longs(boolean flag, char c, Object[] objects) {
+            return new long[0];
+        }
+
+        private static void run() throws IOException {
+        }
+    }
+
+    static Path classFilePath(Class<?> type) {
+        try {
+            return Paths.get(type.getResource(type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class").toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] classFileBytes(Class<?> type) {
+        try {
+            return Files.readAllBytes(classFilePath(type));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void readsClassDeclaration() {
+        ClassFile classFile = ClassFile.read(classFilePath(Subject.class));
+
+        assertThat(classFile.getName()).isEqualTo(Subject.class.getName());
+        assertThat(classFile.getSuperName()).isEqualTo("java.lang.Object");
+        assertThat(classFile.getInterfaceNames()).containsExactly("java.io.Serializable", "java.lang.Comparable");
+        assertThat(classFile.getModifiers()).isEqualTo(Subject.class.getModifiers());
+    }
+
+    @Test
+    void readsFieldsLikeReflection() {
+        ClassFile classFile = ClassFile.read(classFileBytes(Subject.class));
+
+        assertThat(classFile.getFields()).extracting(ClassFile.FieldInfo::toString)
+                .containsExactlyInAnyOrder(stream(Subject.class.getDeclaredFields()));
+        assertThat(classFile.field("matrix"))
+                .extracting(ClassFile.FieldInfo::getDescriptor, ClassFile.FieldInfo::getTypeName)
+                .containsExactly("[[D", "double[][]");
+    }
+
+    @Test
+    void readsMethodsLikeReflection() {
+        ClassFile classFile = ClassFile.read(ByteBuffer.wrap(classFileBytes(Subject.class)));
+
+        assertThat(classFile.getMethods())
+                .filteredOn(method -> !method.isConstructor())
+                .extracting(ClassFile.MethodInfo::toString)
+                .containsExactlyInAnyOrder(stream(Subject.class.getDeclaredMethods()));
+        assertThat(classFile.getMethods())
+                .filteredOn(ClassFile.MethodInfo::isConstructor)
+                .extracting(ClassFile.MethodInfo::getName, ClassFile.MethodInfo::getParameterTypeNames)
+                .containsExactly(tuple("<init>", Arrays.asList("int", "java.lang.String[]")));
+    }
+
+    @Test
+    void doesNotModifyBufferPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap(classFileBytes(Subject.class));
+        buffer.position(0);
+
+        ClassFile.read(buffer);
+
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidClassFiles() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ClassFile.read(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}))
+                .withMessageContaining("magic");
+
+        byte[] truncated = Arrays.copyOf(classFileBytes(Subject.class), 100);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ClassFile.read(truncated))
+                .withMessageContaining("Truncated");
+    }
+
+    // Synthetic members are skipped because a coverage agent may add them to the loaded class only.
+    private static String[] stream(Field[] fields) {
+        return Arrays.stream(fields).filter(field -> !field.isSynthetic()).map(Field::toString).toArray(String[]::new);
+    }
+
+    private static String[] stream(Method[] methods) {
+        return Arrays.stream(methods).filter(method -> !method.isSynthetic()).map(Method::toString).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,140 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.assertj.reflection.ModifierFlag.PRIVATE;
+import static org.assertj.reflection.ModifierFlag.PUBLIC;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+import static org.assertj.reflection.ReflectionAssertions.assertThatClassesIn;
+
+class ClassSpecTest {
+    private static final ModifierSpec PUBLIC_ONLY = ModifierSpec.exactly(PUBLIC);
+    private static final ClassSpec BEAN = ClassSpec.builder()
+            .fields(ModifierSpec.of(PRIVATE))
+            .constructor(PUBLIC_ONLY)
+            .accessors(PUBLIC_ONLY)
+            .method(PUBLIC_ONLY, boolean.class, "equals", Object.class)
+            .method(PUBLIC_ONLY, int.class, "hashCode")
+            .method(PUBLIC_ONLY, String.class, "toString")
+            .build();
+
+    @SuppressWarnings("unused")
+    public static class Bean {
+        private String name;
+        private boolean active;
+        private final int id = 1;
+
+        public Bean() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Bean && Objects.equals(name, ((Bean) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class BrokenBean {
+        public String name;
+        protected int count;
+
+        BrokenBean(int count) {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        void setName(String name) {
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Test
+    void satisfiedSpec() {
+        assertThat(Bean.class).satisfies(BEAN);
+    }
+
+    @Test
+    void reportsAllUnmetRequirements() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(BrokenBean.class).satisfies(BEAN))
+                .withMessage(String.format("Expected %s to satisfy the given spec but 8 requirements were not met:%n"
+                        + "  field count should have modifiers private but has protected%n"
+                        + "  field name should have modifiers private but has public%n"
+                        + "  method getCount() should return int but returns long%n"
+                        + "  method setName(java.lang.String) should have exactly modifiers public but has package-private%n"
+                        + "  missing constructor BrokenBean()%n"
+                        + "  missing method equals(java.lang.Object)%n"
+                        + "  missing method hashCode()%n"
+                        + "  missing method setCount(int)", BrokenBean.class.getName()));
+    }
+
+    @Test
+    void appliesToClassSets() {
+        ClassSpec spec = ClassSpec.builder()
+                .constructor(ModifierSpec.exactly(PUBLIC))
+                .fields(ModifierSpec.of(PUBLIC).negate())
+                .build();
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn("org.assertj.reflection.scan").allSatisfy(spec))
+                .withMessage(String.format("Expected all 3 classes to satisfy the given requirements but 1 did not:%n%n"
+                        + "org.assertj.reflection.scan.PublicFields%n"
+                        + "  Expected org.assertj.reflection.scan.PublicFields to satisfy the given spec but 1 requirement was not met:%n"
+                        + "    field name should not have modifiers public but has public"));
+    }
+
+    @Test
+    void builderCanBeReused() {
+        ClassSpec.Builder builder = ClassSpec.builder().method(null, null, "toString");
+        ClassSpec toStringOnly = builder.build();
+        builder.method(null, null, "equals", Object.class);
+
+        assertThat(BrokenBean.class).satisfies(toStringOnly);
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(BrokenBean.class).satisfies(builder.build()))
+                .withMessageEndingWith("missing method equals(java.lang.Object)");
+    }
+}
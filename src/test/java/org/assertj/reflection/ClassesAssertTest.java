@@ -0,0 +1,129 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.reflection.scan.PrivateFields;
+import org.assertj.reflection.scan.PublicFields;
+import org.assertj.reflection.scan.nested.NestedPrivateFields;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.assertj.reflection.ClassFileTest.classFileBytes;
+import static org.assertj.reflection.ReflectionAssertions.assertThatClassesIn;
+
+class ClassesAssertTest {
+    private static final Class<?>[] SCANNED = {PrivateFields.class, PublicFields.class, NestedPrivateFields.class};
+
+    @Test
+    void findsClassesInPackageAndSubpackages() {
+        assertThatClassesIn("org.assertj.reflection.scan")
+                .hasSize(3)
+                .allSatisfy(type -> type.hasNoDeclaredField("other"))
+                .filteredOn(type -> type.getSimpleName().endsWith("PrivateFields"))
+                .hasSize(2);
+    }
+
+    @Test
+    void reportsAllFailuresSortedByClassName() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn("org.assertj.reflection.scan").allSatisfy(type -> type.hasDeclaredField("name")))
+                .withMessage(String.format("Expected all 3 classes to satisfy the given requirements but 1 did not:%n%n"
+                        + "org.assertj.reflection.scan.nested.NestedPrivateFields%n"
+                        + "  Expected org.assertj.reflection.scan.nested.NestedPrivateFields to have declared field name but no such field exists"));
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn("org.assertj.reflection.scan").allSatisfy(type -> type.hasDeclaredField("other")))
+                .withMessageStartingWith(String.format("Expected all 3 classes to satisfy the given requirements but 3 did not:%n%n"
+                        + "org.assertj.reflection.scan.PrivateFields%n"))
+                .withMessageContaining(String.format("%n%norg.assertj.reflection.scan.PublicFields%n"))
+                .withMessageEndingWith(String.format("%n%norg.assertj.reflection.scan.nested.NestedPrivateFields%n"
+                        + "  Expected org.assertj.reflection.scan.nested.NestedPrivateFields to have declared field other but no such field exists"));
+    }
+
+    @Test
+    void emptyPackage() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatClassesIn("org.assertj.reflection.nonexistent").isNotEmpty())
+                .withMessage("Expected to find at least one class but found none");
+    }
+
+    @Test
+    void findsClassesInDirectory(@TempDir Path directory) throws IOException {
+        for (Class<?> type : SCANNED) {
+            Path classFile = directory.resolve(type.getName().replace('.', '/') + ".class");
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, classFileBytes(type));
+        }
+
+        assertThatClassesIn(directory)
+                .hasSize(3)
+                .allSatisfy(type -> type.hasNoDeclaredField("other"));
+    }
+
+    @Test
+    void findsClassesInJar(@TempDir Path directory) throws IOException {
+        Path jar = directory.resolve("classes.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> type : SCANNED) {
+                out.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                out.write(classFileBytes(type));
+                out.closeEntry();
+            }
+        }
+
+        assertThatClassesIn(jar)
+                .hasSize(3)
+                .allSatisfy(type -> type.hasNoDeclaredField("other"));
+    }
+
+    @Test
+    void loadsClassesFromJarWithoutKeepingItOpen(@TempDir Path directory) throws IOException {
+        Path jar = directory.resolve("classes.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Class<?> type : SCANNED) {
+                out.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                out.write(classFileBytes(type));
+                out.closeEntry();
+            }
+        }
+
+        // Without the test classes on the parent class loader, the classes are loaded from the jar
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(ClassLoader.getSystemClassLoader().getParent());
+        try {
+            assertThatClassesIn(jar)
+                    .hasSize(3)
+                    .allSatisfy(type -> type
+                            .hasNoDeclaredField("other")
+                            .satisfies(actual -> Assertions.assertThat(actual.getClassLoader())
+                                    .isNotSameAs(contextClassLoader)));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        Path openFiles = Paths.get("/proc/self/fd");
+        Assumptions.assumeTrue(Files.isDirectory(openFiles), "open files can only be listed on Linux");
+        try (Stream<Path> files = Files.list(openFiles)) {
+            Assertions.assertThat(files.map(ClassesAssertTest::target)).doesNotContain(jar.toRealPath());
+        }
+    }
+
+    private static Path target(Path link) {
+        try {
+            return Files.readSymbolicLink(link);
+        } catch (IOException e) {
+            // Closed while listing
+            return link;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class FieldAssertHasGenericTypeTest {
+    @SuppressWarnings("unused")
+    private static class Base<T> {
+        protected T value;
+        protected List<? extends T>[] values;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Subject extends Base<Long> {
+        Map<String, List<Long>> map;
+        Map.Entry<String, ?> entry;
+        int primitive;
+    }
+
+    @Test
+    void fieldWithGenericType() throws NoSuchFieldException {
+        Field field = Subject.class.getDeclaredField("map");
+
+        assertThat(field)
+                .hasGenericType("java.util.Map<java.lang.String, java.util.List<java.lang.Long>>")
+                .hasGenericType("java.util.Map<java.lang.String,java.util.List<java.lang.Long>>")
+                .hasGenericType(new TypeReference<Map<String, List<Long>>>() {})
+                .hasGenericType(field.getGenericType());
+    }
+
+    @Test
+    void fieldWithNestedTypeAndWildcard() throws NoSuchFieldException {
+        assertThat(Subject.class.getDeclaredField("entry"))
+                .hasGenericType("java.util.Map$Entry<java.lang.String, ? extends java.lang.Object>")
+                .hasGenericType("java.util.Map$Entry<java.lang.String, ?>");
+    }
+
+    @Test
+    void fieldWithPrimitiveType() throws NoSuchFieldException {
+        assertThat(Subject.class.getDeclaredField("primitive"))
+                .hasGenericType("int")
+                .hasGenericType(int.class);
+    }
+
+    @Test
+    void typeVariablesOfDeclaredFields() throws NoSuchFieldException {
+        assertThat(Base.class.getDeclaredField("value")).hasGenericType("T");
+        assertThat(Base.class.getDeclaredField("values")).hasGenericType("java.util.List<? extends T>[]");
+    }
+
+    @Test
+    void typeVariablesResolvedAgainstSubclass() {
+        assertThat(Subject.class)
+                .hasField("value", field -> field.hasGenericType("java.lang.Long"))
+                .hasField("values", field -> field.hasGenericType("java.util.List<? extends java.lang.Long>[]"));
+    }
+
+    @Test
+    void fieldWithDifferentGenericType() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("map");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasGenericType("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>"))
+                .withMessage("Expected %s to have generic type java.util.Map<java.lang.String, java.util.List<java.lang.Integer>> "
+                        + "but was java.util.Map<java.lang.String, java.util.List<java.lang.Long>>", actual);
+    }
+
+    @Test
+    void malformedSignature() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("map");
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(actual).hasGenericType("java.util.Map<java.lang.String"))
+                .withMessage("Malformed generic signature \"java.util.Map<java.lang.String\" at position 30: expected '>'");
+    }
+}
@@ -1,7 +1,9 @@
 package org.assertj.reflection;
 
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,4 +30,12 @@ class FieldAssertHasTypeTest {
     void fieldWithGenericType() throws NoSuchFieldException {
         assertThat(Subject.class.getDeclaredField("generic")).hasType(List.class);
     }
+
+    @Test
+    void fieldWithDifferentType() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("boxed");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasType(int.class))
+                .withMessage("Expected %s to have type int but was java.lang.Integer", actual);
+    }
 }
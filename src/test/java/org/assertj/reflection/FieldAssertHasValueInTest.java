@@ -0,0 +1,110 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.assertj.reflection.scan.PrivateFields;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class FieldAssertHasValueInTest {
+    private static class Subject {
+        static final String CONSTANT = "constant";
+
+        private int count = 3;
+        private long size = 5_000_000_000L;
+        private char grade = 'A';
+        private float ratio = 0.1f;
+        private double score = Double.NaN;
+        private boolean enabled = true;
+        private Integer boxed = 7;
+        private String name = "name";
+        private int[] values = {1, 2};
+        private Object empty;
+
+        @Override
+        public String toString() {
+            return "Subject";
+        }
+    }
+
+    private static Field field(String name) throws NoSuchFieldException {
+        return Subject.class.getDeclaredField(name);
+    }
+
+    @Test
+    void primitiveValues() throws NoSuchFieldException {
+        Subject subject = new Subject();
+        assertThat(field("count")).hasValueIn(subject, 3).hasValueIn(subject, 3.0);
+        assertThat(field("size")).hasValueIn(subject, 5_000_000_000L);
+        assertThat(field("grade")).hasValueIn(subject, 'A').hasValueIn(subject, 65);
+        assertThat(field("ratio")).hasValueIn(subject, 0.1).hasValueIn(subject, 0.1f);
+        assertThat(field("score")).hasValueIn(subject, Double.NaN);
+        assertThat(field("enabled")).hasValueIn(subject, true);
+    }
+
+    @Test
+    void objectValues() throws NoSuchFieldException {
+        Subject subject = new Subject();
+        assertThat(field("boxed")).hasValueIn(subject, 7).hasValueIn(subject, 7.0).hasValueIn(subject, (Object) 7);
+        assertThat(field("name")).hasValueIn(subject, "name");
+        assertThat(field("values")).hasValueIn(subject, new int[]{1, 2});
+        assertThat(field("empty")).hasValueIn(subject, null);
+        assertThat(field("CONSTANT")).hasValueIn(null, "constant");
+    }
+
+    @Test
+    void differentValue() throws NoSuchFieldException {
+        Subject subject = new Subject();
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(field("count")).hasValueIn(subject, 4))
+                .withMessage("Expected %s to have value 4 in Subject but was 3", field("count"));
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(field("enabled")).hasValueIn(subject, false))
+                .withMessage("Expected %s to have value false in Subject but was true", field("enabled"));
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(field("name")).hasValueIn(subject, 3))
+                .withMessage("Expected %s to have value 3 in Subject but was name", field("name"));
+    }
+
+    @Test
+    void valueIn() throws NoSuchFieldException {
+        Subject subject = new Subject();
+        assertThat(field("name")).valueIn(subject).isEqualTo("name");
+        assertThat(field("count")).valueIn(subject, InstanceOfAssertFactories.INTEGER).isPositive();
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(field("name")).valueIn(subject).isNull())
+                .withMessageStartingWith("[name in Subject]");
+    }
+
+    @Test
+    void valueInSoftly() throws NoSuchFieldException {
+        Subject subject = new Subject();
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThat(field("name")).valueIn(subject).isNull();
+        softly.assertThat(field("count")).valueIn(subject, InstanceOfAssertFactories.INTEGER).isNegative();
+        Assertions.assertThat(softly.assertionErrorsCollected()).hasSize(2);
+    }
+
+    @Test
+    void leavesTheFieldInaccessible() throws NoSuchFieldException {
+        // Of another top-level class, as nestmates may access each other's private fields through reflection
+        Field field = PrivateFields.class.getDeclaredField("name");
+        assertThat(field).hasValueIn(new PrivateFields(), null);
+        Assertions.assertThatExceptionOfType(IllegalAccessException.class)
+                .isThrownBy(() -> field.get(new PrivateFields()));
+    }
+
+    @Test
+    void instanceOfAnotherClass() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(field("count")).hasValueIn("other", 3))
+                .withMessage("Expected an instance of %s to read count from but was java.lang.String",
+                        Subject.class.getName());
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThat(field("count")).valueIn(null))
+                .withMessage("Expected an instance of %s to read count from but was null", Subject.class.getName());
+    }
+}
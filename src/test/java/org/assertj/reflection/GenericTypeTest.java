@@ -0,0 +1,46 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class GenericTypeTest {
+    @Test
+    void parsesToCanonicalSignature() {
+        assertThat(GenericType.parse(" java.util.Map < java.lang.String ,java.util.List<?   super T> [ ] > ").toString())
+                .isEqualTo("java.util.Map<java.lang.String, java.util.List<? super T>[]>");
+        assertThat(GenericType.parse("java.util.List<? extends java.lang.Object>").toString())
+                .isEqualTo("java.util.List<?>");
+    }
+
+    @Test
+    void internsEqualTypes() {
+        GenericType parsed = GenericType.parse("java.util.Map<java.lang.String, java.util.List<java.lang.Long>>");
+
+        assertThat(GenericType.parse("java.util.Map<java.lang.String,java.util.List<java.lang.Long>>")).isSameAs(parsed);
+        assertThat(GenericType.of(new TypeReference<Map<String, List<Long>>>() {})).isSameAs(parsed);
+        assertThat(GenericType.of(String[].class)).isSameAs(GenericType.parse("java.lang.String[]"));
+    }
+
+    @Test
+    void rejectsMalformedSignatures() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GenericType.parse(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> GenericType.parse("java.util.List<>"));
+        assertThatIllegalArgumentException().isThrownBy(() -> GenericType.parse("java.util."));
+        assertThatIllegalArgumentException().isThrownBy(() -> GenericType.parse("java.util.List<? implements T>"));
+        assertThatIllegalArgumentException().isThrownBy(() -> GenericType.parse("java.util.List<T>>"));
+    }
+
+    @Test
+    void typeReferenceMustCaptureATypeArgument() {
+        assertThatIllegalArgumentException().isThrownBy(Raw::new);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static class Raw extends TypeReference {
+    }
+}
@@ -0,0 +1,164 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThatJar;
+
+class JarAssertTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void compatibleWhenOnlyAddingOrMovingApi() throws IOException {
+        Path oldJar = jar("old", ZipEntry.DEFLATED,
+                "public class Base {}",
+                "public class Account extends Base {"
+                        + "  public long balance; private int secret;"
+                        + "  public void audit() {} void internal() {} }");
+        Path newJar = jar("new", ZipEntry.STORED,
+                "public class Base { public long balance; public void audit() {} }",
+                "public class Account extends Base implements java.io.Serializable {"
+                        + "  public void close() {} }",
+                "public class Ledger {}");
+
+        assertThatJar(newJar).isBinaryCompatibleWith(oldJar);
+        assertThatJar(oldJar).isBinaryCompatibleWith(oldJar);
+    }
+
+    @Test
+    void reportsIncompatibleChangesGroupedByKind() throws IOException {
+        Path oldJar = jar("old", ZipEntry.DEFLATED,
+                "public class Account {"
+                        + "  public long balance; protected String owner;"
+                        + "  public Account() {} public Account(String owner) {}"
+                        + "  public void deposit(long amount) {} public int size() { return 0; }"
+                        + "  public void close() {} public static Account open() { return null; } }",
+                "public class Entity implements java.io.Serializable {}",
+                "public class Hidden {}",
+                "public class Ledger {}",
+                "public interface Store { void save(); }");
+        Path newJar = jar("new", ZipEntry.STORED,
+                "public final class Account {"
+                        + "  public int balance; protected final String owner = null;"
+                        + "  public Account() {}"
+                        + "  protected void deposit(long amount) {} public long size() { return 0; }"
+                        + "  public Account open() { return null; } }",
+                "public class Entity {}",
+                "class Hidden {}",
+                "public abstract class Store { public abstract void save(); }");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThatJar(newJar).isBinaryCompatibleWith(oldJar))
+                .withMessage(String.format("Expected %s to be binary compatible with %s but found 12 incompatible changes:%n"
+                                + "  class removed:%n"
+                                + "    com.acme.Ledger%n"
+                                + "  class less accessible:%n"
+                                + "    com.acme.Hidden is now package-private%n"
+                                + "  class changed to interface or back:%n"
+                                + "    com.acme.Store is now a class%n"
+                                + "  class now final:%n"
+                                + "    com.acme.Account%n"
+                                + "  supertype removed:%n"
+                                + "    com.acme.Entity no longer extends or implements java.io.Serializable%n"
+                                + "  constructor removed:%n"
+                                + "    public com.acme.Account(java.lang.String)%n"
+                                + "  method removed:%n"
+                                + "    public void com.acme.Account.close()%n"
+                                + "  method return type changed:%n"
+                                + "    public int com.acme.Account.size() now returns long%n"
+                                + "  method less accessible:%n"
+                                + "    public void com.acme.Account.deposit(long) is now protected%n"
+                                + "  method static modifier changed:%n"
+                                + "    public static com.acme.Account com.acme.Account.open() is no longer static%n"
+                                + "  field type changed:%n"
+                                + "    public long com.acme.Account.balance is now int%n"
+                                + "  field now final:%n"
+                                + "    protected java.lang.String com.acme.Account.owner",
+                        newJar, oldJar));
+    }
+
+    @Test
+    void collectsFailureWhenSoft() throws IOException {
+        Path oldJar = jar("old", ZipEntry.DEFLATED, "public class Ledger {}");
+        Path newJar = jar("new", ZipEntry.DEFLATED, "public class Account {}");
+
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThatJar(newJar).isBinaryCompatibleWith(oldJar);
+        softly.assertThatJar(oldJar).isBinaryCompatibleWith(oldJar);
+
+        Assertions.assertThat(softly.errorsCollected())
+                .singleElement()
+                .extracting(Throwable::getMessage)
+                .isEqualTo(String.format("Expected %s to be binary compatible with %s but found 1 incompatible change:%n"
+                        + "  class removed:%n"
+                        + "    com.acme.Ledger", newJar, oldJar));
+    }
+
+    @Test
+    void rejectsFileThatIsNotAJar() throws IOException {
+        Path notAJar = Files.write(directory.resolve("not.jar"), "not a jar".getBytes());
+
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> assertThatJar(notAJar).isBinaryCompatibleWith(notAJar))
+                .withMessage("Unable to read " + notAJar + ": not a zip archive");
+    }
+
+    /**
+     * Compiles the given sources in package {@code com.acme} into a jar, with entries compressed by the given method.
+     */
+    private Path jar(String name, int method, String... sources) throws IOException {
+        Path sourceDirectory = Files.createDirectories(directory.resolve(name + "-src/com/acme"));
+        Path classDirectory = Files.createDirectories(directory.resolve(name + "-classes"));
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-d");
+        arguments.add(classDirectory.toString());
+        for (String source : sources) {
+            String className = source.replaceFirst("^.*(class|interface) (\\w+).*$", "$2");
+            Path sourceFile = sourceDirectory.resolve(className + ".java");
+            Files.write(sourceFile, ("package com.acme; " + source).getBytes());
+            arguments.add(sourceFile.toString());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assertions.assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isZero();
+
+        Path jar = directory.resolve(name + ".jar");
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classDirectory)) {
+            classFiles = files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Path classFile : classFiles) {
+                byte[] bytes = Files.readAllBytes(classFile);
+                JarEntry entry = new JarEntry(classDirectory.relativize(classFile).toString().replace('\\', '/'));
+                entry.setMethod(method);
+                if (method == ZipEntry.STORED) {
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes);
+                    entry.setSize(bytes.length);
+                    entry.setCompressedSize(bytes.length);
+                    entry.setCrc(crc.getValue());
+                }
+                out.putNextEntry(entry);
+                out.write(bytes);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
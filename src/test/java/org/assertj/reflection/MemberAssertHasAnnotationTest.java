@@ -0,0 +1,96 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class MemberAssertHasAnnotationTest {
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface JsonProperty {
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Nullable {
+    }
+
+    @SuppressWarnings("unused")
+    private static class Subject {
+        @Nullable
+        @JsonProperty("full_name")
+        private String name;
+
+        private int count;
+
+        @Nullable
+        Subject(String name) {
+            this.name = name;
+        }
+
+        Subject() {
+        }
+
+        @JsonProperty("full_name")
+        String getName() {
+            return name;
+        }
+    }
+
+    @Test
+    void annotatedField() throws NoSuchFieldException {
+        Field field = Subject.class.getDeclaredField("name");
+
+        assertThat(field)
+                .hasAnnotation(Nullable.class)
+                .hasAnnotation(JsonProperty.class, property -> Assertions.assertThat(property.value()).isEqualTo("full_name"))
+                .hasNoAnnotation(Deprecated.class);
+        assertThat(Subject.class.getDeclaredField("count")).hasNoAnnotation(Nullable.class);
+    }
+
+    @Test
+    void annotatedMethod() throws NoSuchMethodException {
+        Method method = Subject.class.getDeclaredMethod("getName");
+
+        assertThat(method)
+                .hasAnnotation(JsonProperty.class)
+                .hasNoAnnotation(Nullable.class);
+    }
+
+    @Test
+    void annotatedConstructor() throws NoSuchMethodException {
+        assertThat(Subject.class.getDeclaredConstructor(String.class)).hasAnnotation(Nullable.class);
+        assertThat(Subject.class.getDeclaredConstructor()).hasNoAnnotation(Nullable.class);
+    }
+
+    @Test
+    void membersFromTheIndex() {
+        assertThat(Subject.class)
+                .hasDeclaredField("name", field -> field.hasAnnotation(Nullable.class))
+                .hasDeclaredMethod("getName", method -> method.hasAnnotation(JsonProperty.class));
+    }
+
+    @Test
+    void missingAnnotation() throws NoSuchFieldException {
+        Field field = Subject.class.getDeclaredField("count");
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(field).hasAnnotation(Nullable.class))
+                .withMessage("Expected private int org.assertj.reflection.MemberAssertHasAnnotationTest$Subject.count to be annotated with @org.assertj.reflection.MemberAssertHasAnnotationTest$Nullable but it is not");
+    }
+
+    @Test
+    void unexpectedAnnotation() throws NoSuchMethodException {
+        Constructor<?> constructor = Subject.class.getDeclaredConstructor(String.class);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(constructor).hasNoAnnotation(Nullable.class))
+                .withMessageStartingWith("Expected org.assertj.reflection.MemberAssertHasAnnotationTest$Subject(java.lang.String) not to be annotated with @org.assertj.reflection.MemberAssertHasAnnotationTest$Nullable but found @");
+    }
+}
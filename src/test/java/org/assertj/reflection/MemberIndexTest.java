@@ -0,0 +1,119 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberIndexTest {
+    private static class Subject implements Cloneable {
+        @Deprecated
+        private int field;
+
+        Subject() {
+        }
+
+        Subject(int field) {
+            this.field = field;
+        }
+
+        void method() {
+        }
+
+        void method(int arg) {
+        }
+
+        void method(int arg1, String arg2) {
+        }
+
+        @Override
+        protected Subject clone() throws CloneNotSupportedException {
+            return (Subject) super.clone();
+        }
+    }
+
+    private static class Unused {
+    }
+
+    @Test
+    void sameIndexIsReturnedForSameClass() {
+        assertThat(MemberIndex.of(Subject.class)).isSameAs(MemberIndex.of(Subject.class));
+    }
+
+    @Test
+    void resolvesPropertiesOnce() throws ReflectiveOperationException {
+        MemberIndex index = MemberIndex.of(Subject.class);
+
+        Property property = index.property("field", int.class);
+        assertThat(property.getField()).isEqualTo(Subject.class.getDeclaredField("field"));
+        assertThat(property.getReadMethod()).isNull();
+        assertThat(property.getWriteMethod()).isNull();
+        assertThat(index.property("field", int.class)).isSameAs(property);
+        assertThat(index.property("field", long.class).exists()).isFalse();
+        assertThat(index.property("field", int.class)).isSameAs(property);
+    }
+
+    @Test
+    void hierarchyIsComputedOnceAndMergesSupertypes() throws ReflectiveOperationException {
+        MemberIndex.Hierarchy hierarchy = MemberIndex.of(Subject.class).hierarchy();
+
+        assertThat(MemberIndex.of(Subject.class).hierarchy()).isSameAs(hierarchy);
+        assertThat(hierarchy.method("clone")).isEqualTo(Subject.class.getDeclaredMethod("clone"));
+        assertThat(hierarchy.method("hashCode")).isEqualTo(Object.class.getDeclaredMethod("hashCode"));
+        assertThat(hierarchy.method("method", int.class)).isEqualTo(Subject.class.getDeclaredMethod("method", int.class));
+        assertThat(hierarchy.field("field")).isEqualTo(Subject.class.getDeclaredField("field"));
+    }
+
+    @Test
+    void indexesAnnotationsOfTheClassAndItsMembers() throws ReflectiveOperationException {
+        Deprecated deprecated = MemberIndex.annotation(Subject.class.getDeclaredField("field"), Deprecated.class);
+
+        assertThat(deprecated).isEqualTo(Subject.class.getDeclaredField("field").getAnnotation(Deprecated.class));
+        assertThat(MemberIndex.annotation(Subject.class.getDeclaredField("field"), Deprecated.class)).isSameAs(deprecated);
+        assertThat(MemberIndex.annotation(Subject.class.getDeclaredMethod("method"), Deprecated.class)).isNull();
+        assertThat(MemberIndex.annotation(Subject.class, Deprecated.class)).isNull();
+    }
+
+    @Test
+    void findsDeclaredMembers() throws ReflectiveOperationException {
+        MemberIndex index = MemberIndex.of(Subject.class);
+
+        assertThat(index.field("field")).isEqualTo(Subject.class.getDeclaredField("field"));
+        assertThat(index.field("other")).isNull();
+
+        assertThat(index.method("method")).isEqualTo(Subject.class.getDeclaredMethod("method"));
+        assertThat(index.method("method", int.class)).isEqualTo(Subject.class.getDeclaredMethod("method", int.class));
+        assertThat(index.method("method", int.class, String.class))
+                .isEqualTo(Subject.class.getDeclaredMethod("method", int.class, String.class));
+        assertThat(index.method("method", long.class)).isNull();
+        assertThat(index.method("other")).isNull();
+        assertThat(index.methods("method")).hasSize(3);
+        assertThat(index.methods("other")).isEmpty();
+
+        assertThat(index.constructor()).isEqualTo(Subject.class.getDeclaredConstructor());
+        assertThat(index.constructor(int.class)).isEqualTo(Subject.class.getDeclaredConstructor(int.class));
+        assertThat(index.constructor(long.class)).isNull();
+    }
+
+    @Test
+    void prefersMostSpecificReturnTypeLikeGetDeclaredMethod() throws NoSuchMethodException {
+        Method method = MemberIndex.of(Subject.class).method("clone");
+
+        assertThat(method).isEqualTo(Subject.class.getDeclaredMethod("clone"));
+        assertThat(method.getReturnType()).isEqualTo(Subject.class);
+    }
+
+    @Test
+    void recordsHitsAndMisses() {
+        CacheStatistics before = CacheStatistics.ofMemberIndex();
+
+        MemberIndex.of(Unused.class);
+        MemberIndex.of(Unused.class);
+
+        CacheStatistics after = CacheStatistics.ofMemberIndex();
+        assertThat(after.misses()).isGreaterThanOrEqualTo(before.misses() + 1);
+        assertThat(after.hits()).isGreaterThanOrEqualTo(before.hits() + 1);
+        assertThat(after.hitRate()).isBetween(0.0, 1.0);
+    }
+}
@@ -0,0 +1,73 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class MethodAssertHasGenericSignatureTest {
+    @SuppressWarnings("unused")
+    private interface Repository<ID, E> {
+        E find(ID id);
+
+        Map<ID, E> findAll(Collection<? super ID> ids);
+    }
+
+    @SuppressWarnings("unused")
+    private static abstract class Subject implements Repository<Long, String> {
+        abstract <R> List<R> map(Function<? super String, ? extends R> mapper, int limit);
+    }
+
+    @Test
+    void methodWithGenericSignature() throws NoSuchMethodException {
+        Method method = Subject.class.getDeclaredMethod("map", Function.class, int.class);
+
+        assertThat(method)
+                .hasGenericReturnType("java.util.List<R>")
+                .hasGenericParameterTypes("java.util.function.Function<? super java.lang.String, ? extends R>", "int")
+                .hasGenericParameterTypes(method.getGenericParameterTypes());
+    }
+
+    @Test
+    void typeVariablesOfDeclaredMethods() throws NoSuchMethodException {
+        assertThat(Repository.class.getDeclaredMethod("findAll", Collection.class))
+                .hasGenericReturnType("java.util.Map<ID, E>")
+                .hasGenericParameterTypes("java.util.Collection<? super ID>");
+    }
+
+    @Test
+    void typeVariablesResolvedAgainstSubclass() {
+        assertThat(Subject.class)
+                .hasMethod("find", Object.class, method -> method
+                        .hasGenericReturnType(String.class)
+                        .hasGenericParameterTypes(Long.class))
+                .hasMethod("findAll", new Class<?>[]{Collection.class}, method -> method
+                        .hasGenericReturnType(new TypeReference<Map<Long, String>>() {})
+                        .hasGenericParameterTypes("java.util.Collection<? super java.lang.Long>"));
+    }
+
+    @Test
+    void methodWithDifferentGenericReturnType() throws NoSuchMethodException {
+        Method actual = Repository.class.getDeclaredMethod("findAll", Collection.class);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasGenericReturnType("java.util.Map<E, ID>"))
+                .withMessage("Expected %s to have generic return type java.util.Map<E, ID> but was java.util.Map<ID, E>", actual);
+    }
+
+    @Test
+    void methodWithDifferentGenericParameterTypes() throws NoSuchMethodException {
+        Method actual = Subject.class.getDeclaredMethod("map", Function.class, int.class);
+
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasGenericParameterTypes("java.util.function.Function<java.lang.String, R>"))
+                .withMessage("Expected %s to have generic parameter types (java.util.function.Function<java.lang.String, R>) "
+                        + "but were (java.util.function.Function<? super java.lang.String, ? extends R>, int)", actual);
+    }
+}
@@ -1,5 +1,6 @@
 package org.assertj.reflection;
 
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
@@ -38,4 +39,12 @@ class MethodAssertHasReturnTypeTest {
         Method actual = Subject.class.getDeclaredMethod("nothing");
         assertThat(actual).hasReturnType(void.class);
     }
+
+    @Test
+    void methodReturningDifferentType() throws NoSuchMethodException {
+        Method actual = Subject.class.getDeclaredMethod("complex");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasReturnType(Iterable.class))
+                .withMessage("Expected %s to have return type java.lang.Iterable but was java.util.List", actual);
+    }
 }
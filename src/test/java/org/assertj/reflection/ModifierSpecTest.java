@@ -0,0 +1,120 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.assertj.reflection.ModifierFlag.*;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ModifierSpecTest {
+    private static final ModifierSpec CONSTANT = ModifierSpec.exactly(PUBLIC, STATIC, FINAL);
+
+    @SuppressWarnings("unused")
+    private abstract static class Subject implements Comparable<Subject> {
+        public static final String CONSTANT_FIELD = "constant";
+        public static volatile int counter;
+        private transient Object cache;
+
+        protected Subject(String... names) {
+        }
+
+        public static synchronized void update(int... values) {
+        }
+
+        abstract void run();
+
+        native void nativeMethod();
+
+        @Override
+        public int compareTo(Subject other) {
+            return 0;
+        }
+    }
+
+    @Test
+    void fieldFlags() throws NoSuchFieldException {
+        assertThat(Subject.class.getDeclaredField("CONSTANT_FIELD"))
+                .hasModifiers(CONSTANT)
+                .hasModifiers(STATIC, FINAL)
+                .hasModifiers(ModifierSpec.of(VOLATILE, TRANSIENT, SYNTHETIC).negate());
+        assertThat(Subject.class.getDeclaredField("counter"))
+                .hasExactlyModifiers(PUBLIC, STATIC, VOLATILE);
+        assertThat(Subject.class.getDeclaredField("cache"))
+                .hasExactlyModifiers(PRIVATE, TRANSIENT);
+    }
+
+    @Test
+    void methodFlags() throws NoSuchMethodException {
+        assertThat(Subject.class.getDeclaredMethod("update", int[].class))
+                .hasExactlyModifiers(PUBLIC, STATIC, SYNCHRONIZED, VARARGS);
+        assertThat(Subject.class.getDeclaredMethod("run"))
+                .hasExactlyModifiers(PACKAGE_PRIVATE, ABSTRACT);
+        assertThat(Subject.class.getDeclaredMethod("nativeMethod"))
+                .hasExactlyModifiers(NATIVE);
+        assertThat(Subject.class.getDeclaredMethod("compareTo", Object.class))
+                .hasExactlyModifiers(PUBLIC, BRIDGE, SYNTHETIC);
+        assertThat(Subject.class.getDeclaredMethod("compareTo", Subject.class))
+                .hasExactlyModifiers(PUBLIC);
+    }
+
+    @Test
+    void constructorFlags() throws NoSuchMethodException {
+        assertThat(Subject.class.getDeclaredConstructor(String[].class))
+                .hasExactlyModifiers(PROTECTED, VARARGS)
+                .hasModifiers(ModifierSpec.of(STATIC).negate());
+    }
+
+    @Test
+    void sharedBitsAreInterpretedPerKind() throws NoSuchMethodException, NoSuchFieldException {
+        Method bridge = Subject.class.getDeclaredMethod("compareTo", Object.class);
+        Field counter = Subject.class.getDeclaredField("counter");
+        assertThat(bridge).hasModifiers(ModifierSpec.of(VOLATILE).negate());
+        assertThat(counter).hasModifiers(ModifierSpec.of(BRIDGE).negate());
+    }
+
+    @Test
+    void reportsAllMismatchedFlags() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("counter");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasExactlyModifiers(PRIVATE, STATIC, FINAL))
+                .withMessage(String.format("%nExpecting actual:%n  \"%s\"%nto have exactly modifiers \"private static final\""
+                        + " but was \"public static volatile\".%nMissing: private final%nUnexpected: public volatile", actual));
+    }
+
+    @Test
+    void reportsMissingFlagsOnly() throws NoSuchMethodException {
+        Constructor<?> actual = Subject.class.getDeclaredConstructor(String[].class);
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasModifiers(PUBLIC, VARARGS, STATIC))
+                .withMessage(String.format("%nExpecting actual:%n  \"%s\"%nto have modifiers \"public static varargs\""
+                        + " but was \"protected varargs\".%nMissing: public static", actual));
+    }
+
+    @Test
+    void reportsSingleFlagLikeTheModifierAssertions() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("cache");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasModifiers(STATIC))
+                .withMessage(MemberModifierShouldBe.shouldBeStatic(actual).create());
+    }
+
+    @Test
+    void exactSpecWithoutAccessLevelRequiresPackagePrivate() throws NoSuchFieldException {
+        Field actual = Subject.class.getDeclaredField("cache");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(actual).hasExactlyModifiers(TRANSIENT))
+                .withMessage(String.format("%nExpecting actual:%n  \"%s\"%nto have exactly modifiers \"package-private transient\""
+                        + " but was \"private transient\".%nUnexpected: private", actual));
+    }
+
+    @Test
+    void conflictingAccessLevels() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> ModifierSpec.of(PUBLIC, PACKAGE_PRIVATE))
+                .withMessage("Conflicting modifiers: public and package-private");
+    }
+}
@@ -0,0 +1,97 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.reflection.MemberModifierShouldBe.shouldBePrivate;
+import static org.assertj.reflection.MemberModifierShouldBe.shouldBePublic;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class PropertyAssertTest {
+    @SuppressWarnings("unused")
+    private static class Subject {
+        public String name;
+        private boolean active;
+        private Integer count;
+
+        String getName() {
+            return name;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+
+        public long getSize() {
+            return 0;
+        }
+    }
+
+    private static final String PREFIX = "property ";
+    private static final String SUBJECT = " of org.assertj.reflection.PropertyAssertTest$Subject";
+
+    @Test
+    void missingGetter() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("active", boolean.class, PropertyAssert::hasGetter))
+                .withMessage("Expected " + PREFIX + "boolean active" + SUBJECT
+                        + " to have a getter isActive() but no such method exists");
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("count", Integer.class, PropertyAssert::hasPublicGetter))
+                .withMessage("Expected " + PREFIX + "java.lang.Integer count" + SUBJECT
+                        + " to have a getter getCount() but no such method exists");
+    }
+
+    @Test
+    void missingSetter() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("name", String.class, PropertyAssert::hasPublicSetter))
+                .withMessage("Expected " + PREFIX + "java.lang.String name" + SUBJECT
+                        + " to have a setter setName(java.lang.String) but no such method exists");
+    }
+
+    @Test
+    void unexpectedSetter() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("count", Integer.class, PropertyAssert::hasNoSetter))
+                .withMessage("Expected " + PREFIX + "java.lang.Integer count" + SUBJECT + " not to have a setter but found "
+                        + "public void org.assertj.reflection.PropertyAssertTest$Subject.setCount(java.lang.Integer)");
+    }
+
+    @Test
+    void missingField() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("size", long.class, PropertyAssert::hasPrivateField))
+                .withMessage("Expected " + PREFIX + "long size" + SUBJECT
+                        + " to have a backing field size but no such field exists");
+    }
+
+    @Test
+    void accessorThatIsNotPublic() throws NoSuchMethodException {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("name", String.class, PropertyAssert::hasPublicGetter))
+                .withMessage(shouldBePublic(Subject.class.getDeclaredMethod("getName")).create());
+    }
+
+    @Test
+    void fieldThatIsNotPrivate() throws NoSuchFieldException {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(Subject.class).hasProperty("name", String.class, PropertyAssert::hasPrivateField))
+                .withMessage(shouldBePrivate(Subject.class.getDeclaredField("name")).create());
+    }
+
+    @Test
+    void collectsAllFailuresSoftly() {
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThat(Subject.class).hasProperty("name", String.class, property -> property
+                .hasPublicGetter()
+                .hasPublicSetter()
+                .hasPrivateField());
+
+        Assertions.assertThat(softly.errorsCollected()).hasSize(3);
+    }
+}
@@ -0,0 +1,44 @@
+package org.assertj.reflection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener that is registered for the tests, and records the calls made on the thread of a test that asks for them.
+ */
+public class RecordingAssertionListener implements AssertionListener {
+    private static final ThreadLocal<List<String>> CALLS = new ThreadLocal<>();
+
+    /**
+     * Runs the given action and returns the calls that were made while it ran.
+     */
+    static List<String> record(Runnable action) {
+        List<String> calls = new ArrayList<>();
+        CALLS.set(calls);
+        try {
+            action.run();
+        } finally {
+            CALLS.remove();
+        }
+        return calls;
+    }
+
+    @Override
+    public void assertionStarted(String assertion, Class<?> type, String member) {
+        List<String> calls = CALLS.get();
+        if (calls != null) {
+            calls.add(String.format("started %s %s %s",
+                    assertion, type == null ? null : type.getSimpleName(), member));
+        }
+    }
+
+    @Override
+    public void assertionFinished(String assertion, Class<?> type, String member, boolean passed, long durationNanos,
+                                  boolean cacheHit) {
+        List<String> calls = CALLS.get();
+        if (calls != null) {
+            calls.add(String.format("finished %s %s %s passed=%s cacheHit=%s",
+                    assertion, type == null ? null : type.getSimpleName(), member, passed, cacheHit));
+        }
+    }
+}
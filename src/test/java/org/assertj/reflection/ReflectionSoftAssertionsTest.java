@@ -0,0 +1,77 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.reflection.scan.PrivateFields;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+class ReflectionSoftAssertionsTest {
+
+    @Test
+    void collectsAllFailures() {
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThat(PrivateFields.class)
+                .hasDeclaredField("other")
+                .hasDeclaredMethod("toString")
+                .hasDeclaredField("name");
+
+        List<AssertionError> errors = softly.assertionErrorsCollected();
+        Assertions.assertThat(errors).extracting(AssertionError::getMessage).containsExactly(
+                "Expected org.assertj.reflection.scan.PrivateFields to have declared field other but no such field exists",
+                "Expected org.assertj.reflection.scan.PrivateFields to have declared method toString() but no such method exists");
+        Assertions.assertThat(errors).allSatisfy(error -> Assertions.assertThat(error.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void collectsFailuresOfNestedAsserts() {
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThat(PrivateFields.class)
+                .hasDeclaredField("name", field -> field.isPublic().isStatic().hasType(Integer.class));
+
+        Assertions.assertThat(softly.assertionErrorsCollected()).hasSize(3);
+    }
+
+    @Test
+    void reportsTheSameMessagesAsHardAssertions() throws NoSuchFieldException {
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThat(PrivateFields.class.getDeclaredField("name")).as("name").isPublic().hasType(Integer.class);
+
+        List<AssertionError> errors = softly.assertionErrorsCollected();
+        Assertions.assertThat(errors).hasSize(2);
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(PrivateFields.class.getDeclaredField("name")).as("name").isPublic())
+                .withMessage(errors.get(0).getMessage());
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> assertThat(PrivateFields.class.getDeclaredField("name")).as("name").hasType(Integer.class))
+                .withMessage(errors.get(1).getMessage());
+    }
+
+    @Test
+    void reportsAllFailuresOfEachClass() {
+        ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+        softly.assertThatClassesIn("org.assertj.reflection.scan")
+                .filteredOn(type -> type.getSimpleName().startsWith("Nested"))
+                .allSatisfy(type -> type.hasDeclaredField("name").hasDeclaredField("other"));
+
+        Assertions.assertThat(softly.assertionErrorsCollected())
+                .singleElement()
+                .extracting(AssertionError::getMessage)
+                .isEqualTo(String.format("Expected all 1 class to satisfy the given requirements but 1 did not:%n%n"
+                        + "org.assertj.reflection.scan.nested.NestedPrivateFields%n"
+                        + "  Expected org.assertj.reflection.scan.nested.NestedPrivateFields to have declared field name but no such field exists%n"
+                        + "  Expected org.assertj.reflection.scan.nested.NestedPrivateFields to have declared field other but no such field exists"));
+    }
+
+    @Test
+    void assertSoftlyReportsAllFailures() {
+        Assertions.assertThatExceptionOfType(AssertionError.class)
+                .isThrownBy(() -> ReflectionSoftAssertions.assertSoftly(softly -> {
+                    softly.assertThat(PrivateFields.class).hasDeclaredField("other");
+                    softly.assertThat(PrivateFields.class).hasNoDeclaredField("name");
+                }))
+                .withMessageContaining("Multiple Failures (2 failures)");
+    }
+}
@@ -0,0 +1,141 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionsTest {
+    private static class Subject {
+        private int count;
+        private int counter;
+        private String name;
+
+        Subject(int count) {
+        }
+
+        Subject(Integer count, String name) {
+        }
+
+        Subject(CharSequence name) {
+        }
+
+        void getName() {
+        }
+
+        void setName(String name) {
+        }
+
+        void setName(Object name) {
+        }
+
+        void setNames(String... names) {
+        }
+
+        void reset() {
+        }
+    }
+
+    private static Suggestions suggestions() {
+        return MemberIndex.of(Subject.class).suggestions();
+    }
+
+    @Test
+    void distanceMatchesTheDynamicProgrammingDefinition() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            String a = randomName(random, 66);
+            String b = randomName(random, 66);
+            assertThat(BkTree.distance(a, b)).as("distance(%s, %s)", a, b).isEqualTo(levenshtein(a, b));
+        }
+        assertThat(BkTree.distance("", "abc")).isEqualTo(3);
+        assertThat(BkTree.distance("nämé", "name")).isEqualTo(2);
+    }
+
+    @Test
+    void searchFindsTheSameNamesAsALinearScan() {
+        Random random = new Random(7);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            names.add(randomName(random, 12));
+        }
+        BkTree tree = new BkTree(names);
+        for (int i = 0; i < 50; i++) {
+            String query = randomName(random, 12);
+            int tolerance = 1 + random.nextInt(3);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String name : names) {
+                int distance = levenshtein(query, name);
+                if (distance <= tolerance) {
+                    expected.put(name, distance);
+                }
+            }
+            Map<String, Integer> found = new HashMap<>();
+            tree.search(query, tolerance, found::put);
+            assertThat(found).as("search(%s, %d)", query, tolerance).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void ranksMethodsByNameThenParameters() {
+        assertThat(suggestions().methods("setNme", new Class<?>[]{String.class}))
+                .containsExactly("setName(java.lang.String)", "setName(java.lang.Object)");
+        assertThat(suggestions().methods("setNamez", new Class<?>[]{String[].class}))
+                .containsExactly("setNames([Ljava.lang.String;)", "setName(java.lang.Object)",
+                        "setName(java.lang.String)");
+        assertThat(suggestions().methods("getname", null)).containsExactly("getName()");
+        assertThat(suggestions().methods("unrelated", null)).isEmpty();
+    }
+
+    @Test
+    void ranksConstructorsByParameters() {
+        assertThat(suggestions().constructors(new Class<?>[]{Integer.class}))
+                .containsExactly("Subject(int)", "Subject(java.lang.CharSequence)",
+                        "Subject(java.lang.Integer,java.lang.String)");
+        assertThat(suggestions().constructors(new Class<?>[]{String.class}))
+                .startsWith("Subject(java.lang.CharSequence)");
+    }
+
+    @Test
+    void suggestsFieldsWithinTolerance() {
+        assertThat(suggestions().fields("cont")).containsExactly("count");
+        assertThat(suggestions().fields("countr")).containsExactly("count", "counter");
+        assertThat(suggestions().fields("size")).isEmpty();
+    }
+
+    @Test
+    void formatsSuggestions() {
+        assertThat(Suggestions.didYouMean(Arrays.asList())).isEmpty();
+        assertThat(Suggestions.didYouMean(Arrays.asList("a"))).isEqualTo(", did you mean a?");
+        assertThat(Suggestions.didYouMean(Arrays.asList("a", "b", "c"))).isEqualTo(", did you mean a, b or c?");
+    }
+
+    private static String randomName(Random random, int maxLength) {
+        char[] name = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = "abcdeABé_$".charAt(random.nextInt(10));
+        }
+        return new String(name);
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] table = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0 || j == 0) {
+                    table[i][j] = i + j;
+                } else {
+                    int substitution = table[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                    table[i][j] = Math.min(substitution, Math.min(table[i - 1][j], table[i][j - 1]) + 1);
+                }
+            }
+        }
+        return table[a.length()][b.length()];
+    }
+}
@@ -0,0 +1,35 @@
+package org.assertj.reflection;
+
+/**
+ * Listener that is registered for the tests, and throws from both callbacks on the thread of a test that asks for it.
+ */
+public class ThrowingAssertionListener implements AssertionListener {
+    private static final ThreadLocal<Boolean> THROWING = new ThreadLocal<>();
+
+    /**
+     * Runs the given action while this listener throws.
+     */
+    static void throwing(Runnable action) {
+        THROWING.set(true);
+        try {
+            action.run();
+        } finally {
+            THROWING.remove();
+        }
+    }
+
+    @Override
+    public void assertionStarted(String assertion, Class<?> type, String member) {
+        if (THROWING.get() != null) {
+            throw new IllegalStateException("assertionStarted");
+        }
+    }
+
+    @Override
+    public void assertionFinished(String assertion, Class<?> type, String member, boolean passed, long durationNanos,
+                                  boolean cacheHit) {
+        if (THROWING.get() != null) {
+            throw new AssertionError("assertionFinished");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.assertj.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeHierarchyTest {
+    private static final List<Class<?>> TYPES = Arrays.asList(Object.class, String.class, CharSequence.class,
+            Comparable.class, Serializable.class, Number.class, Integer.class, Long.class, Exception.class,
+            RuntimeException.class, IllegalArgumentException.class, IOException.class, AutoCloseable.class,
+            InputStream.class, Iterable.class, java.util.Collection.class, List.class, ArrayList.class,
+            java.util.LinkedList.class, java.util.Deque.class, java.util.Queue.class, java.util.Map.class,
+            java.util.SortedMap.class, java.util.NavigableMap.class, java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class, ConcurrentSkipListMap.class, java.util.HashMap.class,
+            java.util.LinkedHashMap.class, java.util.TreeMap.class, Cloneable.class, Runnable.class, Thread.class);
+
+    @Test
+    void agreesWithIsAssignableFrom() {
+        for (Class<?> type : TYPES) {
+            for (Class<?> supertype : TYPES) {
+                assertThat(TypeHierarchy.isSubtype(type, supertype))
+                        .as("%s is a subtype of %s", type.getName(), supertype.getName())
+                        .isEqualTo(supertype.isAssignableFrom(type));
+            }
+        }
+    }
+
+    @Test
+    void supertypesAreSeenFirst() {
+        TypeHierarchy hierarchy = TypeHierarchy.of(ConcurrentSkipListMap.class);
+
+        assertThat(TypeHierarchy.of(ConcurrentSkipListMap.class)).isSameAs(hierarchy);
+        assertThat(Arrays.stream(ConcurrentSkipListMap.class.getInterfaces()).map(TypeHierarchy::of).collect(Collectors.toList()))
+                .allSatisfy(supertype -> assertThat(supertype.id()).isLessThan(hierarchy.id()));
+    }
+}
@@ -0,0 +1,189 @@
+package org.assertj.reflection;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.reflection.scan.PrivateFields;
+import org.assertj.reflection.scan.PublicFields;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.reflection.ModifierFlag.PRIVATE;
+import static org.assertj.reflection.ModifierFlag.PUBLIC;
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+import static org.assertj.reflection.ReflectionAssertions.assertThatClassesIn;
+
+class VerificationCacheTest {
+    private static final ClassSpec PRIVATE_FIELDS = ClassSpec.builder().fields(ModifierSpec.of(PRIVATE)).build();
+    private static final ClassSpec PUBLIC_CONSTRUCTOR = ClassSpec.builder().constructor(ModifierSpec.of(PUBLIC)).build();
+    private static final int JVMS = 4;
+    private static final int ENTRIES_PER_JVM = 1000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void skipsClassesThatSatisfiedTheSameSpecBefore() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            Assertions.assertThat(cache.statistics().misses()).isEqualTo(1);
+        }
+        Assertions.assertThat(Files.size(file)).isEqualTo(8 + 16);
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PUBLIC_CONSTRUCTOR);
+            Assertions.assertThat(cache.statistics().hits()).isEqualTo(1);
+            Assertions.assertThat(cache.statistics().misses()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void doesNotCacheFailures() throws IOException {
+        try (VerificationCache cache = VerificationCache.open(directory.resolve("verification.cache"))) {
+            for (int i = 0; i < 2; i++) {
+                Assertions.assertThatExceptionOfType(AssertionError.class)
+                        .isThrownBy(() -> assertThat(PublicFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS));
+            }
+            Assertions.assertThat(cache.statistics().hits()).isZero();
+        }
+    }
+
+    @Test
+    void appliesToClassSets() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        for (int run = 0; run < 2; run++) {
+            try (VerificationCache cache = VerificationCache.open(file)) {
+                assertThatClassesIn("org.assertj.reflection.scan")
+                        .usingCache(cache)
+                        .filteredOn(type -> type != PublicFields.class)
+                        .allSatisfy(PRIVATE_FIELDS);
+                Assertions.assertThat(cache.statistics().hits()).isEqualTo(run == 0 ? 0 : 2);
+            }
+        }
+    }
+
+    @Test
+    void sharesTheFileBetweenOpenCaches() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        try (VerificationCache first = VerificationCache.open(file);
+             VerificationCache second = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(first).satisfies(PRIVATE_FIELDS);
+            assertThat(PublicFields.class).usingCache(second).satisfies(PUBLIC_CONSTRUCTOR);
+        }
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            assertThat(PublicFields.class).usingCache(cache).satisfies(PUBLIC_CONSTRUCTOR);
+            Assertions.assertThat(cache.statistics().hits()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void ignoresPartiallyWrittenEntries() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+        }
+        Files.write(file, new byte[5], StandardOpenOption.APPEND);
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            Assertions.assertThat(cache.statistics().hits()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void readsEntriesAppendedAfterAPartiallyWrittenOne() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+        }
+        Files.write(file, new byte[5], StandardOpenOption.APPEND);
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PublicFields.class).usingCache(cache).satisfies(PUBLIC_CONSTRUCTOR);
+        }
+        Assertions.assertThat(Files.size(file)).isEqualTo(8 + 2 * 16);
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            assertThat(PublicFields.class).usingCache(cache).satisfies(PUBLIC_CONSTRUCTOR);
+            Assertions.assertThat(cache.statistics().hits()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void sharesTheFileBetweenJvms() throws IOException, InterruptedException {
+        Path file = directory.resolve("verification.cache");
+        List<Process> processes = new ArrayList<>();
+        for (int jvm = 0; jvm < JVMS; jvm++) {
+            processes.add(new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), Appender.class.getName(), file.toString(),
+                    String.valueOf(jvm))
+                    .inheritIO()
+                    .start());
+        }
+        for (Process process : processes) {
+            Assertions.assertThat(process.waitFor()).isZero();
+        }
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            Assertions.assertThat(Files.size(file)).isEqualTo(8 + JVMS * ENTRIES_PER_JVM * 16);
+            for (int jvm = 0; jvm < JVMS; jvm++) {
+                for (int entry = 0; entry < ENTRIES_PER_JVM; entry++) {
+                    Assertions.assertThat(cache.contains(new VerificationCache.Key(jvm, entry))).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void clearsIncompatibleFiles() throws IOException {
+        Path file = directory.resolve("verification.cache");
+        Files.write(file, "not a verification cache".getBytes());
+
+        try (VerificationCache cache = VerificationCache.open(file)) {
+            assertThat(PrivateFields.class).usingCache(cache).satisfies(PRIVATE_FIELDS);
+            Assertions.assertThat(cache.statistics().misses()).isEqualTo(1);
+        }
+        Assertions.assertThat(Files.size(file)).isEqualTo(8 + 16);
+    }
+
+    /**
+     * Adds the entries of the JVM with the given number to the cache in the given file, opening the cache again and
+     * again, as the forked JVMs of a build would. After each batch, it also leaves a partially written entry, as a JVM
+     * that was killed would, though short enough that those of all JVMs together are shorter than an entry.
+     */
+    static final class Appender {
+        public static void main(String[] args) throws IOException {
+            Path file = Paths.get(args[0]);
+            int jvm = Integer.parseInt(args[1]);
+            for (int entry = 0; entry < ENTRIES_PER_JVM; ) {
+                try (VerificationCache cache = VerificationCache.open(file)) {
+                    for (int end = entry + 10; entry < end; entry++) {
+                        cache.add(new VerificationCache.Key(jvm, entry));
+                    }
+                }
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+                    FileLock lock = channel.lock();
+                    try {
+                        channel.write(ByteBuffer.allocate(3));
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+        }
+    }
+}
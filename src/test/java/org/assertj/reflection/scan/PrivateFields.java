@@ -0,0 +1,5 @@
+package org.assertj.reflection.scan;
+
+public class PrivateFields {
+    private String name;
+}
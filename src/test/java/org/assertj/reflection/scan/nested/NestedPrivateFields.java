@@ -0,0 +1,5 @@
+package org.assertj.reflection.scan.nested;
+
+public class NestedPrivateFields {
+    private int count;
+}
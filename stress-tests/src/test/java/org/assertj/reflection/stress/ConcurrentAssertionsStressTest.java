@@ -0,0 +1,80 @@
+package org.assertj.reflection.stress;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same assertions from many threads at the same time, on classes that were just loaded, and checks that every
+ * thread sees the same outcomes as a single thread does.
+ */
+class ConcurrentAssertionsStressTest {
+    private static final int ROUNDS = Integer.getInteger("stress.rounds", 200);
+    private static final int THREADS = Integer.getInteger("stress.threads", 0) > 0
+            ? Integer.getInteger("stress.threads")
+            : Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final Scenario SCENARIO = new Scenario();
+    private static List<String> expected;
+
+    @BeforeAll
+    static void runScenarioOnOneThread() {
+        expected = SCENARIO.run(IsolatingClassLoader.freshFixture("Customer"), 0);
+        assertThat(expected).contains("ok").anyMatch(outcome -> !outcome.equals("ok"));
+    }
+
+    @Test
+    void concurrentAssertionsOnNewClassesAgreeWithOneThread() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Class<?> customer = IsolatingClassLoader.freshFixture("Customer");
+                CyclicBarrier start = new CyclicBarrier(THREADS);
+                List<Future<List<String>>> results = new ArrayList<>();
+                for (int thread = 0; thread < THREADS; thread++) {
+                    int first = thread % SCENARIO.size();
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return SCENARIO.run(customer, first);
+                    }));
+                }
+                for (Future<List<String>> result : results) {
+                    assertThat(result.get()).as("outcomes in round %d", round).isEqualTo(expected);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentAssertionsOnSharedClassesAgreeWithOneThread() throws Exception {
+        Class<?> customer = IsolatingClassLoader.freshFixture("Customer");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int first = thread % SCENARIO.size();
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        assertThat(SCENARIO.run(customer, first + round)).isEqualTo(expected);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
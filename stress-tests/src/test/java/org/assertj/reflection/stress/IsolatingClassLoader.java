@@ -0,0 +1,57 @@
+package org.assertj.reflection.stress;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the fixtures itself instead of delegating to its parent, so that every instance defines new {@link Class}
+ * objects for them, for which no assertion has built any caches yet.
+ */
+final class IsolatingClassLoader extends ClassLoader {
+    private static final String FIXTURES = "org.assertj.reflection.stress.fixtures.";
+
+    IsolatingClassLoader() {
+        super(IsolatingClassLoader.class.getClassLoader());
+    }
+
+    static Class<?> freshFixture(String simpleName) {
+        try {
+            return Class.forName(FIXTURES + simpleName, false, new IsolatingClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(FIXTURES)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                byte[] bytes = classFile(name);
+                loaded = defineClass(name, bytes, 0, bytes.length);
+            }
+            return loaded;
+        }
+    }
+
+    private byte[] classFile(String name) throws ClassNotFoundException {
+        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (in == null) {
+                throw new ClassNotFoundException(name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+    }
+}
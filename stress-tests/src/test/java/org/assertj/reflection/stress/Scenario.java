@@ -0,0 +1,93 @@
+package org.assertj.reflection.stress;
+
+import org.assertj.reflection.ClassSpec;
+import org.assertj.reflection.FieldAssert;
+import org.assertj.reflection.MethodAssert;
+import org.assertj.reflection.ModifierFlag;
+import org.assertj.reflection.ModifierSpec;
+import org.assertj.reflection.PropertyAssert;
+import org.assertj.reflection.ReflectionSoftAssertions;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.reflection.ReflectionAssertions.assertThat;
+
+/**
+ * A fixed set of passing and failing assertions on the {@code Customer} fixture, covering the caches behind
+ * {@code ClassAssert}, {@code FieldAssert} and {@code MethodAssert}. The outcome of each check is either {@code "ok"}
+ * or the message of its failure, which must be the same no matter how many threads run the checks at the same time.
+ */
+final class Scenario {
+    private static final ClassSpec BEAN = ClassSpec.builder()
+            .fields(ModifierSpec.of(ModifierFlag.PRIVATE))
+            .accessors(ModifierSpec.exactly(ModifierFlag.PUBLIC))
+            .build();
+
+    private final List<Consumer<Class<?>>> checks = Arrays.asList(
+            customer -> assertThat(customer)
+                    .hasDeclaredField("tags", field -> field.isPrivate().hasGenericType("java.util.List<java.lang.String>"))
+                    .hasDeclaredField("orders", FieldAssert::isNotStatic),
+            customer -> assertThat(customer)
+                    .hasMethod("getId", method -> method.isPublic().hasGenericReturnType("java.lang.Long"))
+                    .hasMethod("setId", Serializable.class, method -> method.hasGenericParameterTypes("java.lang.Long")),
+            customer -> assertThat(customer).hasField("id", field -> field.isProtected().hasGenericType(Long.class)),
+            customer -> assertThat(customer).hasProperty("name", String.class, PropertyAssert::hasPublicSetter),
+            customer -> assertThat(customer).hasAnnotation(fixture(customer, "Audited").asSubclass(Annotation.class)),
+            customer -> assertThat(fixture(customer, "AbstractEntity")).hasAnnotation(Deprecated.class),
+            customer -> assertThat(customer)
+                    .isSubtypeOf(fixture(customer, "Identifiable"))
+                    .implementsInterface(Comparable.class)
+                    .isNotSubtypeOf(Runnable.class),
+            customer -> assertThat(customer).isSubtypeOf(Runnable.class),
+            customer -> assertThat(customer).satisfies(BEAN),
+            customer -> assertThat(fixture(customer, "AbstractEntity")).satisfies(BEAN),
+            customer -> assertThat(customer).hasDeclaredMethod("compareTo", customer, MethodAssert::isPublic),
+            customer -> assertThat(customer).hasDeclaredMethod("getOrders", method -> method
+                    .hasGenericReturnType("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>")),
+            customer -> assertThat(customer).hasNoMethod("getId"),
+            customer -> {
+                ReflectionSoftAssertions softly = new ReflectionSoftAssertions();
+                softly.assertThat(customer)
+                        .hasDeclaredField("missing")
+                        .hasMethod("getTags", MethodAssert::isStatic)
+                        .hasProperty("orders", String.class);
+                softly.assertAll();
+            });
+
+    private static Class<?> fixture(Class<?> customer, String simpleName) {
+        try {
+            return Class.forName(customer.getPackage().getName() + "." + simpleName, false, customer.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int size() {
+        return checks.size();
+    }
+
+    /**
+     * Runs all checks, starting at the given check so that different threads build different caches first.
+     *
+     * @return The outcomes, in the order of the checks.
+     */
+    List<String> run(Class<?> customer, int first) {
+        String[] outcomes = new String[checks.size()];
+        for (int i = 0; i < outcomes.length; i++) {
+            int check = (first + i) % outcomes.length;
+            try {
+                checks.get(check).accept(customer);
+                outcomes[check] = "ok";
+            } catch (AssertionError e) {
+                outcomes[check] = e.getMessage();
+            }
+        }
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(outcomes)));
+    }
+}
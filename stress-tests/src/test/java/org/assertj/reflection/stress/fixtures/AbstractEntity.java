@@ -0,0 +1,16 @@
+package org.assertj.reflection.stress.fixtures;
+
+import java.io.Serializable;
+
+public abstract class AbstractEntity<ID extends Serializable> implements Identifiable<ID>, Serializable {
+    protected ID id;
+
+    @Override
+    public ID getId() {
+        return id;
+    }
+
+    public void setId(ID id) {
+        this.id = id;
+    }
+}
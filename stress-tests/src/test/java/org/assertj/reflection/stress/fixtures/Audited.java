@@ -0,0 +1,11 @@
+package org.assertj.reflection.stress.fixtures;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+    String value();
+}
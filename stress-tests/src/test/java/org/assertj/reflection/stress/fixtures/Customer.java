@@ -0,0 +1,40 @@
+package org.assertj.reflection.stress.fixtures;
+
+import java.util.List;
+import java.util.Map;
+
+@Audited("customers")
+public class Customer extends AbstractEntity<Long> implements Comparable<Customer> {
+    private String name;
+    private List<String> tags;
+    private Map<String, List<Long>> orders;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, List<Long>> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(Map<String, List<Long>> orders) {
+        this.orders = orders;
+    }
+
+    @Override
+    public int compareTo(Customer other) {
+        return name.compareTo(other.name);
+    }
+}
@@ -0,0 +1,5 @@
+package org.assertj.reflection.stress.fixtures;
+
+public interface Identifiable<ID> {
+    ID getId();
+}